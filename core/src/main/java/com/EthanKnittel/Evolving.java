@@ -10,7 +10,7 @@ package com.EthanKnittel;
  * <p>
  * Exemples d'implémentations :
  * <ul>
- * <li>{@link com.EthanKnittel.entities.Entity} (et donc Joueur, Ennemis, Projectiles)</li>
+ * <li>{@link com.EthanKnittel.entities.Entity} (et donc Joueur, Ennemis, Murs)</li>
  * <li>{@link com.EthanKnittel.score.ScoreManager} (pour compter le temps de survie)</li>
  * <li>{@link com.EthanKnittel.world.systems.Environment} (pour gérer le monde entier)</li>
  * </ul>
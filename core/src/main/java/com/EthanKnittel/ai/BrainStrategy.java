@@ -83,6 +83,18 @@ public class BrainStrategy implements EnemyStrategy {
         return 0;
     }
 
+    /**
+     * Le cerveau doit percevoir la cible aussi loin que sa stratégie la plus exigeante.
+     */
+    @Override
+    public float getDetectionRadius() {
+        float radius = 0f;
+        for (EnemyStrategy s : knownStrategies) {
+            radius = Math.max(radius, s.getDetectionRadius());
+        }
+        return radius;
+    }
+
     /**
      * Délègue la décision de séparation physique à la stratégie active.
      * <p>
@@ -52,11 +52,10 @@ public class ChaseStrategy implements EnemyStrategy {
         Player target = foe.getTarget();
         if (target == null) return false;
 
-        float distance = foe.getPosition().dst(target.getPosition());
-        boolean isCloseEnough = distance < detectionRadius;
-
-        // On vérifie la vue réelle (Raycast pour voir s'il y a des murs)
-        boolean canSee = foe.hasLineOfSight(target);
+        // Distance et vue réelle (Raycast) mesurées par la passe de perception du tick
+        FoeSensor sensor = foe.getSensor();
+        boolean isCloseEnough = sensor.getDistanceToTarget() < detectionRadius;
+        boolean canSee = sensor.getHasLineOfSight();
 
         // Cas 1 : Contact visuel direct et à portée
         if (isCloseEnough && canSee) {
@@ -73,6 +72,11 @@ public class ChaseStrategy implements EnemyStrategy {
         return false;
     }
 
+    @Override
+    public float getDetectionRadius() {
+        return detectionRadius;
+    }
+
     /**
      * La chasse est prioritaire sur la patrouille (50 vs 10).
      */
@@ -99,7 +103,8 @@ public class ChaseStrategy implements EnemyStrategy {
 
         // --- GESTION DU TIMER DE MÉMOIRE ---
         // Si la ligne de vue est coupée, la mémoire s'estompe
-        if (!foe.hasLineOfSight(target)) {
+        // (même mesure que dans shouldExecute : aucun nouveau lancer de rayon)
+        if (!foe.getSensor().getHasLineOfSight()) {
             memoryTimer -= deltaTime;
         } else {
             // Si on le voit, on rafraîchit la mémoire
@@ -60,4 +60,17 @@ public interface EnemyStrategy {
      * @return Un entier représentant l'importance de la stratégie (ex: 50 pour Chasse, 10 pour Patrouille).
      */
     int getPriority();
+
+    /**
+     * Distance à laquelle cette stratégie a besoin de percevoir la cible (distance et ligne de vue).
+     * <p>
+     * Le {@link com.EthanKnittel.world.systems.PerceptionSystem} rafraîchit à chaque tick les ennemis
+     * situés dans ce rayon autour de leur cible, et les autres moins souvent.
+     * </p>
+     *
+     * @return Le rayon de détection (0 = la stratégie n'utilise pas la perception, ex: Patrouille).
+     */
+    default float getDetectionRadius() {
+        return 0f;
+    }
 }
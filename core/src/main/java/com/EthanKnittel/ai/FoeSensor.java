@@ -0,0 +1,56 @@
+package com.EthanKnittel.ai;
+
+/**
+ * Ce que l'ennemi "perçoit" de sa cible : la dernière mesure de distance et de ligne de vue.
+ * <p>
+ * La fiche est remplie par le {@link com.EthanKnittel.world.systems.PerceptionSystem} une fois par tick
+ * (ou moins souvent pour les ennemis éloignés), et les {@link EnemyStrategy} se contentent de la lire.
+ * Une même stratégie peut donc consulter la ligne de vue plusieurs fois dans un tick sans relancer de rayon.
+ * </p>
+ */
+public class FoeSensor {
+
+    /** Tick de la dernière mesure (-1 = jamais mesuré). */
+    private int tick = -1;
+
+    /** Distance entre l'ennemi et sa cible (positions, en unités monde). */
+    private float distanceToTarget = Float.MAX_VALUE;
+
+    /** Vrai si aucun obstacle ne coupait la ligne entre l'ennemi et sa cible. */
+    private boolean lineOfSight = false;
+
+    /**
+     * Enregistre une nouvelle mesure.
+     *
+     * @param tick             Numéro du tick de perception (-1 = mesure ponctuelle, refaite au prochain accès).
+     * @param distanceToTarget Distance à la cible.
+     * @param lineOfSight      Résultat du lancer de rayon.
+     */
+    public void record(int tick, float distanceToTarget, boolean lineOfSight) {
+        this.tick = tick;
+        this.distanceToTarget = distanceToTarget;
+        this.lineOfSight = lineOfSight;
+    }
+
+    /** Oublie la mesure : elle sera refaite au prochain accès. */
+    public void invalidate() {
+        tick = -1;
+    }
+
+    /** @return {@code true} si la fiche contient une mesure datée d'un tick de perception. */
+    public boolean getIsValid() {
+        return tick >= 0;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    public float getDistanceToTarget() {
+        return distanceToTarget;
+    }
+
+    public boolean getHasLineOfSight() {
+        return lineOfSight;
+    }
+}
@@ -1,9 +1,10 @@
 package com.EthanKnittel.ai;
 
 import com.EthanKnittel.entities.agents.Foe;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 
+import java.util.Random;
+
 /**
  * Stratégie de Patrouille (Comportement "Idle" ou par défaut).
  * <p>
@@ -14,6 +15,10 @@ import com.badlogic.gdx.math.Vector2;
  * si deux ennemis se touchent pendant une patrouille, ils changent de direction
  * pour éviter de rester collés indéfiniment.
  * </p>
+ * <p>
+ * Les tirages utilisent le générateur propre à l'ennemi ({@link Foe#getRandom()}) : la patrouille
+ * reste reproductible quand les ennemis réfléchissent en parallèle.
+ * </p>
  */
 public class PatrolStrategy implements EnemyStrategy {
     private float timer = 0f;     // Timer accumulé pour savoir quand changer d'avis
@@ -26,6 +31,7 @@ public class PatrolStrategy implements EnemyStrategy {
     public Vector2 calculateMove(Foe foe, float deltaTime) {
         output.set(0, 0); // Reset du vecteur de mouvement
         timer += deltaTime;
+        Random random = foe.getRandom();
 
         // --- LOGIQUE DE CHANGEMENT D'ÉTAT ---
         // On change de direction si l'une des 3 conditions est remplie :
@@ -40,20 +46,20 @@ public class PatrolStrategy implements EnemyStrategy {
             // CAS SPÉCIAL : Collision avec un allié (Bumping)
             if (foe.getTouchingAlly() && timer != 0) {
                 // On force un nouveau choix aléatoire pour se séparer
-                pickRandomDirection();
+                pickRandomDirection(random);
                 // ASTUCE : On met le timer à une valeur NÉGATIVE aléatoire (-0.5s à -1.5s).
                 // Cela force cet ennemi à garder sa nouvelle direction plus longtemps que prévu,
                 // ce qui "désynchronise" son rythme par rapport à celui qu'il vient de toucher.
-                timer = -MathUtils.random(0.5f, 1.5f);
+                timer = -(0.5f + random.nextFloat());
 
             } else {
                 // Changement naturel ou mur : on choisit juste une nouvelle direction
-                pickRandomDirection();
+                pickRandomDirection(random);
                 timer = 0f; // On reset le timer normalement
             }
 
             // On définit quand aura lieu le prochain changement naturel (entre 2 et 5 sec)
-            changeMove = MathUtils.random(2f, 5f);
+            changeMove = 2f + random.nextFloat() * 3f;
         }
 
         // --- APPLICATION DU MOUVEMENT ---
@@ -65,8 +71,8 @@ public class PatrolStrategy implements EnemyStrategy {
     /**
      * Helper pour choisir une direction aléatoire parmi : Gauche, Droite, Stop.
      */
-    private void pickRandomDirection() {
-        int choice = MathUtils.random(2); // Retourne 0, 1 ou 2
+    private void pickRandomDirection(Random random) {
+        int choice = random.nextInt(3); // Retourne 0, 1 ou 2
         if (choice == 0){
             currentDirection = -1; // Gauche
         }  else if (choice == 1){
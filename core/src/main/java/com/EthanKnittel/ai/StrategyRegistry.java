@@ -59,6 +59,15 @@ public class StrategyRegistry {
         return listeNoms.contains(name, false);
     }
 
+    /**
+     * Renvoie les noms de toutes les stratégies connues (dans l'ordre d'enregistrement).
+     *
+     * @return La liste des noms (à ne pas modifier).
+     */
+    public static Array<String> getAllNames() {
+        return listeNoms;
+    }
+
     /**
      * Crée une nouvelle instance de stratégie à partir de son nom (Factory Method).
      * <p>
@@ -0,0 +1,416 @@
+package com.EthanKnittel.assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetErrorListener;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+
+/**
+ * Cache partagé des ressources graphiques (Textures, Atlas), avec compteur de références.
+ * <p>
+ * Auparavant, chaque vue chargeait son propre atlas depuis le disque : une vague de 15 Cactus
+ * chargeait 15 fois le même fichier et en gardait 15 copies en mémoire vidéo.
+ * Ici, une ressource n'est chargée qu'une fois par chemin :
+ * <ol>
+ * <li>{@link #acquire} : charge la ressource au premier appel (échec du cache), sinon renvoie celle déjà en mémoire
+ * (succès du cache). Dans les deux cas, son compteur de références augmente.</li>
+ * <li>{@link #release} : diminue le compteur. Quand plus personne ne l'utilise, la ressource est libérée.</li>
+ * </ol>
+ * Le cache compte les références par chemin ; l'{@link AssetManager} de LibGDX charge, libère et gère les dépendances
+ * (ex: les pages d'un atlas, les tilesets partagés par plusieurs cartes).
+ * </p>
+ * <p>
+ * Les animations découpées dans un atlas sont elles aussi partagées ({@link #getAnimation}) :
+ * toutes les vues d'un même type lisent les mêmes objets {@link Animation}.
+ * </p>
+ * <p>
+ * Statistiques : succès, échecs et mémoire vidéo occupée (estimée à 4 octets par pixel) par les ressources chargées.
+ * </p>
+ * <p>
+ * <b>Chargement en arrière-plan :</b> {@link #acquireAsync} met une ressource en file sans bloquer.
+ * Le décodage (fichiers, images) se fait sur le thread de l'{@link AssetManager} ; seul l'envoi des textures
+ * à la carte graphique reste sur le thread de rendu, réparti sur plusieurs frames par {@link #update(int)}.
+ * Les cartes Tiled ({@link TiledMap}) passent aussi par le cache : leurs tilesets sont partagés entre niveaux.
+ * </p>
+ * <p>
+ * <b>Erreurs :</b> une ressource (ou une de ses dépendances) qui ne peut pas être chargée est abandonnée par l'AssetManager,
+ * sans bloquer le reste de la file. Le cache retient l'erreur ({@link #getLoadError}) ; la prochaine demande
+ * de la ressource relance son chargement, et les attentes bloquantes lèvent l'erreur au lieu d'attendre sans fin.
+ * </p>
+ */
+public class AssetCache implements Disposable {
+
+    /**
+     * Instance statique globale (Singleton simplifié), comme l'{@link com.EthanKnittel.audio.AudioManager}.
+     */
+    public static AssetCache instance;
+
+    /** Le gestionnaire de LibGDX qui charge, compte et libère les ressources. */
+    private final AssetManager manager;
+
+    /** Nombre de références prises sur chaque ressource (chargée ou en file), rangé par chemin. */
+    private final ObjectIntMap<String> referenceCounts = new ObjectIntMap<>();
+
+    /** Type de chaque ressource référencée (pour relancer un chargement qui a échoué), rangé par chemin. */
+    private final ObjectMap<String, Class<?>> types = new ObjectMap<>();
+
+    /** Erreur du dernier chargement des ressources abandonnées par l'AssetManager, rangée par chemin. */
+    private final ObjectMap<String, Throwable> loadErrors = new ObjectMap<>();
+
+    /** Mémoire estimée (en octets) de chaque ressource chargée, rangée par chemin. */
+    private final ObjectIntMap<String> residentBytes = new ObjectIntMap<>();
+
+    /** Animations partagées, rangées par chemin d'atlas puis par clé (région, durée, mode). */
+    private final ObjectMap<String, ObjectMap<String, Animation<TextureRegion>>> animations = new ObjectMap<>();
+
+    // --- STATISTIQUES ---
+    private int hits = 0;
+    private int misses = 0;
+    private long totalResidentBytes = 0;
+
+    private AssetCache() {
+        manager = new AssetManager();
+        // Les cartes .tmx ne sont pas connues de l'AssetManager par défaut
+        manager.setLoader(TiledMap.class, new TmxMapLoader(new InternalFileHandleResolver()));
+        // Sans écouteur, une erreur est levée par update() chez celui qui fait avancer la file, quel que soit le fichier fautif
+        manager.setErrorListener(new LoadErrorListener());
+    }
+
+    /**
+     * Reçoit les erreurs de l'AssetManager (sur le thread de rendu, pendant un {@code update()}).
+     * <p>
+     * Le fichier fautif peut être une dépendance (ex: l'image d'un atlas) : l'erreur est donc retenue pour chaque ressource
+     * référencée que l'AssetManager vient d'abandonner (ni chargée, ni en file).
+     * </p>
+     */
+    private final class LoadErrorListener implements AssetErrorListener {
+        @Override
+        public void error(AssetDescriptor asset, Throwable throwable) {
+            Gdx.app.error("AssetCache", "Chargement impossible : " + asset.fileName, throwable);
+            for (ObjectIntMap.Entry<String> entry : referenceCounts) {
+                if (!manager.contains(entry.key)) {
+                    loadErrors.put(entry.key, throwable);
+                }
+            }
+        }
+    }
+
+    public static AssetCache getInstance() {
+        if (AssetCache.instance == null) {
+            instance = new AssetCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Prend une référence sur une ressource, en la chargeant si elle n'est pas encore en mémoire.
+     * <p>
+     * Chaque appel réussi doit être suivi, plus tard, d'un appel à {@link #release(String)} avec le même chemin.
+     * Si le chargement échoue, la référence est annulée : il n'y a rien à rendre.
+     * </p>
+     *
+     * @param path Chemin interne du fichier (ex: "Ennemies/cactus/Cactus.atlas").
+     * @param type Le type de ressource (ex: {@code TextureAtlas.class}).
+     * @return La ressource partagée (à ne pas libérer soi-même).
+     * @throws com.badlogic.gdx.utils.GdxRuntimeException si la ressource ne peut pas être chargée.
+     */
+    public <T> T acquire(String path, Class<T> type) {
+        takeReference(path, type);
+        try {
+            // Déjà chargée : retour immédiat. Sinon (ou encore en file) : chargement immédiat (bloquant).
+            waitFor(path);
+            return get(path, type);
+        } catch (RuntimeException e) {
+            // Échec : l'appelant n'aura rien à rendre, on annule donc sa référence
+            release(path);
+            throw e;
+        }
+    }
+
+    /**
+     * Prend une référence sur une ressource sans attendre son chargement.
+     * <p>
+     * La ressource est disponible quand {@link #isLoaded(String)} renvoie {@code true} (en appelant {@link #update(int)}
+     * à chaque frame d'ici là) ; on la récupère alors avec {@link #get}. Comme pour {@link #acquire},
+     * la référence se rend avec {@link #release(String)}, même si le chargement n'est pas terminé.
+     * </p>
+     *
+     * @param path Chemin interne du fichier (ex: "TiledLevels/4.tmx").
+     * @param type Le type de ressource (ex: {@code TiledMap.class}).
+     */
+    public <T> void acquireAsync(String path, Class<T> type) {
+        takeReference(path, type);
+    }
+
+    /**
+     * Compte une référence de plus, et met la ressource en file de chargement à la première.
+     * <p>
+     * Le compte est tenu ici plutôt que par l'{@link AssetManager} : celui-ci n'augmente son propre compteur
+     * qu'au prochain {@code update()}, ce qui laissait une libération intermédiaire décharger une ressource encore utilisée.
+     * L'AssetManager ne voit donc qu'une référence par chemin (plus celles des dépendances partagées, ex: les tilesets).
+     * </p>
+     */
+    private <T> void takeReference(String path, Class<T> type) {
+        int references = referenceCounts.get(path, 0);
+        if (references > 0 && manager.contains(path)) {
+            hits++;
+        } else {
+            // Première référence, ou chargement précédent abandonné sur une erreur : on (re)met la ressource en file
+            misses++;
+            loadErrors.remove(path);
+            manager.load(path, type);
+        }
+        types.put(path, type);
+        referenceCounts.put(path, references + 1);
+    }
+
+    /**
+     * Attend (de façon bloquante) qu'une ressource en file soit chargée.
+     * <p>
+     * Remplace {@code AssetManager.finishLoadingAsset}, qui attend sans fin une ressource abandonnée sur une erreur.
+     * </p>
+     *
+     * @throws GdxRuntimeException si la ressource n'est ni chargée ni en file (son chargement a échoué).
+     */
+    private void waitFor(String path) {
+        while (!manager.isLoaded(path)) {
+            if (!manager.contains(path)) {
+                throw new GdxRuntimeException("Chargement impossible : " + path, loadErrors.get(path));
+            }
+            manager.update();
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Fait avancer les chargements en attente, sans dépasser (sauf pour une seule étape indivisible) la durée donnée.
+     * <p>
+     * À appeler sur le thread de rendu : c'est ici que les textures décodées sont envoyées à la carte graphique.
+     * </p>
+     *
+     * @param millis Budget de temps de la frame (en millisecondes).
+     * @return {@code true} si plus rien n'est en attente.
+     */
+    public boolean update(int millis) {
+        return manager.update(millis);
+    }
+
+    /**
+     * @return {@code true} si la ressource est chargée et prête à être lue avec {@link #get}.
+     */
+    public boolean isLoaded(String path) {
+        return manager.isLoaded(path);
+    }
+
+    /**
+     * Termine tout de suite (de façon bloquante) le chargement d'une ressource prise avec {@link #acquireAsync}.
+     * <p>
+     * Si son chargement avait échoué, il est relancé une fois.
+     * </p>
+     *
+     * @param path Chemin de la ressource.
+     * @throws GdxRuntimeException si le chargement échoue.
+     */
+    public void finishLoading(String path) {
+        if (!manager.contains(path) && referenceCounts.get(path, 0) > 0) {
+            loadErrors.remove(path);
+            manager.load(path, types.get(path));
+        }
+        waitFor(path);
+    }
+
+    /**
+     * @return L'erreur qui a fait abandonner le chargement de la ressource (elle n'est alors ni chargée ni en file),
+     * ou {@code null} si elle est chargée, encore en file, ou n'a jamais été demandée.
+     */
+    public Throwable getLoadError(String path) {
+        if (manager.contains(path)) {
+            return null;
+        }
+        return loadErrors.get(path);
+    }
+
+    /**
+     * Renvoie une ressource déjà chargée, sans prendre de référence supplémentaire.
+     *
+     * @param path Chemin de la ressource (prise avec {@link #acquire} ou {@link #acquireAsync}).
+     * @param type Son type.
+     * @return La ressource partagée.
+     */
+    public <T> T get(String path, Class<T> type) {
+        T asset = manager.get(path, type);
+        if (!residentBytes.containsKey(path)) {
+            int bytes = measure(asset);
+            residentBytes.put(path, bytes);
+            totalResidentBytes += bytes;
+        }
+        return asset;
+    }
+
+    /**
+     * Rend une référence prise avec {@link #acquire}. La ressource est libérée quand plus personne ne l'utilise.
+     *
+     * @param path Le chemin passé à {@link #acquire}.
+     */
+    public void release(String path) {
+        int references = referenceCounts.get(path, 0);
+        if (references == 0) {
+            return;
+        }
+        if (references > 1) {
+            referenceCounts.put(path, references - 1);
+            return;
+        }
+        // Dernière référence : on oublie aussi ce qu'on en avait tiré
+        referenceCounts.remove(path, 0);
+        types.remove(path);
+        loadErrors.remove(path);
+        totalResidentBytes -= residentBytes.remove(path, 0);
+        animations.remove(path);
+        // Chargée : libérée (avec ses dépendances que plus rien n'utilise). Encore en file : chargement annulé.
+        if (manager.contains(path)) {
+            manager.unload(path);
+        }
+    }
+
+    /**
+     * Renvoie une animation partagée, découpée une seule fois dans un atlas.
+     * <p>
+     * L'atlas doit déjà avoir été pris avec {@link #acquire}. Les images (régions) sont communes à toutes les vues :
+     * une vue qui les retourne (flip) doit le faire juste avant de les dessiner.
+     * </p>
+     *
+     * @param atlasPath     Chemin de l'atlas.
+     * @param regionName    Le nom des frames dans l'atlas (ex: "RUNNING").
+     * @param frameDuration Durée d'une frame (en secondes).
+     * @param playMode      Mode de lecture (ex: boucle).
+     * @return L'animation partagée.
+     */
+    public Animation<TextureRegion> getAnimation(String atlasPath, String regionName, float frameDuration, Animation.PlayMode playMode) {
+        ObjectMap<String, Animation<TextureRegion>> atlasAnimations = animations.get(atlasPath);
+        if (atlasAnimations == null) {
+            atlasAnimations = new ObjectMap<>();
+            animations.put(atlasPath, atlasAnimations);
+        }
+        String key = regionName + '@' + frameDuration + '@' + playMode;
+        Animation<TextureRegion> animation = atlasAnimations.get(key);
+        if (animation == null) {
+            TextureAtlas atlas = manager.get(atlasPath, TextureAtlas.class);
+            animation = new Animation<>(frameDuration, atlas.findRegions(regionName), playMode);
+            atlasAnimations.put(key, animation);
+        }
+        return animation;
+    }
+
+    /**
+     * Estime la mémoire vidéo d'une ressource (4 octets par pixel, sans mipmaps).
+     */
+    private static int measure(Object asset) {
+        if (asset instanceof Texture) {
+            return measureTexture((Texture) asset);
+        }
+        if (asset instanceof TextureAtlas) {
+            int bytes = 0;
+            for (Texture page : ((TextureAtlas) asset).getTextures()) {
+                bytes += measureTexture(page);
+            }
+            return bytes;
+        }
+        if (asset instanceof TiledMap) {
+            // Les textures des tilesets (une même image sert à plusieurs tuiles : on ne la compte qu'une fois)
+            ObjectSet<Texture> textures = new ObjectSet<>();
+            for (TiledMapTileSet tileSet : ((TiledMap) asset).getTileSets()) {
+                for (TiledMapTile tile : tileSet) {
+                    if (tile.getTextureRegion() != null) {
+                        textures.add(tile.getTextureRegion().getTexture());
+                    }
+                }
+            }
+            int bytes = 0;
+            for (Texture texture : textures) {
+                bytes += measureTexture(texture);
+            }
+            return bytes;
+        }
+        return 0;
+    }
+
+    private static int measureTexture(Texture texture) {
+        return texture.getWidth() * texture.getHeight() * 4;
+    }
+
+    // --- STATISTIQUES ---
+
+    /** @return Le nombre de demandes servies par une ressource déjà en mémoire. */
+    public int getHits() {
+        return hits;
+    }
+
+    /** @return Le nombre de demandes qui ont dû charger la ressource depuis le disque. */
+    public int getMisses() {
+        return misses;
+    }
+
+    /** @return La mémoire vidéo estimée (en octets) des ressources actuellement chargées. */
+    public long getResidentBytes() {
+        return totalResidentBytes;
+    }
+
+    /** @return La mémoire vidéo estimée (en octets) d'une ressource chargée (0 si elle ne l'est pas). */
+    public int getResidentBytes(String path) {
+        return residentBytes.get(path, 0);
+    }
+
+    /** @return Le nombre de références actuellement prises sur une ressource. */
+    public int getReferenceCount(String path) {
+        return referenceCounts.get(path, 0);
+    }
+
+    /** @return Le nombre de ressources actuellement en mémoire (dépendances comprises). */
+    public int getLoadedCount() {
+        return manager.getLoadedAssets();
+    }
+
+    /** @return Le gestionnaire de LibGDX sous-jacent (ex: pour suivre un chargement en arrière-plan). */
+    public AssetManager getManager() {
+        return manager;
+    }
+
+    /**
+     * Affiche les statistiques du cache dans la console.
+     */
+    public void logStats() {
+        Gdx.app.log("AssetCache", "Succès : " + hits + ", Échecs : " + misses
+            + ", Ressources en mémoire : " + getLoadedCount()
+            + ", Mémoire vidéo estimée : " + (totalResidentBytes / 1024) + " Ko");
+    }
+
+    /**
+     * Libère toutes les ressources, quelles que soient leurs références. À appeler à la fermeture du jeu.
+     */
+    @Override
+    public void dispose() {
+        manager.dispose();
+        referenceCounts.clear();
+        types.clear();
+        loadErrors.clear();
+        residentBytes.clear();
+        animations.clear();
+        totalResidentBytes = 0;
+        instance = null;
+    }
+}
@@ -1,6 +1,6 @@
 package com.EthanKnittel.audio;
 
-import com.badlogic.gdx.Gdx;
+import com.EthanKnittel.assets.AssetCache;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.utils.Array;
@@ -16,6 +16,10 @@ import com.badlogic.gdx.utils.Disposable;
  * <li><b>Music (Musiques) :</b> Longues, lues en streaming depuis le disque. Une seule instance à la fois généralement (ex: musique de fond).</li>
  * </ul>
  * </p>
+ * <p>
+ * Les fichiers passent par l'{@link AssetCache} : un son déjà préchargé en arrière-plan (ex: pendant le menu principal)
+ * est disponible tout de suite, et il n'est décodé qu'une fois même si plusieurs écrans le demandent.
+ * </p>
  */
 public class AudioManager implements Disposable {
 
@@ -60,10 +64,10 @@ public class AudioManager implements Disposable {
      */
     public void loadSound(String name, String path) {
         if (getSound(name) == null) {
-            // Gdx.audio.newSound charge tout le fichier en RAM (décompression immédiate).
+            // Un Sound est entièrement chargé en RAM (décompression immédiate), sauf s'il a déjà été préchargé.
             // Attention : Ne pas utiliser pour des musiques longues (> 10 sec)
-            Sound sound = Gdx.audio.newSound(Gdx.files.internal(path));
-            sounds.add(new SoundEntry(name, sound));
+            Sound sound = AssetCache.getInstance().acquire(path, Sound.class);
+            sounds.add(new SoundEntry(name, path, sound));
 
         }
     }
@@ -104,9 +108,9 @@ public class AudioManager implements Disposable {
      */
     public void loadMusic(String name, String path) {
         if (getMusic(name) == null) {
-            // newMusic ne charge pas le fichier, il ouvre juste un flux de lecture.
-            Music music = Gdx.audio.newMusic(Gdx.files.internal(path));
-            musics.add(new MusicEntry(name, music));
+            // Une Music ne charge pas le fichier, elle ouvre juste un flux de lecture.
+            Music music = AssetCache.getInstance().acquire(path, Music.class);
+            musics.add(new MusicEntry(name, path, music));
         }
     }
 
@@ -168,11 +172,19 @@ public class AudioManager implements Disposable {
      */
     @Override
     public void dispose() {
-        for (int i = 0; i < sounds.size; i++) {
-            sounds.get(i).getSound().dispose();
+        if (currentMusic != null) {
+            currentMusic.stop();
+            currentMusic = null;
         }
-        for (int i = 0; i < musics.size; i++) {
-            musics.get(i).getMusic().dispose();
+        // Les fichiers sont rendus au cache, qui les libère si plus personne ne les utilise
+        AssetCache cache = AssetCache.instance;
+        if (cache != null) {
+            for (int i = 0; i < sounds.size; i++) {
+                cache.release(sounds.get(i).getPath());
+            }
+            for (int i = 0; i < musics.size; i++) {
+                cache.release(musics.get(i).getPath());
+            }
         }
         sounds.clear();
         musics.clear();
@@ -14,6 +14,9 @@ public class MusicEntry {
     /** Le nom clé utilisé pour jouer la musique (ex: "BossBattle"). */
     private final String name;
 
+    /** Chemin du fichier, pour rendre la ressource à l'{@link com.EthanKnittel.assets.AssetCache}. */
+    private final String path;
+
     /** L'objet technique LibGDX qui gère le streaming audio. */
     private final Music music;
 
@@ -21,10 +24,12 @@ public class MusicEntry {
      * Crée une nouvelle entrée.
      *
      * @param name  Le nom identifiant.
+     * @param path  Le chemin du fichier chargé.
      * @param music L'instance de la musique chargée.
      */
-    public MusicEntry(String name, Music music) {
+    public MusicEntry(String name, String path, Music music) {
         this.name = name;
+        this.path = path;
         this.music = music;
     }
 
@@ -34,4 +39,7 @@ public class MusicEntry {
     public String getName() {
         return name;
     }
+    public String getPath() {
+        return path;
+    }
 }
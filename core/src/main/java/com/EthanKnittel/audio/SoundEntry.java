@@ -15,6 +15,9 @@ public class SoundEntry {
     /** Le nom clé utilisé pour jouer le son (ex: "Shoot"). */
     private final String name;
 
+    /** Chemin du fichier, pour rendre la ressource à l'{@link com.EthanKnittel.assets.AssetCache}. */
+    private final String path;
+
     /** L'objet technique LibGDX qui contient les données audio décompressées en mémoire. */
     private final Sound sound;
 
@@ -22,16 +25,21 @@ public class SoundEntry {
      * Crée une nouvelle entrée.
      *
      * @param name  Le nom identifiant.
+     * @param path  Le chemin du fichier chargé.
      * @param sound L'instance du son chargé.
      */
-    public SoundEntry(String name, Sound sound) {
+    public SoundEntry(String name, String path, Sound sound) {
         this.name = name;
+        this.path = path;
         this.sound = sound;
     }
 
     public String getName() {
         return name;
     }
+    public String getPath() {
+        return path;
+    }
     public Sound getSound() {
         return sound;
     }
@@ -34,6 +34,9 @@ public abstract class Agent extends Entity {
     /** Vitesse de glissade le long d'un mur (frottement). */
     private static float wallSlideSpeed = -200f/ GameScreen.getPixelsPerBlocks();
 
+    /** Vitesse donnée par le recul (Knockback) lors d'un coup, sur X et sur Y. */
+    private static final float knockbackSpeed = 100f / GameScreen.getPixelsPerBlocks();
+
     // --- DÉPLACEMENT ---
     private float moveSpeed = 150f/ GameScreen.getPixelsPerBlocks();
     private float jumpSpeed = 400f/ GameScreen.getPixelsPerBlocks();
@@ -86,6 +89,9 @@ public abstract class Agent extends Entity {
             return; // Si invincible, on ignore l'attaque
         }
 
+        // Un coup réveille toujours l'agent (même s'il dormait au sol)
+        wakeUp();
+
         this.currenthealth -= amount;
         if (this.currenthealth < 0) {
             this.currenthealth = 0;
@@ -102,8 +108,8 @@ public abstract class Agent extends Entity {
         this.invincibilityTimer = invincibilityDuration;
 
         // Effet de Knockback (Recul) : On éjecte légèrement l'agent vers le haut et la droite
-        this.setVelocityY(100f / GameScreen.getPixelsPerBlocks());
-        this.setVelocityX(100f / GameScreen.getPixelsPerBlocks());
+        this.setVelocityY(knockbackSpeed);
+        this.setVelocityX(knockbackSpeed);
     }
 
     @Override
@@ -10,7 +10,6 @@ package com.EthanKnittel.entities;
  * Exemples d'artefacts :
  * <ul>
  * <li>{@link com.EthanKnittel.entities.artifacts.Wall} (Murs, sols, plateformes)</li>
- * <li>{@link com.EthanKnittel.entities.artifacts.Projectile} (Flèches, balles - bien que mobiles, ce ne sont pas des êtres vivants)</li>
  * <li>Coffres, pièges, leviers...</li>
  * </ul>
  * </p>
@@ -21,7 +20,7 @@ public abstract class Artifact extends Entity{
      * Constructeur de base pour un objet inanimé.
      * <p>
      * Par défaut, un Artefact est considéré comme "solide" pour le moteur physique.
-     * Cela signifie que les entités ne peuvent pas le traverser (sauf si configuré autrement, comme pour un projectile).
+     * Cela signifie que les entités ne peuvent pas le traverser (sauf si configuré autrement).
      * </p>
      *
      * @param x      Position X initiale.
@@ -34,8 +33,7 @@ public abstract class Artifact extends Entity{
 
         // Configuration par défaut : Un objet a une collision physique.
         // C'est logique pour un Mur.
-        // Pour un Projectile, ce paramètre sera souvent désactivé manuellement dans la sous-classe
-        // pour gérer une collision "Trigger" (traverser sans pousser) plutôt que physique.
         setCollision(true);
+        setCollisionLayer(CollisionLayers.Wall);
     }
 }
@@ -0,0 +1,103 @@
+package com.EthanKnittel.entities;
+
+/**
+ * Table des couches de collision : qui rencontre qui.
+ * <p>
+ * Chaque {@link Entity} appartient à une couche (un bit) et porte un masque : l'ensemble des couches
+ * avec lesquelles elle interagit. Les requêtes de la Broadphase reçoivent un masque et écartent directement
+ * les entités des autres couches : les boucles de collision ne voient plus que les paires utiles,
+ * sans tester {@code getIsEnemy()}, {@code getIsPlayer()} ou la classe de l'entité.
+ * </p>
+ * <p>
+ * Toutes les règles sont réunies ici. Par défaut :
+ * <ul>
+ * <li>Murs : bloquent les joueurs, les ennemis et les projectiles.</li>
+ * <li>Joueur : touche les ennemis (corps à corps).</li>
+ * <li>Ennemis : se touchent entre eux (séparation), touchent le joueur et reçoivent les projectiles.</li>
+ * <li>Projectiles : ne voient que les murs et les ennemis (pas de tir ami).</li>
+ * </ul>
+ * Un nouveau type d'entité ajoute une couche et ses lignes dans le bloc d'initialisation, sans toucher aux boucles.
+ * </p>
+ * <p>
+ * Le masque d'une entité est lu dans la table quand elle reçoit sa couche :
+ * la table doit donc être réglée avant la création des entités.
+ * </p>
+ */
+public final class CollisionLayers {
+
+    // --- COUCHES (un bit chacune) ---
+    public static final int Wall = 1;
+    public static final int Player = 1 << 1;
+    public static final int Foe = 1 << 2;
+    /** Projectiles du {@link com.EthanKnittel.world.systems.ProjectileSystem} (ce ne sont pas des entités). */
+    public static final int Projectile = 1 << 3;
+
+    /** Nombre de couches (taille de la table). */
+    public static final int LayerCount = 4;
+
+    /** Masque qui accepte toutes les couches. */
+    public static final int All = -1;
+
+    /** Table des interactions : pour chaque couche (numéro de son bit), les couches qu'elle rencontre. */
+    private static final int[] masks = new int[LayerCount];
+
+    /** Couches qui bloquent les déplacements (les autres se traversent et ne font que se toucher). */
+    private static int blockingLayers = Wall;
+
+    /*
+     * Bloc statique d'initialisation : la table par défaut.
+     */
+    static {
+        setInteraction(Wall, Player, true);
+        setInteraction(Wall, Foe, true);
+        setInteraction(Wall, Projectile, true);
+        setInteraction(Player, Foe, true);
+        setInteraction(Foe, Foe, true);
+        setInteraction(Foe, Projectile, true);
+    }
+
+    private CollisionLayers() {
+    }
+
+    /**
+     * Active ou désactive l'interaction entre deux couches (dans les deux sens).
+     *
+     * @param first    Une couche.
+     * @param second   Une autre couche (ou la même).
+     * @param interact {@code true} si les deux couches se rencontrent.
+     */
+    public static void setInteraction(int first, int second, boolean interact) {
+        if (interact) {
+            masks[indexOf(first)] |= second;
+            masks[indexOf(second)] |= first;
+        } else {
+            masks[indexOf(first)] &= ~second;
+            masks[indexOf(second)] &= ~first;
+        }
+    }
+
+    /** @return Le masque par défaut d'une couche : toutes les couches qu'elle rencontre (0 pour une couche inconnue). */
+    public static int getMask(int layer) {
+        int index = indexOf(layer);
+        return (index < LayerCount) ? masks[index] : 0;
+    }
+
+    /** @return {@code true} si les deux couches se rencontrent. */
+    public static boolean interact(int first, int second) {
+        return (getMask(first) & second) != 0;
+    }
+
+    /** @return Les couches qui bloquent les déplacements. */
+    public static int getBlockingLayers() {
+        return blockingLayers;
+    }
+
+    public static void setBlockingLayers(int blockingLayers) {
+        CollisionLayers.blockingLayers = blockingLayers;
+    }
+
+    /** @return Le numéro du bit d'une couche (sa ligne dans la table). */
+    private static int indexOf(int layer) {
+        return Integer.numberOfTrailingZeros(layer);
+    }
+}
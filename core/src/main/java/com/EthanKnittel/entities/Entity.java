@@ -2,6 +2,8 @@ package com.EthanKnittel.entities;
 
 import com.EthanKnittel.Evolving;
 import com.EthanKnittel.game.GameScreen;
+import com.EthanKnittel.world.systems.EntityTable;
+import com.EthanKnittel.world.systems.TransformStore;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 
@@ -12,22 +14,50 @@ import com.badlogic.gdx.math.Vector2;
  * Elle implémente {@link Evolving}, ce qui signifie qu'elle doit avoir une méthode {@code update()}
  * appelée à chaque frame.
  * </p>
+ * <p>
+ * Si l'entité est rattachée à un {@link TransformStore} (stockage SoA de l'Environment), sa position,
+ * sa vitesse et sa hitbox vivent dans les tableaux du store : les getters ci-dessous en sont alors
+ * de simples vues, et les setters écrivent dedans.
+ * </p>
  */
 public abstract class Entity implements Evolving {
     /** Position actuelle (Coin inférieur gauche) dans le monde. */
     private Vector2 position;
 
+    /** Position au début du tick de simulation en cours (sert à l'interpolation du rendu). */
+    private Vector2 previousPosition;
+
+    /** Position affichée à l'écran : mélange entre {@link #previousPosition} et {@link #position}. */
+    private Vector2 renderPosition;
+
     /** Vitesse actuelle (X, Y) en unités/seconde. */
     private Vector2 velocity= new Vector2();
 
     /** Rectangle de collision (Hitbox). Doit toujours être synchronisé avec la position. */
     private Rectangle bounds; // pour la hitbox
 
+    // --- STOCKAGE SoA (optionnel) ---
+    /** Le store qui contient les données physiques de l'entité ({@code null} = l'entité utilise ses propres objets). */
+    private TransformStore transformStore = null;
+
+    /** La case de l'entité dans les tableaux du store. */
+    private int transformSlot = -1;
+
+    // --- IDENTITÉ ---
+    /** Poignée de l'entité dans l'{@link EntityTable} du monde ({@link EntityTable#None} = hors du monde). */
+    private int handle = EntityTable.None;
+
     // --- FLAGS (Drapeaux de configuration) ---
 
     /** Si true, cette entité bloque les mouvements (ex: un Mur). */
     private boolean collision = false;
 
+    /** Couche de collision de l'entité (un bit de {@link CollisionLayers}, 0 = aucune). */
+    private int collisionLayer = 0;
+
+    /** Couches avec lesquelles l'entité interagit (les autres sont écartées dès la Broadphase). */
+    private int collisionMask = 0;
+
     /** Si true, la gravité s'applique à cette entité à chaque frame. */
     private boolean affectedByGravity = false;
 
@@ -41,7 +71,32 @@ public abstract class Entity implements Evolving {
     private boolean isAgent = false;      // Est-ce un être vivant (général) ?
     private boolean isEnemy = false;      // Est-ce un méchant ?
     private boolean isPlayer = false;     // Est-ce le joueur ?
-    private boolean isProjectile = false; // Est-ce une flèche/balle ?
+
+    /**
+     * Si true, l'entité fait partie de la géométrie fixe du niveau (ex: un Mur).
+     * Elle n'est jamais mise à jour ni déplacée par la physique : seules les autres entités la testent.
+     */
+    private boolean isStatic = false;
+
+    // --- SOMMEIL (Sleeping Bodies) ---
+    /**
+     * Si true, la physique ignore cette entité (pas de gravité, pas de collisions) jusqu'à son réveil.
+     * Un agent s'endort quand il reste immobile au sol assez longtemps (voir {@link com.EthanKnittel.world.systems.PhysicSystem}).
+     */
+    private boolean sleeping = false;
+
+    /** Nombre de ticks consécutifs passés immobile (compteur avant endormissement). */
+    private int idleTicks = 0;
+
+    // --- NIVEAU DE DÉTAIL DE LA SIMULATION ---
+    /** Anneau de simulation actuel (voir {@link com.EthanKnittel.world.systems.SimulationLod}). 0 = plein régime. */
+    private int simulationRing = 0;
+
+    /** Temps écoulé depuis la dernière mise à jour de l'entité (rendu d'un coup à la suivante). */
+    private float pendingDelta = 0f;
+
+    /** Nombre de ticks écoulés depuis la dernière mise à jour de l'entité. */
+    private int ticksSinceUpdate = 0;
 
     /** Si true, l'entité sera supprimée de la liste au prochain cycle de nettoyage. */
     private boolean canBeRemove = false;
@@ -58,6 +113,8 @@ public abstract class Entity implements Evolving {
     public Entity(float x, float y,  float width, float height) {
         // On initialise le vecteur de position LibGDX
         this.position = new Vector2(x, y);
+        this.previousPosition = new Vector2(x, y);
+        this.renderPosition = new Vector2(x, y);
         // On crée la hitbox aux mêmes coordonnées
         this.bounds = new Rectangle(x, y, width, height);
     }
@@ -94,17 +151,37 @@ public abstract class Entity implements Evolving {
         return isPlayer;
     }
 
-    public boolean getIsProjectile() {return isProjectile;}
-    public void setIsProjectile(boolean isProjectile) {this.isProjectile = isProjectile;}
+    public boolean getIsStatic() {
+        return isStatic;
+    }
+    public void setIsStatic(boolean isStatic) {
+        this.isStatic = isStatic;
+    }
 
     public float getX() {
+        if (transformStore != null) {
+            return transformStore.getX(transformSlot);
+        }
         return  position.x;
     }
     public float getY() {
+        if (transformStore != null) {
+            return transformStore.getY(transformSlot);
+        }
         return  position.y;
     }
 
+    /**
+     * Renvoie la hitbox de l'entité.
+     * En mode SoA, le rectangle est rafraîchi depuis le store à chaque appel (vue en lecture).
+     * Une entité statique n'est jamais déplacée par la physique ({@link #setPosXY} garde déjà son rectangle à jour) :
+     * son rectangle n'est donc jamais réécrit ici, ce qui permet à plusieurs threads de le lire en même temps.
+     */
     public Rectangle getbounds() {
+        if (transformStore != null && !isStatic) {
+            bounds.set(transformStore.getX(transformSlot), transformStore.getY(transformSlot),
+                transformStore.getWidth(transformSlot), transformStore.getHeight(transformSlot));
+        }
         return bounds;
     }
 
@@ -118,21 +195,216 @@ public abstract class Entity implements Evolving {
     public void setPosXY(float x, float y) {
         position.set(x, y);
         bounds.setPosition(x,y);
+        if (transformStore != null) {
+            transformStore.setPosition(transformSlot, x, y);
+        }
+    }
+    public Vector2 getPosition() {
+        if (transformStore != null) {
+            position.set(transformStore.getX(transformSlot), transformStore.getY(transformSlot));
+        }
+        return position;
     }
-    public Vector2 getPosition() {return position;}
 
+    // --- INTERPOLATION DU RENDU ---
+    // La simulation avance par pas fixes, l'écran se rafraîchit à son propre rythme :
+    // on affiche donc une position intermédiaire entre les deux derniers ticks.
+
+    /**
+     * Mémorise la position actuelle comme point de départ du tick qui commence.
+     * Appelé par l'{@link com.EthanKnittel.world.systems.Environment} avant chaque pas de simulation.
+     */
+    public void savePreviousPosition() {
+        previousPosition.set(getX(), getY());
+    }
+
+    /**
+     * Calcule la position affichée entre le tick précédent et le tick actuel.
+     *
+     * @param alpha Avancement dans le tick suivant (0 = position précédente, 1 = position actuelle).
+     */
+    public void updateRenderPosition(float alpha) {
+        renderPosition.set(previousPosition).lerp(getPosition(), alpha);
+    }
+
+    /**
+     * Supprime l'interpolation en cours (à utiliser après une téléportation, ex: changement de niveau),
+     * pour que l'entité n'apparaisse pas en train de "glisser" depuis son ancienne position.
+     */
+    public void resetInterpolation() {
+        previousPosition.set(getX(), getY());
+        renderPosition.set(previousPosition);
+    }
+
+    public float getRenderX() {
+        return renderPosition.x;
+    }
+    public float getRenderY() {
+        return renderPosition.y;
+    }
+
+    /**
+     * Renvoie la vitesse de l'entité (à utiliser en lecture : passez par les setters pour la modifier).
+     * En mode SoA, le vecteur est rafraîchi depuis le store à chaque appel.
+     */
     public Vector2 getVelocity() {
+        if (transformStore != null) {
+            velocity.set(transformStore.getVelocityX(transformSlot), transformStore.getVelocityY(transformSlot));
+        }
         return velocity;
     }
+    // Donner une vitesse non nulle (input, ordre de l'IA, recul...) réveille l'entité.
     public void setVelocityX(float x) {
-        velocity.x = x;
+        writeVelocity(x, getVelocity().y);
+        if (x != 0) {
+            wakeUp();
+        }
     }
     public void setVelocityY(float y) {
-        velocity.y = y;
+        writeVelocity(getVelocity().x, y);
+        if (y != 0) {
+            wakeUp();
+        }
     }
     public void setVelocity(float x, float y) {
-        velocity.x = x;
-        velocity.y = y;
+        writeVelocity(x, y);
+        if (x != 0 || y != 0) {
+            wakeUp();
+        }
+    }
+
+    /**
+     * Ajoute une accélération verticale (ex: la gravité) <b>sans</b> réveiller l'entité.
+     * Réservé à la physique : une force subie n'est pas une "intention" de bouger.
+     */
+    public void addVelocityY(float amount) {
+        Vector2 current = getVelocity();
+        writeVelocity(current.x, current.y + amount);
+    }
+
+    private void writeVelocity(float x, float y) {
+        velocity.set(x, y);
+        if (transformStore != null) {
+            transformStore.setVelocityX(transformSlot, x);
+            transformStore.setVelocityY(transformSlot, y);
+        }
+    }
+
+    // --- RATTACHEMENT AU STOCKAGE SoA ---
+
+    /**
+     * Rattache l'entité à une case du store : ses valeurs actuelles y sont recopiées,
+     * puis le store devient la référence. Appelé par {@link TransformStore#bind}.
+     */
+    public void attachTransform(TransformStore store, int slot) {
+        store.setPosition(slot, position.x, position.y);
+        store.setVelocityX(slot, velocity.x);
+        store.setVelocityY(slot, velocity.y);
+        store.setSize(slot, bounds.width, bounds.height);
+        this.transformStore = store;
+        this.transformSlot = slot;
+    }
+
+    /**
+     * Détache l'entité du store : les valeurs de sa case sont recopiées dans ses propres objets
+     * (position, vitesse, hitbox), qui redeviennent la référence.
+     */
+    public void detachTransform() {
+        if (transformStore == null) {
+            return;
+        }
+        getPosition();
+        getVelocity();
+        getbounds();
+        this.transformStore = null;
+        this.transformSlot = -1;
+    }
+
+    public TransformStore getTransformStore() {
+        return transformStore;
+    }
+    public int getTransformSlot() {
+        return transformSlot;
+    }
+
+    /** @return La poignée de l'entité ({@link EntityTable#None} tant qu'elle n'est pas dans le monde). */
+    public int getHandle() {
+        return handle;
+    }
+
+    /** Appelé par l'{@link EntityTable} quand l'entité entre dans le monde ou le quitte. */
+    public void setHandle(int handle) {
+        this.handle = handle;
+    }
+
+    // --- GESTION DU SOMMEIL ---
+
+    public boolean getIsSleeping() {
+        return sleeping;
+    }
+    public void setIsSleeping(boolean sleeping) {
+        this.sleeping = sleeping;
+    }
+
+    /**
+     * Réveille l'entité : la physique la reprend en charge dès le prochain tick.
+     * Appelé automatiquement par les setters de vitesse, les dégâts et les contacts.
+     */
+    public void wakeUp() {
+        sleeping = false;
+        idleTicks = 0;
+    }
+
+    public int getIdleTicks() {
+        return idleTicks;
+    }
+    public void setIdleTicks(int idleTicks) {
+        this.idleTicks = idleTicks;
+    }
+
+    // --- NIVEAU DE DÉTAIL ---
+
+    public int getSimulationRing() {
+        return simulationRing;
+    }
+    public void setSimulationRing(int simulationRing) {
+        this.simulationRing = simulationRing;
+    }
+
+    public float getPendingDelta() {
+        return pendingDelta;
+    }
+    public void setPendingDelta(float pendingDelta) {
+        this.pendingDelta = pendingDelta;
+    }
+
+    public int getTicksSinceUpdate() {
+        return ticksSinceUpdate;
+    }
+    public void setTicksSinceUpdate(int ticksSinceUpdate) {
+        this.ticksSinceUpdate = ticksSinceUpdate;
+    }
+
+    public int getCollisionLayer() {
+        return collisionLayer;
+    }
+
+    /**
+     * Range l'entité dans une couche de collision. Son masque est repris de la table {@link CollisionLayers}.
+     * @param collisionLayer Une couche de {@link CollisionLayers} (ex: {@code CollisionLayers.Foe}).
+     */
+    public void setCollisionLayer(int collisionLayer) {
+        this.collisionLayer = collisionLayer;
+        this.collisionMask = CollisionLayers.getMask(collisionLayer);
+    }
+
+    public int getCollisionMask() {
+        return collisionMask;
+    }
+
+    /** Remplace le masque de la table pour cette entité seulement (ex: un ennemi fantôme qui traverse les autres). */
+    public void setCollisionMask(int collisionMask) {
+        this.collisionMask = collisionMask;
     }
 
     public boolean getCollision() {
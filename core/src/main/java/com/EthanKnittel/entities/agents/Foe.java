@@ -1,21 +1,22 @@
 package com.EthanKnittel.entities.agents;
 
 import com.EthanKnittel.ai.EnemyStrategy;
+import com.EthanKnittel.ai.FoeSensor;
 import com.EthanKnittel.ai.PatrolStrategy;
 import com.EthanKnittel.entities.Agent;
-import com.EthanKnittel.entities.Entity;
-import com.EthanKnittel.entities.artifacts.Wall;
+import com.EthanKnittel.entities.CollisionLayers;
 import com.EthanKnittel.save.SaveManager;
 import com.EthanKnittel.score.ScoreManager;
-import com.badlogic.gdx.math.Intersector;
+import com.EthanKnittel.world.systems.Environment;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
+
+import java.util.Random;
 
 /**
  * Classe de base pour tous les ennemis (Opposants).
  * <p>
  * Un Foe (Ennemi) est un Agent piloté par une Intelligence Artificielle (Strategy Pattern).
- * Il possède une cible (le Joueur) et une liste d'entités pour analyser son environnement (vue).
+ * Il possède une cible (le Joueur) et une référence au monde pour analyser son environnement (vue).
  * </p>
  * <p>
  * Cette classe gère aussi les récompenses (Score) et les statistiques de kill lors de la mort.
@@ -29,12 +30,30 @@ public abstract class Foe extends Agent {
     /** La cible principale de l'ennemi (généralement le Joueur). */
     private Player target;
 
-    /** Liste de toutes les entités du monde. Nécessaire pour vérifier les obstacles (Ligne de vue). */
-    private Array<Entity> allEntities;
+    /** Le monde (tuiles + entités). Nécessaire pour vérifier les obstacles (Ligne de vue). */
+    private Environment environment;
 
     /** Vrai si l'ennemi touche un autre ennemi. Utilisé par l'IA pour la séparation. */
     private boolean touchingAlly = false;
 
+    /** Dernière perception de la cible (distance, ligne de vue), remplie par le PerceptionSystem. */
+    private final FoeSensor sensor = new FoeSensor();
+
+    /**
+     * Générateur aléatoire propre à cet ennemi (ex: directions de patrouille).
+     * <p>
+     * Chaque ennemi a sa propre suite de tirages, dont la graine est donnée par l'{@link Environment}
+     * dans l'ordre d'apparition : le résultat ne dépend pas de l'ordre dans lequel les ennemis réfléchissent
+     * (ni du nombre de threads de l'IA).
+     * </p>
+     */
+    private final Random random;
+
+    // --- ORDRE DU CERVEAU (calculé par decide, appliqué par update) ---
+    private boolean hasCommand = false;
+    private float commandX = 0f;
+    private float commandY = 0f;
+
     // --- IDENTITÉ & SCORE ---
     /** Nom utilisé pour les statistiques (ex: "Cactus", "Ordi"). */
     private String enemyName = "Unknown";
@@ -54,15 +73,18 @@ public abstract class Foe extends Agent {
      * @param width       Largeur de la hitbox.
      * @param height      Hauteur de la hitbox.
      * @param target      Référence au joueur à pourchasser.
-     * @param allEntities Référence au monde (pour voir les murs).
+     * @param environment Référence au monde (pour voir les murs).
      */
-    public Foe(float x, float y, float width, float height, int maxHealth, int damage, Player target, Array<Entity> allEntities) {
+    public Foe(float x, float y, float width, float height, int maxHealth, int damage, Player target, Environment environment) {
         super(x, y, width, height, maxHealth, damage);
         this.target = target;
-        this.allEntities = allEntities;
+        this.environment = environment;
+        // Sans monde, la suite n'est pas reproductible (graine quelconque)
+        this.random = (environment != null) ? new Random(environment.nextFoeSeed()) : new Random();
 
         // Configuration par défaut
-        this.setIsEnemy(true); // Tag pour le système de collisions (PhysicSystem)
+        this.setIsEnemy(true); // Tag pour l'IA et les règles de groupe
+        this.setCollisionLayer(CollisionLayers.Foe); // Rencontre les murs, le joueur, les autres ennemis et les projectiles
         this.setStrategy(new PatrolStrategy()); // Comportement par défaut si aucun cerveau (BrainStrategy) n'est donné
     }
 
@@ -70,6 +92,9 @@ public abstract class Foe extends Agent {
 
     public void setStrategy(EnemyStrategy strategy){
         this.strategy = strategy;
+        if (environment != null) {
+            environment.getPerception().track(this); // Le rayon de détection a pu changer
+        }
     }
 
     public void setTouchingAlly(boolean isTouching) {
@@ -80,41 +105,101 @@ public abstract class Foe extends Agent {
     }
 
 
+    /** @return Le générateur aléatoire propre à cet ennemi (à utiliser par ses stratégies à la place de {@code MathUtils.random}). */
+    public Random getRandom() {
+        return random;
+    }
+
+    /**
+     * Récupère la perception de la cible pour ce tick (lue par les stratégies).
+     * <p>
+     * La mesure est faite par le {@link com.EthanKnittel.world.systems.PerceptionSystem} à la fin du tick précédent.
+     * Un ennemi apparu depuis (pas encore de mesure) est mesuré ici, une seule fois.
+     * </p>
+     */
+    public FoeSensor getSensor() {
+        if (!sensor.getIsValid()) {
+            sense(environment != null ? environment.getPerception().getTick() : -1);
+        }
+        return sensor;
+    }
+
+    /**
+     * Mesure immédiatement la distance et la ligne de vue vers la cible, et les range dans la fiche de perception.
+     *
+     * @param tick Numéro du tick de perception auquel la mesure est rattachée.
+     */
+    public void sense(int tick) {
+        if (target == null) {
+            sensor.record(tick, Float.MAX_VALUE, false);
+            return;
+        }
+        sensor.record(tick, getPosition().dst(target.getPosition()), hasLineOfSight(target));
+    }
+
+    /** @return La distance à laquelle le cerveau de l'ennemi a besoin de percevoir sa cible. */
+    public float getDetectionRadius() {
+        return (strategy != null) ? strategy.getDetectionRadius() : 0f;
+    }
+
     /**
      * Vérifie si l'ennemi a une vue dégagée sur le joueur (Raycasting).
      * <p>
+     * Lance un nouveau rayon à chaque appel : les stratégies lisent plutôt {@link #getSensor()}.
+     * </p>
+     * <p>
      * Cette méthode trace une ligne imaginaire entre le centre de l'ennemi et le centre du joueur.
-     * Si cette ligne coupe un Mur (Wall), la vue est bloquée.
+     * Si cette ligne coupe une tuile solide ou un Mur (Wall), la vue est bloquée.
      * </p>
      *
      * @param player La cible à tester.
      * @return true si aucun mur ne bloque la vue, false sinon.
      */
     public boolean hasLineOfSight(Player player){
-        if (allEntities == null){
+        if (environment == null){
             return true; // Si pas d'info sur le monde, on suppose qu'on voit tout (sécurité)
         }
         // 1. Calcul du point de départ (Centre de l'ennemi)
-        Vector2 start = new Vector2(getX()+ getbounds().width / 2, getY() + getbounds().height / 2);
+        float startX = getX() + getbounds().width / 2;
+        float startY = getY() + getbounds().height / 2;
 
         // 2. Calcul du point d'arrivée (Centre du joueur)
-        Vector2 end = new Vector2(player.getX() + player.getbounds().width / 2, player.getY() + player.getbounds().height / 2);
-
-        // 3. Test d'intersection avec tous les murs
-        for (Entity entity : allEntities){
-            if (entity.getClass().equals(Wall.class)){
-                // Intersector est un outil mathématique de LibGDX
-                if (Intersector.intersectSegmentRectangle(start, end, entity.getbounds())){
-                    return false; // Un mur coupe la ligne -> Pas de vue
-                }
-            }
-        }
-        return true; // Aucun obstacle trouvé
+        float endX = player.getX() + player.getbounds().width / 2;
+        float endY = player.getY() + player.getbounds().height / 2;
+
+        // 3. Lancer de rayon : tuiles puis murs, arrêt au premier obstacle (voir WorldRaycast)
+        return environment.getRaycast().isSegmentClear(startX, startY, endX, endY);
     }
 
 
+    /**
+     * Phase de décision de l'IA : demande à la stratégie où aller, sans toucher à la physique.
+     * <p>
+     * L'ordre est gardé de côté et appliqué par {@link #update(float)}. Cette méthode ne lit que l'état
+     * de l'ennemi, la position de sa cible et sa dernière perception : plusieurs ennemis peuvent décider
+     * en même temps sur des threads différents (voir {@link com.EthanKnittel.world.systems.AiDecisionSystem}),
+     * à condition que leur perception soit déjà mesurée ({@link #getSensor()} appelé sur le thread principal).
+     * </p>
+     *
+     * @param deltaTime Le temps simulé pour cet ennemi pendant ce tick.
+     */
+    public void decide(float deltaTime) {
+        hasCommand = false;
+        if (!getAlive() || strategy == null || target == null) {
+            return; // Un cadavre ne réfléchit plus, et sans cerveau ni cible il n'y a rien à décider
+        }
+        // On demande au cerveau : "Où dois-je aller ?"
+        Vector2 command = strategy.calculateMove(this, deltaTime);
+        commandX = command.x;
+        commandY = command.y;
+        hasCommand = true;
+    }
+
     /**
      * Boucle principale de mise à jour de l'ennemi.
+     * <p>
+     * Si la décision de ce tick n'a pas déjà été prise ({@link #decide(float)}), elle est prise ici.
+     * </p>
      */
     @Override
     public void update(float deltaTime) {
@@ -123,6 +208,7 @@ public abstract class Foe extends Agent {
 
         // 2. GESTION DE LA MORT
         if (!getAlive()) {
+            hasCommand = false;
             setInvincibilityDuration(99f); // Empêche de rejouer l'animation "Hit" pendant l'agonie
 
             // A. Suppression différée : On attend la fin de l'animation de mort
@@ -147,16 +233,19 @@ public abstract class Foe extends Agent {
         }
 
         // 3. EXÉCUTION DE L'IA (Si vivant)
-        if (strategy !=null && target != null){
-            // On demande au cerveau : "Où dois-je aller ?"
-            Vector2 command = strategy.calculateMove(this,deltaTime);
+        if (!hasCommand) {
+            decide(deltaTime);
+        }
+        if (hasCommand) {
+            hasCommand = false; // L'ordre n'est appliqué qu'une fois
 
             // On applique la volonté du cerveau à la physique
-            this.setVelocityX(command.x);
+            // (un ordre de mouvement non nul réveille l'ennemi s'il dormait)
+            this.setVelocityX(commandX);
 
             // Si le cerveau veut sauter (y != 0), on applique. Sinon on laisse la gravité gérer le Y.
-            if (command.y !=0){
-                this.setVelocityY(command.y);
+            if (commandY !=0){
+                this.setVelocityY(commandY);
             }
         }
 
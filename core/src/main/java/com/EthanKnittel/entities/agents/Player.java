@@ -2,10 +2,11 @@ package com.EthanKnittel.entities.agents;
 
 import com.EthanKnittel.audio.AudioManager;
 import com.EthanKnittel.entities.Agent;
+import com.EthanKnittel.entities.CollisionLayers;
 import com.EthanKnittel.game.GameScreen;
 import com.EthanKnittel.world.systems.Environment;
 import com.badlogic.gdx.math.Vector3;
-import com.EthanKnittel.entities.artifacts.FireArrow;
+import com.EthanKnittel.entities.artifacts.ProjectileType;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
 /**
@@ -55,6 +56,8 @@ public class Player extends Agent {
     private Environment environment;
     /** Référence au viewport pour convertir les clics souris (pixels) en coordonnées monde. */
     private Viewport viewport;
+    /** Vecteur réutilisable pour la conversion écran -> monde du tir (évite une allocation par flèche). */
+    private final Vector3 aimPosition = new Vector3();
 
     /**
      * Constructeur du Joueur.
@@ -71,6 +74,7 @@ public class Player extends Agent {
         // Configuration spécifique du joueur
         this.setCollision(false); // Le joueur ne bloque pas les autres entités physiquement (pas un mur)
         this.setIsPlayer(true);   // Tag pour l'IA des ennemis
+        this.setCollisionLayer(CollisionLayers.Player); // Rencontre les murs et les ennemis (voir CollisionLayers)
 
         // Configuration Combat
         this.setHitStunDuration(0f); // Le joueur n'est jamais figé quand il prend un coup (meilleur Game Feel)
@@ -225,17 +229,16 @@ public class Player extends Agent {
      */
     public void shoot(int screenX, int screenY) {
         // 1. Conversion des coordonnées : Écran (2D plat) -> Monde (Caméra, Zoom, Position)
-        // LibGDX utilise Vector3 pour unproject, le Z est ignoré en 2D.
-        Vector3 worldPos = new Vector3(screenX, screenY, 0);
+        // LibGDX utilise Vector3 pour unproject, le Z est ignoré en 2D. Le vecteur est réutilisé d'un tir à l'autre.
+        Vector3 worldPos = aimPosition.set(screenX, screenY, 0);
         viewport.unproject(worldPos);
 
         // 2. Calcul du point de départ (Centre du joueur)
         float startX = getX() + getbounds().width / 2f;
         float startY = getY() + getbounds().height / 2f;
 
-        // 3. Création et ajout du projectile dans le monde
-        FireArrow arrow = new FireArrow(startX, startY, worldPos.x, worldPos.y);
-        environment.addEntity(arrow);
+        // 3. Tir : le système de projectiles réutilise une case libre (aucune allocation)
+        environment.getProjectiles().spawn(ProjectileType.FireArrow, startX, startY, worldPos.x, worldPos.y);
     }
 
     private void playsound() {
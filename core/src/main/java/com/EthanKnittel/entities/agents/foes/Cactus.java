@@ -1,10 +1,9 @@
 package com.EthanKnittel.entities.agents.foes;
 
-import com.EthanKnittel.entities.Entity;
 import com.EthanKnittel.entities.agents.Foe;
 import com.EthanKnittel.entities.agents.Player;
 import com.EthanKnittel.game.GameScreen;
-import com.badlogic.gdx.utils.Array;
+import com.EthanKnittel.world.systems.Environment;
 
 /**
  * Entité représentant l'ennemi "Cactus".
@@ -21,13 +20,13 @@ public class Cactus extends Foe {
      * @param x           Position X initiale.
      * @param y           Position Y initiale.
      * @param target      Le joueur (cible pour l'IA).
-     * @param allentities Liste des entités du monde (pour la vision de l'IA).
+     * @param environment Le monde (pour la vision de l'IA).
      */
-    public Cactus(float x, float y, Player target, Array<Entity> allentities) {
+    public Cactus(float x, float y, Player target, Environment environment) {
         // Appel au constructeur parent (Foe).
         // Paramètres : x, y, Largeur (32px), Hauteur (32px), PV Max (50), Dégâts (15)
         // Note : Dégâts plus élevés (15). Un joueur (100 PV) meurt en 7 coups.
-        super(x,y, 32f/ GameScreen.getPixelsPerBlocks(), 32f/GameScreen.getPixelsPerBlocks(), 50, 15, target, allentities);
+        super(x,y, 32f/ GameScreen.getPixelsPerBlocks(), 32f/GameScreen.getPixelsPerBlocks(), 50, 15, target, environment);
 
         // --- CONFIGURATION DU RESSENTI (Game Feel) ---
         // Configuration standard pour les ennemis : récupération rapide pour permettre les combos du joueur.
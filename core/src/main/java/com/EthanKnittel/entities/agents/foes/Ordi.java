@@ -1,10 +1,9 @@
 package com.EthanKnittel.entities.agents.foes;
 
-import com.EthanKnittel.entities.Entity;
 import com.EthanKnittel.entities.agents.Foe;
 import com.EthanKnittel.entities.agents.Player;
 import com.EthanKnittel.game.GameScreen;
-import com.badlogic.gdx.utils.Array;
+import com.EthanKnittel.world.systems.Environment;
 
 /**
  * Entité représentant l'ennemi "Ordi".
@@ -21,13 +20,13 @@ public class Ordi extends Foe {
      * @param x           Position X initiale.
      * @param y           Position Y initiale.
      * @param target      Le joueur (cible pour l'IA).
-     * @param allentities Liste des entités du monde (pour la vision de l'IA).
+     * @param environment Le monde (pour la vision de l'IA).
      */
-    public Ordi(float x, float y, Player target, Array<Entity> allentities) {
+    public Ordi(float x, float y, Player target, Environment environment) {
         // Appel au constructeur parent (Foe) pour initialiser la physique de base.
         // Paramètres : x, y, Largeur (32px), Hauteur (32px), PV Max (50), Dégâts (5)
         // Note : On divise par PixelsPerBlocks pour convertir les pixels en mètres/blocs.
-        super(x, y, 32f / GameScreen.getPixelsPerBlocks(), 32f / GameScreen.getPixelsPerBlocks(), 50, 5, target, allentities);
+        super(x, y, 32f / GameScreen.getPixelsPerBlocks(), 32f / GameScreen.getPixelsPerBlocks(), 50, 5, target, environment);
 
         // --- CONFIGURATION DU RESSENTI (Game Feel) ---
 
@@ -0,0 +1,76 @@
+package com.EthanKnittel.entities.artifacts;
+
+import com.EthanKnittel.game.GameScreen;
+
+/**
+ * Description d'un type de projectile (Flèches, Balles, Magie) : vitesse, dégâts, durée de vie, hitbox.
+ * <p>
+ * Les projectiles ne sont pas des entités : ils vivent dans les tableaux du
+ * {@link com.EthanKnittel.world.systems.ProjectileSystem}, qui ne retient que l'identifiant du type
+ * de chaque projectile. Un type est donc décrit une seule fois, ici, et partagé par tous ses tirs.
+ * </p>
+ */
+public final class ProjectileType {
+
+    /**
+     * Flèche de feu tirée par le joueur : rapide, dégâts modérés, trajectoire rectiligne
+     * vers la position visée par la souris au moment du tir.
+     * <p>
+     * 25 dégâts = tue un Cactus ou un Ordi en 2 coups. 3 secondes de vie : suffisant pour traverser l'écran.
+     * La hitbox est fine et longue (16x3 pixels convertis en unités du monde).
+     * </p>
+     */
+    public static final ProjectileType FireArrow = new ProjectileType(0, 50f, 25, 3.0f,
+        16f / GameScreen.getPixelsPerBlocks(), 3f / GameScreen.getPixelsPerBlocks());
+
+    /** Nombre de types déclarés (les identifiants vont de 0 à {@code TypeCount - 1}). */
+    public static final int TypeCount = 1;
+
+    private final int id;
+    private final float speed;
+    private final int damage;
+    private final float lifeTime;
+    private final float width;
+    private final float height;
+
+    /**
+     * @param id       Identifiant unique (sert d'index aux tables du rendu).
+     * @param speed    Vitesse de déplacement (Unités/Seconde).
+     * @param damage   Dégâts infligés à l'ennemi touché.
+     * @param lifeTime Durée (en secondes) avant disparition automatique.
+     * @param width    Largeur de la hitbox.
+     * @param height   Hauteur de la hitbox.
+     */
+    private ProjectileType(int id, float speed, int damage, float lifeTime, float width, float height) {
+        this.id = id;
+        this.speed = speed;
+        this.damage = damage;
+        this.lifeTime = lifeTime;
+        this.width = width;
+        this.height = height;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public float getSpeed() {
+        return speed;
+    }
+
+    public int getDamage() {
+        return damage;
+    }
+
+    public float getLifeTime() {
+        return lifeTime;
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+}
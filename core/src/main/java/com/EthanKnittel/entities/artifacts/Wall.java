@@ -35,6 +35,9 @@ public class Wall extends Artifact{
         super(x, y, width, height);
 
         this.visible = visible;
+
+        // Un mur ne bouge jamais : l'Environment le range dans la partie "statique" du monde
+        this.setIsStatic(true);
     }
 
     public boolean getVisible() {
@@ -49,7 +52,8 @@ public class Wall extends Artifact{
      * <p>
      * <b>Optimisation :</b> Cette méthode est volontairement vide.
      * Un mur est statique, il ne bouge pas, ne réfléchit pas et n'a pas d'animation.
-     * Ne rien faire ici économise du CPU quand on a des centaines de murs dans un niveau.
+     * De plus, l'{@link com.EthanKnittel.world.systems.Environment} n'appelle même pas cette méthode
+     * pour les entités statiques.
      * </p>
      */
     @Override
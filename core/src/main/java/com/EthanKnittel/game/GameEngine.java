@@ -1,6 +1,8 @@
 package com.EthanKnittel.game;
 
+import com.EthanKnittel.assets.AssetCache;
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.utils.TimeUtils;
 
 /**
  * Moteur principal du jeu (Entry Point).
@@ -16,6 +18,9 @@ import com.badlogic.gdx.Game;
  */
 public class GameEngine extends Game {
 
+    /** Instant (en millisecondes) du lancement de l'application, pour mesurer le temps de démarrage. */
+    private static long launchTime;
+
     /**
      * Appelé une seule fois au démarrage de l'application.
      * <p>
@@ -25,6 +30,8 @@ public class GameEngine extends Game {
      */
     @Override
     public void create() {
+        launchTime = TimeUtils.millis();
+
         // On lance le menu principal dès le démarrage
         setScreen(new MainMenuScreen());
     }
@@ -40,6 +47,13 @@ public class GameEngine extends Game {
 
     // @Override public void render() { super.render(); }
 
+    /**
+     * @return L'instant (en millisecondes, voir {@link TimeUtils#millis()}) du lancement de l'application.
+     */
+    public static long getLaunchTime() {
+        return launchTime;
+    }
+
     /**
      * Appelé à la fermeture de l'application.
      * <p>
@@ -51,5 +65,10 @@ public class GameEngine extends Game {
         // Il est important d'appeler super.dispose() car la classe Game
         // se charge d'appeler .dispose() sur l'écran qui était actif.
         super.dispose();
+
+        // Les ressources graphiques partagées encore en mémoire (textures, atlas)
+        if (AssetCache.instance != null) {
+            AssetCache.instance.dispose();
+        }
     }
 }
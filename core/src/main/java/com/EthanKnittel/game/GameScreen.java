@@ -1,5 +1,6 @@
 package com.EthanKnittel.game;
 
+import com.EthanKnittel.assets.AssetCache;
 import com.EthanKnittel.audio.AudioManager;
 import com.EthanKnittel.graphics.WorldRenderer;
 import com.EthanKnittel.graphics.entity.PlayerView;
@@ -22,6 +23,7 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
@@ -105,7 +107,33 @@ public class GameScreen implements Screen, MenuCallback {
      */
     private float startCooldown = 3.0f;
 
+    // --- BOUCLE À PAS FIXE (Fixed Timestep) ---
+    // La simulation (physique, IA, spawns) avance toujours par pas de même durée, quel que soit le nombre
+    // d'images par seconde : le jeu se comporte donc pareil à 30, 60 ou 144 Hz.
+    // L'affichage interpole ensuite les positions entre les deux derniers pas.
+
+    /** Fréquence de simulation par défaut (ticks par seconde). */
+    private static final float DefaultTickRate = 60f;
+
+    /** Durée d'un tick de simulation (en secondes). */
+    private float fixedTimeStep = 1f / DefaultTickRate;
+
+    /**
+     * Nombre maximum de ticks joués dans une seule frame.
+     * <p>
+     * Protection contre la "spirale de la mort" : si une frame est très lente (chargement, lag),
+     * on ne tente pas de rattraper tout le retard, ce qui ralentirait encore plus la frame suivante.
+     * </p>
+     */
+    private int maxTicksPerFrame = 5;
+
+    /** Temps réel écoulé mais pas encore simulé (toujours inférieur à un tick après la boucle). */
+    private float accumulator = 0f;
+
     // --- GESTION DES NIVEAUX ---
+    /** Préchargement du démarrage (audio, atlas, premier niveau), lancé pendant le menu principal. */
+    private final StartupLoader startup;
+
     /** Système de rotation des cartes Tiled (.tmx). */
     private LevelManager levelManager;
 
@@ -119,8 +147,8 @@ public class GameScreen implements Screen, MenuCallback {
      */
     private enum State {
         Play,       // Jeu normal
-        Fading_Out, // L'écran devient noir (Fin de niveau)
-        Loading,    // Chargement technique du niveau suivant
+        Fading_Out, // L'écran devient noir (Fin de niveau), le niveau suivant finit de se charger en arrière-plan
+        Loading,    // Écran noir : on attend que le niveau suivant soit prêt, puis on l'installe
         Fading_In   // L'écran redevient visible (Début de niveau)
     }
 
@@ -130,12 +158,43 @@ public class GameScreen implements Screen, MenuCallback {
     private float fadeAlpha = 0f;
     private float fadeSpeed = 1.0f; // Vitesse de la transition
 
+    /**
+     * Accélération du fondu sortant une fois le niveau suivant prêt.
+     * Le fondu ne sert plus qu'à cacher le changement de carte : inutile d'attendre la rampe complète.
+     */
+    private static final float ReadyFadeSpeedFactor = 4f;
+
+    // --- MESURE DU DÉMARRAGE ---
+    /** Instant (en millisecondes) de l'affichage de l'écran, c'est-à-dire du clic sur "Lancer". */
+    private long showTime;
+
+    /** Temps (en millisecondes) entre le clic sur "Lancer" et la première image jouable (-1 = pas encore affichée). */
+    private long firstPlayableFrameMillis = -1;
+
+    /**
+     * Crée l'écran de jeu sans préchargement : tout sera chargé (de façon bloquante) dans {@link #show()}.
+     */
+    public GameScreen() {
+        this(new StartupLoader());
+    }
+
+    /**
+     * Crée l'écran de jeu à partir d'un préchargement déjà lancé (ex: pendant le menu principal).
+     *
+     * @param startup Le préchargement, dont l'écran devient propriétaire (il le libère dans {@link #dispose()}).
+     */
+    public GameScreen(StartupLoader startup) {
+        this.startup = startup;
+    }
+
     /**
      * Initialisation de l'écran.
      * Appelé par {@link GameEngine} lors du `setScreen()`.
      */
     @Override
     public void show() {
+        showTime = TimeUtils.millis();
+
         // 1. Initialisation des outils de base
         keyboardInput = new KeyboardInput();
         mouseInput = new MouseInput();
@@ -146,12 +205,14 @@ public class GameScreen implements Screen, MenuCallback {
         saveManager = SaveManager.getInstance();
         audioManager = AudioManager.getInstance();
 
-        // Chargement des sons
+        // Fin du préchargement : seul ce qui n'a pas eu le temps de se charger pendant le menu bloque encore
+        startup.finish();
+        levelManager = startup.getLevelManager();
+
+        // Sons (déjà chargés : on ne fait que les récupérer)
         loadAudioAssets();
         audioManager.playMusic("background_Music", true);
 
-        levelManager = new LevelManager();
-
         // 2. Configuration de la Caméra
         // On calcule la taille du monde visible en divisant la résolution par l'échelle des blocs et le zoom
         float worldWidth = (800f / PixelsPerBlocks) / zoom;
@@ -171,11 +232,9 @@ public class GameScreen implements Screen, MenuCallback {
         // 4. Création du Monde (Physique + Entités)
         environment = new Environment();
 
-        // Chargement initial d'une carte (la première disponible via le LevelManager)
-        loadLevel(levelManager.getNextMapPath());
-
-        // Création/Réinitialisation du joueur
-        createPlayerAndLevel();
+        // Création du joueur, puis installation du premier niveau (préchargé : la carte n'est lue qu'une fois)
+        createPlayer();
+        installLoadedLevel();
 
         // 5. Initialisation des systèmes dépendants du monde
         worldRenderer = new WorldRenderer(environment, batch, gameCamera);
@@ -196,56 +255,72 @@ public class GameScreen implements Screen, MenuCallback {
     }
 
     /**
-     * Charge un nouveau niveau dans l'environnement.
+     * Installe le niveau préchargé en arrière-plan par le {@link LevelManager}.
+     */
+    private void installLoadedLevel() {
+        String levelPath = levelManager.peekNextMapPath();
+        try {
+            installLevel(levelManager.takeNextLevel());
+        } catch (Exception e) {
+            loadFallbackLevel(levelPath, e);
+        }
+    }
+
+    /**
+     * Installe un niveau dans l'environnement.
      * <p>
-     * Cette méthode s'occupe de nettoyer l'ancien niveau, charger le fichier .tmx,
-     * et repositionner le joueur au point de départ défini dans Tiled.
+     * Cette méthode s'occupe de nettoyer l'ancien niveau, de construire le nouveau (si ce n'est pas déjà fait)
+     * et de repositionner le joueur au point de départ défini dans Tiled.
      * </p>
      *
-     * @param levelPath Chemin vers le fichier .tmx.
+     * @param level Le niveau à installer.
      */
-    private void loadLevel(String levelPath) {
-        try {
-            // Nettoyage des entités de l'ancien niveau (sauf le joueur qu'on va réutiliser/réinitialiser)
-            if (environment.getLevel() != null) {
-                environment.getEntities().clear();
-            }
+    private void installLevel(TiledLevel level) {
+        // Nettoyage des entités de l'ancien niveau (sauf le joueur qu'on va réutiliser/réinitialiser)
+        if (environment.getLevel() != null) {
+            environment.clearEntities();
+        }
 
-            // Création du niveau Tiled
-            TiledLevel level = new TiledLevel(levelPath);
-            environment.setLevel(level);
+        environment.setLevel(level);
 
-            // Notification au Renderer que la carte a changé (pour qu'il recrée le TiledMapRenderer)
-            if (worldRenderer != null) {
-                worldRenderer.setLevel(level);
-            }
+        // Notification au Renderer que la carte a changé (pour qu'il recrée le TiledMapRenderer)
+        if (worldRenderer != null) {
+            worldRenderer.setLevel(level);
+        }
 
-            // Gestion de la santé du joueur (Restauration ou création)
-            if (player == null) {
-                // Sera créé dans createPlayerAndLevel() si null
-            } else {
-                player.setCurrenthealth(player.getMaxHealth());
-            }
+        // Gestion de la santé du joueur (Restauration)
+        if (player != null) {
+            player.setCurrenthealth(player.getMaxHealth());
+        }
 
-            // Repositionnement du joueur au spawn (défini dans le calque "Setup" de Tiled)
-            if (player != null) {
-                player.setVelocity(0, 0); // On stop le mouvement
-                player.setPosXY(level.getPlayerSpawnPoint().x, level.getPlayerSpawnPoint().y);
-            }
+        // Repositionnement du joueur au spawn (défini dans le calque "Setup" de Tiled)
+        if (player != null) {
+            player.setVelocity(0, 0); // On stop le mouvement
+            player.setPosXY(level.getPlayerSpawnPoint().x, level.getPlayerSpawnPoint().y);
+            player.wakeUp(); // Téléporté : la physique doit le reprendre (il a pu s'endormir sur l'ancienne carte)
+        }
 
-            // Réinsertion du joueur et des mobs statiques dans le nouveau monde
-            environment.addEntity(player);
-            level.spawnStaticMobs(player, environment.getEntities());
+        // Réinsertion du joueur et des mobs statiques dans le nouveau monde
+        environment.addEntity(player);
+        level.spawnStaticMobs(player, environment);
 
-            // On remet le timer de sécurité (avant les vagues de monstres
-            startCooldown = 3.0f;
+        // On remet le timer de sécurité (avant les vagues de monstres
+        startCooldown = 3.0f;
 
-        } catch (Exception e) {
-            // Fallback : Si le fichier plante, on charge un niveau de test généré par code
-            Gdx.app.error("GameScreen", "Erreur de chargement de niveaux" + levelPath, e);
-            environment.setLevel(new TestLevel());
-            environment.addEntity(player);
+        // Le joueur vient d'être téléporté : pas d'interpolation depuis son ancienne position
+        if (player != null) {
+            player.resetInterpolation();
         }
+        accumulator = 0f;
+    }
+
+    /**
+     * Fallback : Si le fichier plante, on charge un niveau de test généré par code.
+     */
+    private void loadFallbackLevel(String levelPath, Exception e) {
+        Gdx.app.error("GameScreen", "Erreur de chargement de niveaux" + levelPath, e);
+        environment.setLevel(new TestLevel());
+        environment.addEntity(player);
     }
 
     /**
@@ -279,7 +354,11 @@ public class GameScreen implements Screen, MenuCallback {
     public void onRestart() {
         // Appelé quand on clique sur "Recommencer" (Mort)
         // On recharge simplement un nouveau GameScreen
-        ((GameEngine) Gdx.app.getApplicationListener()).setScreen(new GameScreen());
+        // Le préchargement reprend des références sur l'audio et les atlas avant que l'ancien écran ne rende les siennes :
+        // ils restent en mémoire au lieu d'être rechargés
+        StartupLoader restartLoader = new StartupLoader();
+        restartLoader.start();
+        ((GameEngine) Gdx.app.getApplicationListener()).setScreen(new GameScreen(restartLoader));
         scoreManager.setScore(0);
     }
 
@@ -312,7 +391,8 @@ public class GameScreen implements Screen, MenuCallback {
      * C'est ici que tout se joue. La méthode est divisée en 3 phases classiques :
      * <ol>
      * <li><b>INPUT :</b> Lecture des touches (Escape pour pause).</li>
-     * <li><b>UPDATE :</b> Mise à jour de la logique du monde (Physique, IA) si le jeu n'est pas en pause.</li>
+     * <li><b>UPDATE :</b> Mise à jour de la logique du monde (Physique, IA) si le jeu n'est pas en pause,
+     * par ticks de durée fixe (voir {@link #simulateTick(float)}).</li>
      * <li><b>RENDER :</b> Dessin des éléments à l'écran (Monde, UI, Effets).</li>
      * </ol>
      * </p>
@@ -339,44 +419,47 @@ public class GameScreen implements Screen, MenuCallback {
         // On ne met à jour le monde que si le jeu est actif (Pas de pause, Pas de Game Over)
         if (!isPaused && !isGameOver) {
 
+            // Préchargement du niveau suivant : envoi des textures (temps limité par frame) et suivi de la préparation
+            levelManager.update();
+
             // A. ÉTAT : EN JEU (PLAY) - Comportement standard
             if (currentState == State.Play) {
-                // On plafonne le delta time pour éviter les bugs de physique si le jeu lague (max 1/16s)
-                float effectiveDelta = Math.min(delta, 1 / 16f);
-
-                // 1. Gestion du Cooldown de début de niveau (Sécurité anti-spawn kill)
-                if (startCooldown > 0) {
-                    startCooldown -= effectiveDelta;
+                // 1. Update du Joueur (Mouvements, Actions)
+                // Les inputs sont lus une fois par frame : un appui ponctuel (saut, tir) n'est jamais perdu ni doublé.
+                playerController.update(delta);
+
+                // 2. Simulation par pas fixes
+                // Le niveau de détail est centré sur la zone visible (caméra de la frame précédente).
+                environment.getSimulationLod().setFocus(gameCamera.position.x, gameCamera.position.y,
+                    gameViewport.getWorldWidth() / 2f, gameViewport.getWorldHeight() / 2f);
+                // On accumule le temps réel écoulé, puis on le "consomme" tick par tick.
+                accumulator += delta;
+                int ticks = 0;
+                while (accumulator >= fixedTimeStep && ticks < maxTicksPerFrame) {
+                    simulateTick(fixedTimeStep);
+                    accumulator -= fixedTimeStep;
+                    ticks++;
                 }
-
-                // 2. Update du Joueur (Mouvements, Actions)
-                playerController.update(effectiveDelta);
-
-                // 3. Update des Zones de Spawn (Vagues d'ennemis)
-                // On attend que le cooldown soit fini pour commencer à faire apparaître des monstres
-                if (startCooldown <= 0 && environment.getLevel().getClass().equals(TiledLevel.class)) {
-                    TiledLevel level = (TiledLevel) environment.getLevel();
-                    for (SpawnZone zone : level.getSpawnZones()) {
-                        zone.update(effectiveDelta, player, environment.getEntities());
-                    }
+                // Trop de retard (plafond atteint) : on abandonne les ticks en trop plutôt que de les reporter
+                if (ticks == maxTicksPerFrame) {
+                    accumulator %= fixedTimeStep;
                 }
 
-                // 4. Update Global (Physique, Score, Interface)
-                environment.update(effectiveDelta);      // Déplacements & Collisions
-                scoreManager.update(effectiveDelta);     // Temps & Points passifs
-                gameHud.update(player);                  // Barre de vie & Textes
+                // 3. Interface
+                gameHud.update(player); // Barre de vie & Textes
 
-                // 5. Caméra : Elle suit le joueur
-                // On centre la caméra sur les coordonnées X,Y du joueur
-                gameCamera.position.set(player.getX(), player.getY(), 0);
+                // 4. Interpolation & Caméra : Elle suit la position AFFICHÉE du joueur
+                worldRenderer.interpolate(accumulator / fixedTimeStep);
+                gameCamera.position.set(player.getRenderX(), player.getRenderY(), 0);
                 gameCamera.update(); // Recalcul des matrices de projection
 
-                // 6. Condition de Victoire : Changement de niveau ?
+                // 5. Condition de Victoire : Changement de niveau ?
                 if (CompleteLevelCondition()) {
+                    // Le niveau suivant a été préchargé pendant la partie (sinon il finit de se charger pendant le fondu)
                     currentState = State.Fading_Out; // On lance la transition de fin
                 }
 
-                // 7. Condition de Défaite : Mort ?
+                // 6. Condition de Défaite : Mort ?
                 if (player.getCurrenthealth() <= 0) {
                     isGameOver = true;
                     saveStats(); // On enregistre le score final
@@ -385,25 +468,30 @@ public class GameScreen implements Screen, MenuCallback {
             }
 
             // B. ÉTAT : FONDU SORTANT (L'écran devient noir)
-            // Transition visuelle avant de changer de niveau
+            // Transition visuelle avant de changer de niveau. Dès que le niveau suivant est prêt (souvent : dès le début,
+            // grâce au préchargement), le reste du fondu est accéléré pour l'installer au plus tôt.
             else if (currentState == State.Fading_Out) {
-                fadeAlpha += delta * fadeSpeed; // On augmente l'opacité
+                float speed = levelManager.isNextLevelReady() ? fadeSpeed * ReadyFadeSpeedFactor : fadeSpeed;
+                fadeAlpha += delta * speed; // On augmente l'opacité
                 if (fadeAlpha >= 1f) {
                     fadeAlpha = 1f; // Noir total
-                    currentState = State.Loading; // L'écran est caché, on peut charger la suite
+                    currentState = State.Loading; // L'écran est caché, on peut installer la suite
                 }
             }
 
-            // C. ÉTAT : CHARGEMENT TECHNIQUE
-            else if (currentState == State.Loading) {
-                // Chargement effectif du fichier .tmx suivant
-                loadLevel(levelManager.getNextMapPath());
+            // C. ÉTAT : ATTENTE DU NIVEAU SUIVANT
+            // L'écran reste noir seulement tant que le chargement n'est pas fini (souvent : aucune frame)
+            if (currentState == State.Loading) {
+                if (levelManager.isNextLevelReady()) {
+                    // Installation du niveau déjà construit (plus de lecture de fichier ici)
+                    installLoadedLevel();
 
-                // Augmentation du score requis pour le prochain niveau
-                scoreToChangeMap += 1000;
+                    // Augmentation du score requis pour le prochain niveau
+                    scoreToChangeMap += 1000;
 
-                // On lance le fondu entrant (réapparition de l'image)
-                currentState = State.Fading_In;
+                    // On lance le fondu entrant (réapparition de l'image)
+                    currentState = State.Fading_In;
+                }
             }
 
             // D. ÉTAT : FONDU ENTRANT (L'écran redevient clair)
@@ -412,13 +500,14 @@ public class GameScreen implements Screen, MenuCallback {
 
                 // Important : On force la caméra sur le joueur immédiatement
                 // pour éviter qu'elle ne "saute" visuellement d'un coup quand l'image revient.
-                gameCamera.position.set(player.getX(), player.getY(), 0);
+                worldRenderer.interpolate(1f);
+                gameCamera.position.set(player.getRenderX(), player.getRenderY(), 0);
                 gameCamera.update();
 
                 if (fadeAlpha <= 0f) {
                     fadeAlpha = 0f;
                     currentState = State.Play; // Retour au jeu normal
-                    // Note: 'startCooldown' a déjà été remis à 3.0f dans loadLevel()
+                    // Note: 'startCooldown' a déjà été remis à 3.0f dans installLevel()
                 }
             }
         }
@@ -451,6 +540,28 @@ public class GameScreen implements Screen, MenuCallback {
         // On nettoie les états "Just Pressed" des inputs pour la prochaine frame
         keyboardInput.update();
         mouseInput.update();
+
+        // --- 4. MESURE DU DÉMARRAGE ---
+        if (firstPlayableFrameMillis < 0 && currentState == State.Play) {
+            reportFirstPlayableFrame();
+        }
+    }
+
+    /**
+     * Affiche le temps de démarrage de la partie : du clic sur "Lancer" (et du lancement du jeu) à la première image jouable.
+     */
+    private void reportFirstPlayableFrame() {
+        firstPlayableFrameMillis = TimeUtils.timeSinceMillis(showTime);
+        Gdx.app.log("GameScreen", "Première image jouable : " + firstPlayableFrameMillis + " ms après le clic sur Lancer, "
+            + TimeUtils.timeSinceMillis(GameEngine.getLaunchTime()) + " ms depuis le lancement du jeu"
+            + " (préchargement : " + startup.getLoadMillis() + " ms)");
+    }
+
+    /**
+     * @return Le temps (en millisecondes) entre le clic sur "Lancer" et la première image jouable, ou -1 si elle n'a pas encore été affichée.
+     */
+    public long getFirstPlayableFrameMillis() {
+        return firstPlayableFrameMillis;
     }
 
     // -----------------------------------------------------------
@@ -524,13 +635,47 @@ public class GameScreen implements Screen, MenuCallback {
         if (audioManager != null) audioManager.dispose();
         if (playerView != null) playerView.dispose();
         if (worldRenderer != null) worldRenderer.dispose();
-        if (environment != null) environment.getLevel().dispose();
+        startup.dispose(); // Préchargement abandonné, cartes gardées en mémoire, audio et atlas rendus au cache
+        if (environment != null) {
+            environment.getLevel().dispose();
+            environment.dispose(); // Threads de la simulation
+        }
+        if (AssetCache.instance != null) AssetCache.instance.logStats(); // Bilan du partage des textures pendant la partie
     }
 
     // -----------------------------------------------------------
     // MÉTHODES PRIVÉES (Helper Methods)
     // -----------------------------------------------------------
 
+    /**
+     * Joue un tick de simulation de durée fixe.
+     * <p>
+     * Contient tout ce qui dépend du temps de jeu : cooldown de début de niveau, vagues d'ennemis,
+     * physique/IA (via l'{@link Environment}) et score passif.
+     * </p>
+     *
+     * @param tickDelta Durée du tick (toujours {@link #fixedTimeStep}).
+     */
+    private void simulateTick(float tickDelta) {
+        // 1. Gestion du Cooldown de début de niveau (Sécurité anti-spawn kill)
+        if (startCooldown > 0) {
+            startCooldown -= tickDelta;
+        }
+
+        // 2. Update des Zones de Spawn (Vagues d'ennemis)
+        // On attend que le cooldown soit fini pour commencer à faire apparaître des monstres
+        if (startCooldown <= 0 && environment.getLevel().getClass().equals(TiledLevel.class)) {
+            TiledLevel level = (TiledLevel) environment.getLevel();
+            for (SpawnZone zone : level.getSpawnZones()) {
+                zone.update(tickDelta, player, environment);
+            }
+        }
+
+        // 3. Update Global (Physique, Score)
+        environment.update(tickDelta);      // Déplacements & Collisions
+        scoreManager.update(tickDelta);     // Temps & Points passifs
+    }
+
     /**
      * Sauvegarde les statistiques de la session en cours via le SaveManager.
      */
@@ -547,42 +692,20 @@ public class GameScreen implements Screen, MenuCallback {
      * Pré-charge les sons essentiels du jeu.
      */
     private void loadAudioAssets() {
-        audioManager.loadMusic("background_Music", "Audio/music/Bonus_Points/Bonus_Points.mp3");
-        audioManager.loadSound("jumpEffectSound", "Audio/soundEffect/12_Player_Movement_SFX/30_Jump_03.wav");
+        audioManager.loadMusic("background_Music", StartupLoader.BackgroundMusicPath);
+        audioManager.loadSound("jumpEffectSound", StartupLoader.JumpSoundPath);
     }
 
     /**
-     * Initialise le joueur et charge un niveau par défaut si nécessaire.
-     * <p>
-     * Cette méthode sert de point de départ robuste : si le chargement de la carte Tiled échoue,
-     * elle charge un niveau de test généré procéduralement pour éviter le crash.
-     * </p>
+     * Crée le joueur (il est placé au point de départ du niveau par {@link #installLevel(TiledLevel)}).
      */
-    private void createPlayerAndLevel() {
+    private void createPlayer() {
         // Calcul des dimensions du joueur (converties en unités monde)
         float playerWidth = 32f / PixelsPerBlocks;
         float playerHeight = 32f / PixelsPerBlocks;
         // Création de l'entité Joueur
         // (PV: 100, Dégâts: 20, MaxSauts: 2)
         player = new Player(10f, 2f, playerWidth, playerHeight, 100, 20, 2, environment, gameViewport);
-
-        try {
-            // Tentative de chargement du niveau par défaut (4.tmx)
-            TiledLevel level = new TiledLevel("TiledLevels/4.tmx");
-            environment.setLevel(level);
-            // Placement au spawn
-            if (level.getPlayerSpawnPoint() != null) {
-                player.setPosXY(level.getPlayerSpawnPoint().x, level.getPlayerSpawnPoint().y);
-            }
-            // Ajout des mobs
-            level.spawnStaticMobs(player, environment.getEntities());
-        } catch (Exception e) {
-            // En cas d'erreur (ex: fichier introuvable), on charge le niveau de test (Rectangles simples)
-            Gdx.app.error("GameScreen", "Erreur loading level", e);
-            environment.setLevel(new TestLevel());
-        }
-        // Ajout final du joueur au monde
-        environment.addEntity(player);
     }
 
     /**
@@ -592,4 +715,29 @@ public class GameScreen implements Screen, MenuCallback {
     public static float getPixelsPerBlocks() {
         return PixelsPerBlocks;
     }
+
+    public float getTickRate() {
+        return 1f / fixedTimeStep;
+    }
+
+    /**
+     * Change la fréquence de la simulation.
+     * @param ticksPerSecond Nombre de ticks par seconde (ex: 60, 120).
+     */
+    public void setTickRate(float ticksPerSecond) {
+        this.fixedTimeStep = 1f / ticksPerSecond;
+        this.accumulator = 0f;
+    }
+
+    public int getMaxTicksPerFrame() {
+        return maxTicksPerFrame;
+    }
+
+    /**
+     * Change le plafond de ticks joués par frame (protection contre la "spirale de la mort").
+     * @param maxTicksPerFrame Au moins 1.
+     */
+    public void setMaxTicksPerFrame(int maxTicksPerFrame) {
+        this.maxTicksPerFrame = Math.max(1, maxTicksPerFrame);
+    }
 }
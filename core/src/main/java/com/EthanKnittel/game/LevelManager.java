@@ -1,8 +1,12 @@
 package com.EthanKnittel.game;
 
+import com.EthanKnittel.world.LevelLoader;
+import com.EthanKnittel.world.MapCache;
+import com.EthanKnittel.world.TiledLevel;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
 import java.util.Random;
 
 /**
@@ -16,8 +20,24 @@ import java.util.Random;
  * Elle inclut une logique "Anti-Répétition" pour éviter que le joueur ne tombe
  * deux fois de suite sur la même carte.
  * </p>
+ * <p>
+ * <b>Préchargement :</b> le niveau suivant est choisi à l'avance ({@link #peekNextMapPath()}) et chargé en
+ * arrière-plan pendant que le niveau en cours est joué ({@link #update()}). À la fin du niveau, il est
+ * généralement déjà prêt ({@link #isNextLevelReady()}, {@link #takeNextLevel()}).
+ * Les dernières cartes jouées restent en mémoire dans un {@link MapCache} (nombre de cartes et mémoire limités) :
+ * y revenir ne recharge rien depuis le disque.
+ * </p>
  */
-public class LevelManager {
+public class LevelManager implements Disposable {
+
+    /** Nombre maximal de cartes gardées en mémoire. */
+    private static final int DefaultMapCacheEntries = 3;
+
+    /** Mémoire maximale (estimée) des cartes gardées en mémoire : 64 Mo. */
+    private static final long DefaultMapCacheBytes = 64L * 1024 * 1024;
+
+    /** Nombre d'essais (avec un nouveau tirage à chaque fois) pour charger un niveau, avant de se rabattre sur le niveau de test. */
+    private static final int MaxLoadAttempts = 3;
 
     /** Liste de tous les chemins de fichiers .tmx trouvés dans le dossier. */
     private Array<String> mapFiles;
@@ -28,6 +48,18 @@ public class LevelManager {
     /** Générateur de nombres aléatoires. */
     private Random random;
 
+    /** Prochain niveau, choisi à l'avance ({@code null} = pas encore choisi). */
+    private String plannedMap;
+
+    /** Les dernières cartes jouées, gardées en mémoire. */
+    private final MapCache mapCache;
+
+    /** Chargeur du prochain niveau (en arrière-plan). */
+    private final LevelLoader loader;
+
+    /** Nombre d'échecs de chargement depuis le dernier niveau récupéré. */
+    private int failedAttempts = 0;
+
     /**
      * Constructeur.
      * <p>
@@ -38,6 +70,8 @@ public class LevelManager {
     public LevelManager() {
         random = new Random();
         mapFiles = new Array<>();
+        mapCache = new MapCache(DefaultMapCacheEntries, DefaultMapCacheBytes);
+        loader = new LevelLoader(mapCache);
 
         // Gdx.files.internal pointe vers le dossier "assets" du projet (Android/Desktop).
         FileHandle dir = Gdx.files.internal("TiledLevels/");
@@ -49,14 +83,40 @@ public class LevelManager {
     }
 
     /**
-     * Sélectionne aléatoirement le prochain niveau à charger.
+     * Sélectionne aléatoirement le prochain niveau à charger, tout de suite (chargement bloquant).
      * <p>
      * La méthode garantit (si possible) que le niveau retourné sera différent du niveau actuel.
+     * Un préchargement en cours est abandonné (le choix qu'il suivait aussi).
      * </p>
      *
      * @return Le chemin complet du fichier (ex: "TiledLevels/map2.tmx").
      */
     public String getNextMapPath(){
+        loader.cancel();
+        plannedMap = null;
+
+        String nextMap = pickMap();
+        // On mémorise ce choix pour la prochaine fois
+        currentMap = nextMap;
+        return nextMap;
+    }
+
+    /**
+     * Renvoie le prochain niveau, choisi à l'avance (le choix est fait au premier appel, puis gardé).
+     *
+     * @return Le chemin du niveau qui suivra le niveau actuel.
+     */
+    public String peekNextMapPath() {
+        if (plannedMap == null) {
+            plannedMap = pickMap();
+        }
+        return plannedMap;
+    }
+
+    /**
+     * Tire une carte au hasard, différente (si possible) de la carte actuelle.
+     */
+    private String pickMap() {
         // Cas 1 : Aucun fichier trouvé (Erreur ou dossier vide)
         // On retourne un niveau par défaut codé en dur pour éviter le crash.
         if (mapFiles.size == 0){
@@ -76,12 +136,86 @@ public class LevelManager {
             int index = random.nextInt(mapFiles.size);
             nextMap = mapFiles.get(index);
         } while (nextMap.equals(currentMap));
-
-        // On mémorise ce choix pour la prochaine fois
-        currentMap = nextMap;
         return nextMap;
     }
 
+    /**
+     * Fait avancer le préchargement du prochain niveau. À appeler à chaque frame, sur le thread de rendu.
+     * <p>
+     * Lance le chargement s'il n'est pas déjà lancé : la carte (et ses textures, en quelques millisecondes par frame)
+     * puis la construction des collisions, en arrière-plan.
+     * </p>
+     */
+    public void update() {
+        if (loader.isIdle()) {
+            loader.start(peekNextMapPath());
+        }
+        loader.update();
+        retryIfFailed();
+    }
+
+    /**
+     * Abandonne un préchargement qui a échoué (ex: fichier illisible, erreur passagère), plutôt que de le garder
+     * jusqu'à la fin du niveau : un nouveau tirage sera chargé, tant qu'il reste des essais.
+     *
+     * @return {@code true} si un nouvel essai est prévu.
+     */
+    private boolean retryIfFailed() {
+        if (loader.getError() == null || failedAttempts >= MaxLoadAttempts - 1) {
+            return false;
+        }
+        failedAttempts++;
+        Gdx.app.error("LevelManager", "Chargement impossible de " + plannedMap + ", nouvel essai (" + failedAttempts + ")", loader.getError());
+        loader.cancel();
+        plannedMap = null;
+        return true;
+    }
+
+    /**
+     * Termine le chargement du prochain niveau sans rendre la main (le lance d'abord s'il ne l'est pas encore).
+     * <p>
+     * Sert au démarrage d'une partie : le premier niveau est préchargé pendant le menu principal,
+     * mais le joueur peut cliquer sur "Lancer" avant la fin.
+     * </p>
+     */
+    public void finishNextLevel() {
+        do {
+            if (loader.isIdle()) {
+                loader.start(peekNextMapPath());
+            }
+            loader.finishLoading();
+        } while (retryIfFailed());
+    }
+
+    /** @return {@code true} si le prochain niveau est prêt (ou a échoué) : {@link #takeNextLevel()} ne bloquera pas. */
+    public boolean isNextLevelReady() {
+        return loader.isDone();
+    }
+
+    /**
+     * Récupère le prochain niveau préchargé ; il devient le niveau actuel.
+     *
+     * @return Le niveau, déjà préparé.
+     * @throws com.badlogic.gdx.utils.GdxRuntimeException si le chargement n'est pas terminé ou a échoué.
+     */
+    public TiledLevel takeNextLevel() {
+        // Réussi ou non, ce choix est consommé : le suivant sera tiré au prochain update()
+        currentMap = peekNextMapPath();
+        plannedMap = null;
+        failedAttempts = 0;
+        return loader.finish();
+    }
+
+    /** @return Le cache des dernières cartes jouées. */
+    public MapCache getMapCache() {
+        return mapCache;
+    }
+
+    /** @return Le chargeur du prochain niveau (ex: pour régler son budget de temps par frame). */
+    public LevelLoader getLoader() {
+        return loader;
+    }
+
     /**
      * Définit manuellement le niveau actuel.
      * <p>
@@ -93,5 +227,19 @@ public class LevelManager {
      */
     public void setCurrentMap(String path){
         this.currentMap = path;
+        // Le niveau déjà choisi pour la suite ne doit pas être celui-ci
+        if (path != null && path.equals(plannedMap) && mapFiles.size > 1) {
+            loader.cancel();
+            plannedMap = null;
+        }
+    }
+
+    /**
+     * Abandonne le préchargement et libère les cartes gardées en mémoire.
+     */
+    @Override
+    public void dispose() {
+        loader.dispose();
+        mapCache.dispose();
     }
 }
@@ -12,6 +12,7 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
 import com.badlogic.gdx.scenes.scene2d.ui.ScrollPane;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
@@ -36,6 +37,11 @@ import com.badlogic.gdx.utils.viewport.ExtendViewport;
  * (des {@link Table}s) que l'on affiche ou cache selon le sous-menu désiré, évitant ainsi
  * de devoir changer d'écran (Screen) pour de simples menus textuels.
  * </p>
+ * <p>
+ * Pendant que le menu est affiché, la partie se prépare en arrière-plan ({@link StartupLoader} : audio, atlas,
+ * premier niveau). Une barre sous les boutons indique l'avancement ; le préchargement est confié au {@link GameScreen}
+ * au clic sur "Lancer".
+ * </p>
  */
 public class MainMenuScreen implements Screen {
 
@@ -63,6 +69,19 @@ public class MainMenuScreen implements Screen {
     /** Référence au gestionnaire de sauvegarde pour récupérer les records. */
     private SaveManager saveManager;
 
+    // --- PRÉCHARGEMENT DE LA PARTIE ---
+    /** Préchargement de la partie ({@code null} une fois confié au GameScreen). */
+    private StartupLoader startup;
+
+    /** Barre d'avancement du préchargement. */
+    private ProgressBar loadingBar;
+
+    /** Texte de l'avancement (ex: "Chargement... 40%"). */
+    private Label loadingLabel;
+
+    /** Dernier pourcentage affiché (pour ne pas recréer le texte à chaque frame). */
+    private int shownPercent = -1;
+
     /**
      * Initialise l'écran.
      * Appelé par LibGDX au moment où cet écran devient l'écran actif.
@@ -91,6 +110,10 @@ public class MainMenuScreen implements Screen {
 
         // Au démarrage, on affiche uniquement le menu racine
         showMenu(mainTable);
+
+        // La partie commence à se charger pendant que le joueur est dans le menu
+        startup = new StartupLoader();
+        startup.start();
     }
 
     /**
@@ -130,8 +153,10 @@ public class MainMenuScreen implements Screen {
         playBtn.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                // Changement d'écran vers le jeu
-                ((GameEngine) Gdx.app.getApplicationListener()).setScreen(new GameScreen());
+                // Changement d'écran vers le jeu, qui reprend le préchargement là où il en est
+                StartupLoader loader = startup;
+                startup = null;
+                ((GameEngine) Gdx.app.getApplicationListener()).setScreen(new GameScreen(loader));
             }
         });
 
@@ -166,6 +191,12 @@ public class MainMenuScreen implements Screen {
         mainTable.add(creditsBtn).width(300).height(50).padBottom(20).row();
         mainTable.add(quitBtn).width(300).height(50).row();
 
+        // Avancement du préchargement de la partie
+        loadingBar = new ProgressBar(0f, 1f, 0.01f, false, skin);
+        loadingLabel = new Label("", skin);
+        mainTable.add(loadingBar).width(300).padTop(30).row();
+        mainTable.add(loadingLabel).padTop(5).row();
+
         // Ajout final à la scène
         stage.addActor(mainTable);
     }
@@ -335,13 +366,33 @@ public class MainMenuScreen implements Screen {
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        // 2. Mise à jour de la logique UI (Animations, survols souris)
+        // 2. Préchargement de la partie (quelques millisecondes par frame) et son affichage
+        if (startup != null) {
+            startup.update();
+            updateLoadingIndicator();
+        }
+
+        // 3. Mise à jour de la logique UI (Animations, survols souris)
         stage.act(delta);
 
-        // 3. Dessin de l'interface
+        // 4. Dessin de l'interface
         stage.draw();
     }
 
+    /**
+     * Met à jour la barre et le texte d'avancement du préchargement.
+     */
+    private void updateLoadingIndicator() {
+        float progress = startup.getProgress();
+        int percent = (int) (progress * 100);
+        if (percent == shownPercent) {
+            return;
+        }
+        shownPercent = percent;
+        loadingBar.setValue(progress);
+        loadingLabel.setText(startup.isDone() ? "Prêt" : "Chargement... " + percent + "%");
+    }
+
     /**
      * Redimensionnement de la fenêtre.
      */
@@ -365,6 +416,11 @@ public class MainMenuScreen implements Screen {
      */
     @Override
     public void dispose() {
+        // Préchargement jamais lancé en partie (ex: on quitte depuis le menu) : on rend ce qu'il a chargé
+        if (startup != null) {
+            startup.dispose();
+            startup = null;
+        }
         stage.dispose();
         skin.dispose();
         batch.dispose();
@@ -0,0 +1,206 @@
+package com.EthanKnittel.game;
+
+import com.EthanKnittel.assets.AssetCache;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Préchargement du démarrage d'une partie.
+ * <p>
+ * Auparavant, tout se chargeait d'un bloc dans {@link GameScreen#show()} après le clic sur "Lancer" : l'audio,
+ * puis une première carte... aussitôt remplacée par une seconde lecture de "TiledLevels/4.tmx".
+ * Ici, le chargement commence dès l'affichage du menu principal, sans bloquer son rendu :
+ * <ol>
+ * <li><b>Audio et atlas :</b> mis en file dans l'{@link AssetCache} (décodés sur son thread, textures envoyées
+ * à la carte graphique quelques millisecondes par frame).</li>
+ * <li><b>Premier niveau :</b> choisi et chargé une seule fois par le {@link LevelManager}, comme les niveaux suivants.</li>
+ * </ol>
+ * Le {@link GameScreen} reprend ensuite ce chargeur : {@link #finish()} termine ce qui reste (si le joueur a cliqué
+ * avant la fin), puis le niveau est récupéré avec {@link LevelManager#takeNextLevel()}.
+ * </p>
+ * <p>
+ * Le chargeur garde ses références sur les fichiers jusqu'à {@link #dispose()} (la fin de la partie) :
+ * les atlas des ennemis restent en mémoire même quand aucun ennemi n'est à l'écran.
+ * </p>
+ */
+public class StartupLoader implements Disposable {
+
+    /** Musique de fond de la partie. */
+    public static final String BackgroundMusicPath = "Audio/music/Bonus_Points/Bonus_Points.mp3";
+
+    /** Bruitage du saut. */
+    public static final String JumpSoundPath = "Audio/soundEffect/12_Player_Movement_SFX/30_Jump_03.wav";
+
+    /** Atlas des vues créées au début (joueur, projectiles) ou dès les premières vagues (ennemis). */
+    private static final String[] AtlasPaths = {
+        "Player1/Player1.atlas",
+        "FireArrow/fire_arrow.atlas",
+        "Ennemies/cactus/Cactus.atlas",
+        "Ennemies/ordi/Ordi.atlas"
+    };
+
+    /** Temps maximal (en millisecondes) passé à envoyer des textures par frame du menu. */
+    private static final int UploadBudgetMillis = 4;
+
+    /** Le gestionnaire des niveaux de la partie (il précharge le premier). */
+    private final LevelManager levelManager;
+
+    /** Fichiers mis en file (une référence prise sur chacun). */
+    private final Array<String> paths = new Array<>();
+
+    private boolean started = false;
+    private RuntimeException error;
+
+    // --- STATISTIQUES ---
+    private long startTime;
+    private long loadMillis = -1;
+
+    public StartupLoader() {
+        levelManager = new LevelManager();
+    }
+
+    /**
+     * Met en file l'audio et les atlas (le premier niveau suit au premier {@link #update()}). Sans effet si déjà lancé.
+     */
+    public void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        startTime = TimeUtils.millis();
+
+        queue(BackgroundMusicPath, Music.class);
+        queue(JumpSoundPath, Sound.class);
+        for (String atlasPath : AtlasPaths) {
+            queue(atlasPath, TextureAtlas.class);
+        }
+    }
+
+    private <T> void queue(String path, Class<T> type) {
+        AssetCache.getInstance().acquireAsync(path, type);
+        paths.add(path);
+    }
+
+    /**
+     * Fait avancer le préchargement. À appeler à chaque frame (du menu), sur le thread de rendu.
+     */
+    public void update() {
+        if (!started || isDone()) {
+            return;
+        }
+        try {
+            // 1. Le premier niveau (carte, puis collisions en arrière-plan)
+            levelManager.update();
+            // 2. L'audio et les atlas (pendant la préparation du niveau, plus personne d'autre ne fait avancer la file)
+            if (!getAssetsLoaded()) {
+                AssetCache.getInstance().update(UploadBudgetMillis);
+            }
+        } catch (RuntimeException e) {
+            // Le menu doit rester utilisable : ce qui manque est terminé (ou relancé) au lancement, par finish()
+            Gdx.app.error("StartupLoader", "Erreur pendant le préchargement", e);
+            error = e;
+            return;
+        }
+        if (isDone()) {
+            onLoaded();
+        }
+    }
+
+    /**
+     * Termine tout de suite (de façon bloquante) ce qui n'est pas encore chargé.
+     * <p>
+     * Un fichier dont le chargement a échoué est relancé une fois. S'il échoue encore, l'erreur est seulement affichée :
+     * elle est relevée par celui qui s'en sert (ex: une vue, l'{@link com.EthanKnittel.audio.AudioManager}),
+     * qui redemande le fichier au {@link AssetCache}.
+     * </p>
+     */
+    public void finish() {
+        start();
+        AssetCache cache = AssetCache.getInstance();
+        for (int i = 0; i < paths.size; i++) {
+            try {
+                cache.finishLoading(paths.get(i));
+            } catch (RuntimeException e) {
+                Gdx.app.error("StartupLoader", "Préchargement impossible : " + paths.get(i), e);
+            }
+        }
+        // Une erreur de niveau est relevée par LevelManager.takeNextLevel() (le GameScreen se rabat sur le niveau de test)
+        levelManager.finishNextLevel();
+        error = null;
+        if (loadMillis < 0) {
+            onLoaded();
+        }
+    }
+
+    private void onLoaded() {
+        loadMillis = TimeUtils.timeSinceMillis(startTime);
+        Gdx.app.log("StartupLoader", "Démarrage préchargé en " + loadMillis + " ms");
+    }
+
+    /** @return {@code true} si l'audio et les atlas sont chargés (ou ont échoué : plus rien ne les fera avancer). */
+    private boolean getAssetsLoaded() {
+        AssetCache cache = AssetCache.getInstance();
+        for (int i = 0; i < paths.size; i++) {
+            if (!cache.isLoaded(paths.get(i)) && cache.getLoadError(paths.get(i)) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** @return {@code true} si tout est prêt (ou si le préchargement s'est arrêté sur une erreur). */
+    public boolean isDone() {
+        return loadMillis >= 0 || error != null || (started && levelManager.isNextLevelReady() && getAssetsLoaded());
+    }
+
+    /**
+     * @return L'avancement du préchargement, entre 0 et 1 (chaque fichier compte pour une part, le premier niveau aussi).
+     */
+    public float getProgress() {
+        if (isDone()) {
+            return 1f;
+        }
+        AssetCache cache = AssetCache.getInstance();
+        int loaded = levelManager.isNextLevelReady() ? 1 : 0;
+        for (int i = 0; i < paths.size; i++) {
+            if (cache.isLoaded(paths.get(i)) || cache.getLoadError(paths.get(i)) != null) {
+                loaded++;
+            }
+        }
+        return loaded / (float) (paths.size + 1);
+    }
+
+    /** @return Le gestionnaire des niveaux, dont le prochain niveau est le premier de la partie. */
+    public LevelManager getLevelManager() {
+        return levelManager;
+    }
+
+    /** @return L'instant (en millisecondes) du lancement du préchargement. */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /** @return La durée (en millisecondes) du préchargement, ou -1 s'il n'est pas terminé. */
+    public long getLoadMillis() {
+        return loadMillis;
+    }
+
+    /**
+     * Rend les références sur l'audio et les atlas, et libère le gestionnaire des niveaux.
+     */
+    @Override
+    public void dispose() {
+        if (AssetCache.instance != null) {
+            for (int i = 0; i < paths.size; i++) {
+                AssetCache.instance.release(paths.get(i));
+            }
+        }
+        paths.clear();
+        levelManager.dispose();
+    }
+}
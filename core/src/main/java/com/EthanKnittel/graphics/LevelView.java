@@ -3,10 +3,7 @@ package com.EthanKnittel.graphics;
 import com.EthanKnittel.game.GameScreen;
 import com.EthanKnittel.world.TiledLevel;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.maps.MapLayer;
-import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
-import com.badlogic.gdx.utils.Array;
 
 /**
  * Vue graphique responsable du rendu des niveaux Tiled (.tmx).
@@ -16,7 +13,8 @@ import com.badlogic.gdx.utils.Array;
  * </p>
  * <p>
  * <b>Fonctionnalité clé : Gestion des plans (Z-Ordering)</b><br>
- * Elle trie les calques de la carte en deux groupes :
+ * Elle dessine les calques de la carte en deux groupes (triés une fois pour toutes dans le
+ * {@link com.EthanKnittel.world.CompiledLevel}) :
  * <ul>
  * <li><b>Background :</b> Dessinés AVANT les entités (sol, murs).</li>
  * <li><b>Above (Premier plan) :</b> Dessinés APRÈS les entités (toits, arches, herbes hautes).</li>
@@ -40,7 +38,7 @@ public class LevelView {
 
     /**
      * Constructeur.
-     * Initialise le renderer et trie les calques.
+     * Initialise le renderer et récupère l'ordre des calques.
      *
      * @param level Le niveau Tiled chargé.
      */
@@ -55,62 +53,12 @@ public class LevelView {
             // On divise donc par 16 (PixelsPerBlocks) pour que 1 tuile de 16px fasse 1 unité dans le monde.
             this.renderer = new OrthogonalTiledMapRenderer(level.getMap(), 1f / GameScreen.getPixelsPerBlocks());
 
-            // Analyse des calques pour savoir qui dessiner quand
-            calculateLayers();
+            // Les calques sont déjà triés (avant / après les entités) dans le niveau compilé
+            this.backgroundLayers = level.getBackgroundLayers();
+            this.aboveLayers = level.getAboveLayers();
         }
     }
 
-    /**
-     * Trie les calques de la carte en deux catégories (Fond et Premier plan).
-     * <p>
-     * Se base sur la propriété personnalisée "above" (booléen) définie dans l'éditeur Tiled.
-     * Ignore également les calques techniques ("SpawnZones", "Setup").
-     * </p>
-     */
-    private void calculateLayers() {
-        TiledMap map = level.getMap();
-        Array<Integer> backGroundIndices = new Array<>();
-        Array<Integer> aboveIndices = new Array<>();
-
-        // Parcours de tous les calques du fichier .tmx
-        for (int i = 0; i < map.getLayers().getCount(); i++) {
-            MapLayer layer = map.getLayers().get(i);
-
-            // 1. Filtrage des calques techniques (invisibles)
-            // Ces calques contiennent des objets logiques (Rectangles de collision, Spawners)
-            // et ne doivent pas être dessinés par le renderer graphique.
-            if (layer.getName().equals("SpawnZones") || layer.getName().equals("Setup")) {
-                continue;
-            }
-
-            // 2. Lecture de la propriété "above"
-            // Dans Tiled, on peut ajouter une propriété booléenne "above" à un calque.
-            // Si elle est vraie, ce calque sera dessiné au-dessus du joueur.
-            boolean isAbove = layer.getProperties().get("above", false, Boolean.class);
-
-            if (isAbove) {
-                aboveIndices.add(i);
-            } else {
-                backGroundIndices.add(i);
-            }
-        }
-
-        // Conversion des listes dynamiques (Array) en tableaux primitifs (int[]) requis par LibGDX
-        this.backgroundLayers = convertToIntArray(backGroundIndices);
-        this.aboveLayers = convertToIntArray(aboveIndices);
-    }
-
-    /**
-     * Utilitaire de conversion Array<Integer> -> int[].
-     */
-    private int[] convertToIntArray(Array<Integer> list) {
-        int[] array = new int[list.size];
-        for (int i = 0; i < list.size; i++) {
-            array[i] = list.get(i);
-        }
-        return array;
-    }
-
     /**
      * Met à jour la caméra du renderer.
      * <p>
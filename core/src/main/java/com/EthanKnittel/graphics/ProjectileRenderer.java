@@ -0,0 +1,116 @@
+package com.EthanKnittel.graphics;
+
+import com.EthanKnittel.assets.AssetCache;
+import com.EthanKnittel.entities.artifacts.ProjectileType;
+import com.EthanKnittel.game.GameScreen;
+import com.EthanKnittel.world.systems.ProjectileSystem;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Rendu de tous les projectiles du {@link ProjectileSystem}, en une seule passe.
+ * <p>
+ * Chaque flèche avait auparavant sa propre vue, qui relisait l'atlas sur le disque à chaque tir
+ * et le libérait à chaque impact. Ici, l'atlas est chargé une seule fois à la création du renderer,
+ * et chaque type de projectile a une seule animation partagée par tous ses tirs.
+ * Tous les projectiles utilisent la même texture : le {@link SpriteBatch} les dessine d'un seul bloc.
+ * </p>
+ * <p>
+ * Une flèche doit pouvoir pointer dans n'importe quelle direction (0° à 360°) : le sprite est tourné
+ * autour de son centre selon la rotation fixée au tir.
+ * </p>
+ */
+public class ProjectileRenderer {
+
+    /** L'atlas partagé des projectiles (pris dans l'{@link AssetCache}). */
+    private TextureAtlas atlas;
+
+    /** Chemin de l'atlas (clé dans l'{@link AssetCache}). */
+    private final String atlasPath;
+
+    // --- TABLES PAR TYPE (indexées par ProjectileType.getId()) ---
+    /** Animation de vol de chaque type ({@code null} = type non affichable). */
+    private final Array<Animation<TextureRegion>> animations = new Array<>();
+    /** Dimensions affichées du sprite (unités du monde). */
+    private final float[] spriteWidth = new float[ProjectileType.TypeCount];
+    private final float[] spriteHeight = new float[ProjectileType.TypeCount];
+    /** Décalage de rotation (en degrés) selon l'orientation de l'image d'origine. */
+    private final float[] rotationOffset = new float[ProjectileType.TypeCount];
+
+    /**
+     * Constructeur : charge l'atlas et prépare l'animation de chaque type.
+     */
+    public ProjectileRenderer() {
+        animations.setSize(ProjectileType.TypeCount);
+        atlasPath = Gdx.files.internal("FireArrow/fire_arrow.atlas").path();
+        try {
+            atlas = AssetCache.getInstance().acquire(atlasPath, TextureAtlas.class);
+            // Flèche de feu : sprite de 64x16 pixels, animation en boucle (0.1s par frame).
+            // +180 car le sprite d'origine pointe vers la gauche.
+            register(ProjectileType.FireArrow, "Fire Arrow_Frame", 64f, 16f, 180f);
+        } catch (Exception e) {
+            Gdx.app.error("Erreur du chargement de l'atlas: ", atlasPath, e);
+        }
+    }
+
+    /**
+     * Associe un type de projectile à une animation de l'atlas.
+     *
+     * @param type           Le type de projectile.
+     * @param regionName     Le nom des frames dans l'atlas.
+     * @param widthPixels    Largeur du sprite (pixels).
+     * @param heightPixels   Hauteur du sprite (pixels).
+     * @param rotationOffset Rotation à ajouter à celle du projectile (degrés).
+     */
+    private void register(ProjectileType type, String regionName, float widthPixels, float heightPixels, float rotationOffset) {
+        int id = type.getId();
+        animations.set(id, AssetCache.getInstance().getAnimation(atlasPath, regionName, 0.1f, Animation.PlayMode.LOOP));
+        spriteWidth[id] = widthPixels / GameScreen.getPixelsPerBlocks();
+        spriteHeight[id] = heightPixels / GameScreen.getPixelsPerBlocks();
+        this.rotationOffset[id] = rotationOffset;
+    }
+
+    /**
+     * Dessine tous les projectiles en vol.
+     *
+     * @param batch       Le SpriteBatch (doit avoir appelé {@code batch.begin()} avant).
+     * @param projectiles Les projectiles à dessiner.
+     * @param alpha       Avancement dans le tick suivant (interpolation entre les deux derniers ticks).
+     */
+    public void render(SpriteBatch batch, ProjectileSystem projectiles, float alpha) {
+        for (int i = 0; i < projectiles.getCount(); i++) {
+            int id = projectiles.getTypeId(i);
+            Animation<TextureRegion> animation = animations.get(id);
+            if (animation == null) {
+                continue;
+            }
+            // 1. Frame actuelle (le temps d'animation est l'âge du projectile)
+            TextureRegion currentFrame = animation.getKeyFrame(projectiles.getAge(i), true);
+
+            // 2. Dessin avec rotation autour du centre, sprite centré sur la hitbox
+            float width = spriteWidth[id];
+            float height = spriteHeight[id];
+            batch.draw(currentFrame,
+                projectiles.getRenderX(i, alpha) + projectiles.getWidth(i) / 2f - width / 2f,  // X centré
+                projectiles.getRenderY(i, alpha) + projectiles.getHeight(i) / 2f - height / 2f, // Y centré
+                width / 2f, height / 2f, // Point de pivot (Centre)
+                width, height,           // Dimensions
+                1, 1,                    // Échelle
+                projectiles.getRotation(i) + rotationOffset[id]);
+        }
+    }
+
+    /**
+     * Libère l'atlas partagé (à la fermeture du jeu ou de l'écran de jeu).
+     */
+    public void dispose() {
+        if (atlas != null) {
+            AssetCache.getInstance().release(atlasPath);
+            atlas = null;
+        }
+    }
+}
@@ -1,21 +1,20 @@
 package com.EthanKnittel.graphics;
 
 import com.EthanKnittel.entities.Entity;
-import com.EthanKnittel.entities.agents.Player;
-import com.EthanKnittel.entities.agents.foes.Cactus;
-import com.EthanKnittel.entities.agents.foes.Ordi;
-import com.EthanKnittel.entities.artifacts.FireArrow;
-import com.EthanKnittel.entities.artifacts.Wall;
 import com.EthanKnittel.graphics.entity.*;
 import com.EthanKnittel.world.Level;
 import com.EthanKnittel.world.TiledLevel;
+import com.EthanKnittel.world.systems.EntityListener;
 import com.EthanKnittel.world.systems.Environment;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
 
 /**
  * Moteur de rendu principal du monde de jeu.
@@ -24,12 +23,16 @@ import com.badlogic.gdx.utils.Array;
  * Elle est responsable de :
  * <ul>
  * <li>Dessiner le niveau (Sol, Murs, Décor) via {@link LevelView}.</li>
- * <li>Gérer et dessiner les vues de toutes les entités dynamiques (Joueur, Ennemis, Projectiles).</li>
+ * <li>Gérer et dessiner les vues des entités (Joueur, Ennemis, murs visibles). Les vues sont créées et libérées
+ * au fil des arrivées et des départs d'entités ({@link EntityListener}), via le {@link ViewRegistry}.</li>
+ * <li>Ne dessiner que ce qui est dans le champ de la caméra (culling) : les vues hors de l'écran
+ * ne font qu'avancer leur horloge d'animation.</li>
+ * <li>Dessiner tous les projectiles en une passe via {@link ProjectileRenderer}.</li>
  * <li>Gérer les effets globaux comme le fondu au noir (Fade In/Out).</li>
  * </ul>
  * </p>
  */
-public class WorldRenderer {
+public class WorldRenderer implements EntityListener {
     /** Référence au modèle du monde (contient la liste des entités). */
     private Environment environment;
 
@@ -46,13 +49,29 @@ public class WorldRenderer {
     private ShapeRenderer shapeRenderer;
 
     /**
-     * Liste des vues graphiques actives.
+     * Vues graphiques actives, rangées par poignée d'entité ({@link Entity#getHandle()}).
      * <p>
-     * Chaque {@link Entity} du modèle possède une {@link EntityView} correspondante ici.
-     * Cette liste est synchronisée à chaque frame avec celle de l'environnement.
+     * Chaque {@link Entity} affichable du modèle possède une {@link EntityView} correspondante ici,
+     * créée à son arrivée dans le monde et libérée à son départ. La vue d'une entité est retrouvée en temps constant.
      * </p>
      */
-    private Array<EntityView> views;
+    private IntMap<EntityView> views;
+
+    /** Rendu groupé des projectiles (un seul atlas pour tous les tirs). */
+    private ProjectileRenderer projectileRenderer;
+
+    /** Marge (en blocs) ajoutée autour du champ de la caméra avant d'écarter une entité (sprites qui débordent, arrondis). */
+    private static final float CullingMargin = 2f;
+
+    /** Index des entités statiques visibles (mémoire de travail réutilisée à chaque frame). */
+    private final IntArray visibleStatics = new IntArray();
+
+    // --- STATISTIQUES DE LA DERNIÈRE FRAME ---
+    private int lastDrawnCount = 0;
+    private int lastCulledCount = 0;
+
+    /** Avancement dans le tick suivant, mémorisé par {@link #interpolate(float)} pour les projectiles. */
+    private float renderAlpha = 1f;
 
     /**
      * Constructeur.
@@ -66,13 +85,60 @@ public class WorldRenderer {
         this.environment = environment;
         this.batch = batch;
         this.camera = camera;
-        this.views = new Array<>();
+        this.views = new IntMap<>();
         this.shapeRenderer = new ShapeRenderer();
+        this.projectileRenderer = new ProjectileRenderer();
 
         // Si le niveau chargé est une Map Tiled, on prépare sa vue dédiée
         if (environment.getLevel().getClass().equals(TiledLevel.class)){
             this.levelView = new LevelView((TiledLevel) environment.getLevel());
         }
+
+        // Abonnement au cycle de vie des entités (les entités déjà présentes reçoivent leur vue tout de suite)
+        environment.addEntityListener(this);
+    }
+
+    /**
+     * Une entité entre dans le monde : on lui crée sa vue, si son type en a une.
+     */
+    @Override
+    public void onEntitySpawned(Entity entity) {
+        EntityView view = ViewRegistry.createView(entity);
+        if (view != null) {
+            views.put(entity.getHandle(), view);
+        }
+    }
+
+    /**
+     * Une entité quitte le monde (morte/détruite, ou changement de niveau) : on libère sa vue.
+     */
+    @Override
+    public void onEntityRemoved(Entity entity) {
+        EntityView view = views.remove(entity.getHandle());
+        if (view != null) {
+            view.dispose(); // Libération de la mémoire (textures)
+        }
+    }
+
+    /**
+     * Calcule la position affichée de chaque entité entre les deux derniers ticks de simulation.
+     * <p>
+     * La simulation avance par pas fixes : entre deux ticks, l'écran peut être redessiné plusieurs fois.
+     * Sans interpolation, les entités sembleraient "saccader" d'un tick à l'autre.
+     * </p>
+     * <p>
+     * À appeler après la simulation de la frame et avant de placer la caméra (qui suit la position affichée du joueur).
+     * </p>
+     *
+     * @param alpha Fraction du tick suivant déjà écoulée (entre 0 et 1).
+     */
+    public void interpolate(float alpha) {
+        renderAlpha = alpha;
+        Array<Entity> entities = environment.getEntities();
+        // Les entités statiques ne bougent jamais : inutile de les interpoler
+        for (int i = environment.getStaticCount(); i < entities.size; i++) {
+            entities.get(i).updateRenderPosition(alpha);
+        }
     }
 
     /**
@@ -91,53 +157,52 @@ public class WorldRenderer {
         batch.setProjectionMatrix(camera.combined);
         batch.begin(); // Début du tracé des sprites
 
-        // 2. GESTION DYNAMIQUE DES VUES (Synchronisation Modèle -> Vue)
-        // On parcourt toutes les entités logiques du monde pour voir s'il en manque une à l'écran
-        for (Entity entity : environment.getEntities()) {
-            boolean viewExists = false;
-
-            // Est-ce que cette entité a déjà une vue dans notre liste ?
-            for (EntityView view : views) {
-                if (view.getEntity().equals(entity)) { // Comparaison par référence (identité)
-                    viewExists = true;
-                    break;
-                }
-            }
+        // 2. DESSIN DES ENTITÉS (seulement celles dans le champ de la caméra, marge comprise)
+        float halfWidth = camera.viewportWidth * camera.zoom / 2f + CullingMargin;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2f + CullingMargin;
+        float minX = camera.position.x - halfWidth;
+        float minY = camera.position.y - halfHeight;
+        float maxX = camera.position.x + halfWidth;
+        float maxY = camera.position.y + halfHeight;
+        lastDrawnCount = 0;
 
-            // Si non, on doit CRÉER la vue appropriée (Factory Pattern implicite)
-            if (!viewExists) {
-                if (entity.getClass().equals(Player.class)){
-                    views.add(new PlayerView((Player) entity));
-                }
-                if (entity.getClass().equals(Ordi.class)){
-                    views.add(new OrdiView((Ordi) entity));
-                }
-                if  (entity.getClass().equals(Cactus.class)) {
-                    views.add(new CactusView((Cactus) entity));
-                }
-                if (entity.getClass().equals(FireArrow.class)){
-                    views.add(new FireArrowView((FireArrow) entity));
-                }
-                if (entity.getClass().equals(Wall.class)){
-                    views.add(new WallView((Wall) entity));
-                }
-                // Ajoutez ici les futurs types d'entités (ex: ZombieView) avec la même structure
+        // A. Entités dynamiques : test direct de leur position affichée.
+        // On parcourt les entités à l'envers (les dernières arrivées sont dessinées en premier, les murs en dernier).
+        // Les entités sans vue (ex: murs invisibles) sont simplement sautées.
+        Array<Entity> entities = environment.getEntities();
+        int staticCount = environment.getStaticCount();
+        for (int i = entities.size - 1; i >= staticCount; i--) {
+            Entity entity = entities.get(i);
+            EntityView view = views.get(entity.getHandle());
+            if (view == null) {
+                continue;
             }
-        }
-        // 3. NETTOYAGE ET DESSIN DES ENTITÉS
-        // On parcourt la liste des vues à l'envers pour pouvoir supprimer sans casser les index
-        for (int i = views.size - 1; i >= 0; i--) {
-            EntityView view = views.get(i);
-
-            // Si l'entité n'existe plus dans le monde (morte/détruite), on supprime sa vue
-            if (!environment.getEntities().contains(view.getEntity(), true)){
-                view.dispose(); // Libération de la mémoire (textures)
-                views.removeIndex(i);
+            Rectangle bounds = entity.getbounds();
+            float x = entity.getRenderX();
+            float y = entity.getRenderY();
+            if (x <= maxX && x + bounds.width >= minX && y <= maxY && y + bounds.height >= minY) {
+                view.render(batch, delta);
+                lastDrawnCount++;
             } else {
-                // Sinon, on la dessine
+                view.advance(delta); // Hors de l'écran : l'animation continue sans être dessinée
+            }
+        }
+
+        // B. Entités statiques : l'arbre des statiques ne donne que celles qui touchent le champ
+        visibleStatics.clear();
+        environment.queryStatics(minX, minY, maxX - minX, maxY - minY, visibleStatics);
+        visibleStatics.sort(); // Même ordre de dessin que la liste (à l'envers)
+        for (int k = visibleStatics.size - 1; k >= 0; k--) {
+            EntityView view = views.get(entities.get(visibleStatics.get(k)).getHandle());
+            if (view != null) {
                 view.render(batch, delta);
+                lastDrawnCount++;
             }
         }
+        lastCulledCount = views.size - lastDrawnCount;
+
+        // Les projectiles, tous d'un coup (même texture : pas de changement d'état du batch)
+        projectileRenderer.render(batch, environment.getProjectiles(), renderAlpha);
 
         batch.end(); // Fin du tracé des sprites
 
@@ -148,6 +213,16 @@ public class WorldRenderer {
         }
     }
 
+    /** @return Le nombre de vues dessinées à la dernière frame. */
+    public int getLastDrawnCount() {
+        return lastDrawnCount;
+    }
+
+    /** @return Le nombre de vues écartées (hors du champ de la caméra) à la dernière frame. */
+    public int getLastCulledCount() {
+        return lastCulledCount;
+    }
+
     /**
      * Met à jour le niveau à afficher (lors d'un changement de map).
      *
@@ -200,15 +275,19 @@ public class WorldRenderer {
      * Libère toutes les ressources graphiques.
      */
     public void dispose(){
+        // Plus d'événements : le renderer ne sert plus
+        environment.removeEntityListener(this);
         // Nettoyage de la vue du niveau
         if (levelView != null) {
             levelView.dispose();
         }
         // Nettoyage de toutes les vues d'entités
-        for (EntityView view : views) {
+        for (EntityView view : views.values()) {
             view.dispose();
         }
         views.clear();
+        // Nettoyage de l'atlas des projectiles
+        projectileRenderer.dispose();
         // Nettoyage du ShapeRenderer
         shapeRenderer.dispose();
     }
@@ -1,5 +1,6 @@
 package com.EthanKnittel.graphics.entity;
 
+import com.EthanKnittel.assets.AssetCache;
 import com.EthanKnittel.entities.Entity;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.Animation;
@@ -12,7 +13,8 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
  * <p>
  * Cette classe simplifie la gestion graphique en prenant en charge :
  * <ul>
- * <li>Le chargement du {@link TextureAtlas} (fichier .atlas contenant toutes les images).</li>
+ * <li>Le chargement du {@link TextureAtlas} (fichier .atlas contenant toutes les images), partagé entre toutes
+ * les vues du même type via l'{@link AssetCache}.</li>
  * <li>Le suivi du temps d'animation ({@code stateTime}).</li>
  * <li>La sélection de la frame courante à afficher.</li>
  * <li>Le retournement horizontal (Flip X) automatique si l'entité regarde à gauche.</li>
@@ -27,9 +29,12 @@ public abstract class AnimatedEntityView implements EntityView {
     /** L'entité logique liée (le Modèle). */
     private Entity entity;
 
-    /** L'atlas de texture contenant toutes les images packées. */
+    /** L'atlas de texture contenant toutes les images packées (partagé, {@code null} si le chargement a échoué). */
     private TextureAtlas atlas;
 
+    /** Le chemin de l'atlas (clé dans l'{@link AssetCache}). */
+    private final String atlasPath;
+
     /** L'animation en cours de lecture (ex: Run, Idle). */
     private Animation<TextureRegion> currentAnimation;
 
@@ -44,9 +49,10 @@ public abstract class AnimatedEntityView implements EntityView {
      */
     public AnimatedEntityView(Entity entity, String atlasPath) {
         this.entity = entity;
+        this.atlasPath = atlasPath;
         try {
-            // Chargement de l'atlas en mémoire
-            this.atlas = new TextureAtlas(atlasPath);
+            // Récupération de l'atlas partagé (chargé depuis le disque seulement pour la première vue de ce type)
+            this.atlas = AssetCache.getInstance().acquire(atlasPath, TextureAtlas.class);
             // Appel à la méthode abstraite pour que l'enfant charge ses animations spécifiques
             loadAnimations(this.atlas);
         } catch (Exception e) {
@@ -57,14 +63,25 @@ public abstract class AnimatedEntityView implements EntityView {
     /**
      * Charge les animations spécifiques à partir de l'atlas.
      * <p>
-     * À implémenter par les sous-classes pour extraire les régions (ex: "RUN", "JUMP")
-     * et créer les objets {@link Animation}.
+     * À implémenter par les sous-classes pour extraire les régions (ex: "RUN", "JUMP").
+     * Les animations s'obtiennent avec {@link #getSharedAnimation} : elles sont communes à toutes les vues du même type.
      * </p>
      *
      * @param atlas L'atlas chargé, prêt à être interrogé.
      */
     protected abstract void loadAnimations(TextureAtlas atlas);
 
+    /**
+     * Récupère une animation de l'atlas, partagée avec les autres vues du même type.
+     *
+     * @param regionName    Le nom des frames dans l'atlas (ex: "RUNNING").
+     * @param frameDuration Durée d'une frame (en secondes).
+     * @param playMode      Mode de lecture (ex: boucle).
+     */
+    protected Animation<TextureRegion> getSharedAnimation(String regionName, float frameDuration, Animation.PlayMode playMode) {
+        return AssetCache.getInstance().getAnimation(atlasPath, regionName, frameDuration, playMode);
+    }
+
     /**
      * Détermine quelle animation doit être jouée actuellement.
      * <p>
@@ -121,25 +138,37 @@ public abstract class AnimatedEntityView implements EntityView {
                 currentFrame.flip(true, false);
             }
 
-            // Affichage à l'écran aux coordonnées de l'entité
-            batch.draw(currentFrame, entity.getX(), entity.getY(), entity.getbounds().width, entity.getbounds().height);
+            // Affichage à l'écran aux coordonnées (interpolées) de l'entité
+            batch.draw(currentFrame, entity.getRenderX(), entity.getRenderY(), entity.getbounds().width, entity.getbounds().height);
         }
     }
 
+    /**
+     * Entité hors de l'écran : seul le temps d'animation avance (pas de choix d'animation, pas de flip, pas de dessin).
+     */
+    @Override
+    public void advance(float delta) {
+        stateTime = stateTime + delta;
+    }
+
     @Override
     public Entity getEntity() {
         return entity;
     }
 
     /**
-     * Libère l'atlas de texture.
+     * Rend l'atlas de texture au cache.
      * <p>
-     * Très important : les textures prennent beaucoup de mémoire vidéo.
+     * Très important : les textures prennent beaucoup de mémoire vidéo. L'atlas est libéré
+     * quand la dernière vue qui l'utilise est détruite.
      * </p>
      */
     @Override
     public void dispose() {
-        atlas.dispose();
+        if (atlas != null) {
+            AssetCache.getInstance().release(atlasPath);
+            atlas = null;
+        }
     }
 
     // --- GETTERS & SETTERS (Utiles pour des effets spéciaux ou debug) ---
@@ -54,14 +54,14 @@ public class CactusView extends AnimatedEntityView {
     @Override
     protected void loadAnimations(TextureAtlas atlas) {
         // 0.1f = 10 images par seconde (Vitesse standard)
-        idleAnim = new Animation<>(0.1f, atlas.findRegions("IDLE"), Animation.PlayMode.LOOP);
-        runAnim = new Animation<>(0.1f, atlas.findRegions("RUNNING"), Animation.PlayMode.LOOP);
+        idleAnim = getSharedAnimation("IDLE", 0.1f, Animation.PlayMode.LOOP);
+        runAnim = getSharedAnimation("RUNNING", 0.1f, Animation.PlayMode.LOOP);
 
         // HIT est souvent joué une seule fois, mais en LOOP ça marche aussi tant que l'état "isHit" est vrai
-        hitAnim = new Animation<>(0.1f, atlas.findRegions("HIT"), Animation.PlayMode.LOOP);
+        hitAnim = getSharedAnimation("HIT", 0.1f, Animation.PlayMode.LOOP);
 
-        fallAnim = new Animation<>(0.1f, atlas.findRegions("FALLING"), Animation.PlayMode.LOOP);
-        jumpAnim = new Animation<>(0.1f, atlas.findRegions("JUMPING"), Animation.PlayMode.LOOP);
+        fallAnim = getSharedAnimation("FALLING", 0.1f, Animation.PlayMode.LOOP);
+        jumpAnim = getSharedAnimation("JUMPING", 0.1f, Animation.PlayMode.LOOP);
     }
 
     /**
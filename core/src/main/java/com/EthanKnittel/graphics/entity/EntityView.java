@@ -28,6 +28,19 @@ public interface EntityView {
      */
     void render(SpriteBatch batch, float delta);
 
+    /**
+     * Fait avancer l'horloge de la vue sans rien dessiner (entité hors de l'écran).
+     * <p>
+     * Appelée par le {@link com.EthanKnittel.graphics.WorldRenderer} à la place de {@link #render}
+     * quand l'entité est hors du champ de la caméra : l'animation reprend au bon moment quand elle revient à l'écran.
+     * Par défaut, rien à faire (vue sans animation).
+     * </p>
+     *
+     * @param delta Le temps écoulé depuis la dernière frame.
+     */
+    default void advance(float delta) {
+    }
+
     /**
      * Libère les ressources graphiques (Textures, Atlas) pour éviter les fuites de mémoire.
      * <p>
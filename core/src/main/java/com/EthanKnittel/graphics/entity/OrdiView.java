@@ -58,11 +58,11 @@ public class OrdiView extends AnimatedEntityView {
     @Override
     protected void loadAnimations(TextureAtlas atlas) {
         // Création des animations avec une vitesse de 0.1s par frame (10 FPS)
-        idleAnim = new Animation<>(0.1f, atlas.findRegions("IDLE"), Animation.PlayMode.LOOP);
-        runAnim = new Animation<>(0.1f, atlas.findRegions("RUNNING"), Animation.PlayMode.LOOP);
-        hitAnim = new Animation<>(0.1f, atlas.findRegions("HIT"), Animation.PlayMode.LOOP);
-        fallAnim = new Animation<>(0.1f, atlas.findRegions("FALLING"), Animation.PlayMode.LOOP);
-        jumpAnim = new Animation<>(0.1f, atlas.findRegions("JUMPING"), Animation.PlayMode.LOOP);
+        idleAnim = getSharedAnimation("IDLE", 0.1f, Animation.PlayMode.LOOP);
+        runAnim = getSharedAnimation("RUNNING", 0.1f, Animation.PlayMode.LOOP);
+        hitAnim = getSharedAnimation("HIT", 0.1f, Animation.PlayMode.LOOP);
+        fallAnim = getSharedAnimation("FALLING", 0.1f, Animation.PlayMode.LOOP);
+        jumpAnim = getSharedAnimation("JUMPING", 0.1f, Animation.PlayMode.LOOP);
     }
 
     /**
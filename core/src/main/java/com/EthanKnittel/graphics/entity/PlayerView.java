@@ -57,17 +57,17 @@ public class PlayerView extends AnimatedEntityView {
      */
     @Override
     protected void loadAnimations(TextureAtlas atlas) {
-        idleAnim = new Animation<>(0.1f, atlas.findRegions("IDLE"), Animation.PlayMode.LOOP);
-        walkAnim = new Animation<>(0.1f, atlas.findRegions("RUNNING"), Animation.PlayMode.LOOP);
+        idleAnim = getSharedAnimation("IDLE", 0.1f, Animation.PlayMode.LOOP);
+        walkAnim = getSharedAnimation("RUNNING", 0.1f, Animation.PlayMode.LOOP);
 
         // Course plus rapide visuellement (0.05s par frame)
-        runAnim = new Animation<>(0.05f, atlas.findRegions("RUNNING"), Animation.PlayMode.LOOP);
+        runAnim = getSharedAnimation("RUNNING", 0.05f, Animation.PlayMode.LOOP);
 
-        jumpAnim = new Animation<>(0.1f, atlas.findRegions("JUMPING"), Animation.PlayMode.LOOP);
-        wallSlideAnim = new Animation<>(0.1f, atlas.findRegions("WALLJUMPING"), Animation.PlayMode.LOOP);
-        hitAnim = new Animation<>(0.1f, atlas.findRegions("HIT"), Animation.PlayMode.LOOP);
-        fallAnim = new Animation<>(0.1f, atlas.findRegions("FALLING"), Animation.PlayMode.LOOP);
-        doubleJumpAnim = new Animation<>(0.1f, atlas.findRegions("DOUBLEJUMP"), Animation.PlayMode.LOOP);
+        jumpAnim = getSharedAnimation("JUMPING", 0.1f, Animation.PlayMode.LOOP);
+        wallSlideAnim = getSharedAnimation("WALLJUMPING", 0.1f, Animation.PlayMode.LOOP);
+        hitAnim = getSharedAnimation("HIT", 0.1f, Animation.PlayMode.LOOP);
+        fallAnim = getSharedAnimation("FALLING", 0.1f, Animation.PlayMode.LOOP);
+        doubleJumpAnim = getSharedAnimation("DOUBLEJUMP", 0.1f, Animation.PlayMode.LOOP);
     }
 
     /**
@@ -0,0 +1,22 @@
+package com.EthanKnittel.graphics.entity;
+
+import com.EthanKnittel.entities.Entity;
+
+/**
+ * Usine de vues pour un type d'entité (Pattern Factory).
+ * <p>
+ * Enregistrée dans le {@link ViewRegistry} pour une classe d'entité (ex: {@code Cactus.class -> CactusView::new}).
+ * </p>
+ *
+ * @param <E> Le type d'entité affiché par les vues produites.
+ */
+public interface ViewFactory<E extends Entity> {
+
+    /**
+     * Crée la vue d'une entité qui vient d'entrer dans le monde.
+     *
+     * @param entity L'entité à afficher.
+     * @return Sa vue, ou {@code null} si cette entité n'a pas de représentation graphique (ex: mur invisible).
+     */
+    EntityView create(E entity);
+}
@@ -0,0 +1,75 @@
+package com.EthanKnittel.graphics.entity;
+
+import com.EthanKnittel.entities.Entity;
+import com.EthanKnittel.entities.agents.Player;
+import com.EthanKnittel.entities.agents.foes.Cactus;
+import com.EthanKnittel.entities.agents.foes.Ordi;
+import com.EthanKnittel.entities.artifacts.Wall;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Registre central des vues (Pattern Registry).
+ * <p>
+ * Associe chaque classe d'entité à l'usine ({@link ViewFactory}) qui fabrique sa vue.
+ * Le {@link com.EthanKnittel.graphics.WorldRenderer} le consulte une seule fois par entité, à son arrivée dans le monde.
+ * </p>
+ * <p>
+ * Une sous-classe sans usine propre utilise celle de sa classe parente la plus proche
+ * (le résultat de la recherche est mémorisé). Une entité sans usine n'a pas de vue.
+ * </p>
+ */
+public class ViewRegistry {
+
+    /** Usines connues, rangées par classe d'entité ({@code null} mémorisé = pas de vue pour cette classe). */
+    private static final ObjectMap<Class<?>, ViewFactory<?>> factories = new ObjectMap<>();
+
+    /*
+     * Bloc statique d'initialisation : les vues des entités du jeu.
+     */
+    static {
+        register(Player.class, PlayerView::new);
+        register(Cactus.class, CactusView::new);
+        register(Ordi.class, OrdiView::new);
+        // Un mur invisible (collision seule, le décor vient de la carte Tiled) n'a pas de vue
+        register(Wall.class, wall -> wall.getVisible() ? new WallView(wall) : null);
+        // Ajoutez ici les futurs types d'entités (ex: Zombie.class, ZombieView::new)
+    }
+
+    /**
+     * Enregistre l'usine de vues d'une classe d'entité (remplace l'éventuelle usine précédente).
+     * À appeler au démarrage, avant l'arrivée des premières entités de ce type.
+     *
+     * @param type    La classe d'entité.
+     * @param factory L'usine qui fabrique ses vues.
+     */
+    public static <E extends Entity> void register(Class<E> type, ViewFactory<? super E> factory) {
+        factories.put(type, factory);
+    }
+
+    /**
+     * Crée la vue d'une entité.
+     *
+     * @param entity L'entité à afficher.
+     * @return Sa vue, ou {@code null} si elle n'en a pas.
+     */
+    @SuppressWarnings("unchecked")
+    public static EntityView createView(Entity entity) {
+        ViewFactory<Entity> factory = (ViewFactory<Entity>) findFactory(entity.getClass());
+        return (factory != null) ? factory.create(entity) : null;
+    }
+
+    /**
+     * Cherche l'usine de la classe, sinon celle de la classe parente la plus proche, et mémorise la réponse.
+     */
+    private static ViewFactory<?> findFactory(Class<?> type) {
+        if (factories.containsKey(type)) {
+            return factories.get(type);
+        }
+        ViewFactory<?> factory = null;
+        for (Class<?> parent = type.getSuperclass(); parent != null && factory == null; parent = parent.getSuperclass()) {
+            factory = factories.get(parent);
+        }
+        factories.put(type, factory);
+        return factory;
+    }
+}
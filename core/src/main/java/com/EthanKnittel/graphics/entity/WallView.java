@@ -1,5 +1,6 @@
 package com.EthanKnittel.graphics.entity;
 
+import com.EthanKnittel.assets.AssetCache;
 import com.EthanKnittel.entities.Entity;
 import com.EthanKnittel.entities.artifacts.Wall;
 import com.badlogic.gdx.Gdx;
@@ -11,12 +12,12 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
  * <p>
  * Cette classe est responsable de l'affichage des murs statiques.
  * Contrairement aux autres vues (PlayerView, CactusView), elle n'utilise pas d'animations
- * complexes mais une simple {@link Texture} fixe (image).
+ * complexes mais une simple {@link Texture} fixe (image), partagée par tous les murs via l'{@link AssetCache}.
  * </p>
  * <p>
- * Elle gère aussi l'optimisation des "Murs Invisibles" : si le mur logique est marqué
- * comme invisible (ex: mur de collision sur une map Tiled), aucune texture n'est chargée
- * ni dessinée.
+ * Les "Murs Invisibles" (ex: murs de collision d'une map Tiled) n'ont pas de vue du tout :
+ * le {@link ViewRegistry} n'en crée pas pour eux. Si un mur devient invisible après coup,
+ * sa vue arrête simplement de le dessiner.
  * </p>
  */
 public class WallView implements EntityView {
@@ -24,13 +25,16 @@ public class WallView implements EntityView {
     /** L'entité logique associée (le Modèle). */
     private Wall wall;
 
-    /** L'image du mur (peut être null si le mur est invisible). */
+    /** Chemin de l'image des murs (clé dans l'{@link AssetCache}). */
+    private static final String TexturePath = "wall.png";
+
+    /** L'image du mur, partagée (peut être null si le chargement a échoué). */
     private Texture texture;
 
     /**
      * Constructeur.
      * <p>
-     * Charge la texture "wall.png" uniquement si le mur est configuré comme visible.
+     * Récupère la texture "wall.png" uniquement si le mur est configuré comme visible.
      * </p>
      *
      * @param wall L'instance du mur à afficher.
@@ -41,8 +45,8 @@ public class WallView implements EntityView {
         // On ne charge l'image que si nécessaire pour économiser la mémoire vidéo
         if (wall.getVisible()) {
             try {
-                // Chargement direct d'une image simple (pas d'Atlas ici)
-                texture = new Texture(Gdx.files.internal("wall.png"));
+                // Image simple (pas d'Atlas ici), chargée une seule fois pour tous les murs
+                texture = AssetCache.getInstance().acquire(TexturePath, Texture.class);
             } catch (Exception e) {
                 Gdx.app.error("Wall", "Erreur lors du chargement de la texture wall.png", e);
             }
@@ -57,10 +61,10 @@ public class WallView implements EntityView {
      */
     @Override
     public void render(SpriteBatch batch, float delta) {
-        // On ne dessine que si on a une texture chargée (Mur visible)
-        if (texture != null) {
+        // On ne dessine que si on a une texture chargée et que le mur est (toujours) visible
+        if (texture != null && wall.getVisible()) {
             // On dessine l'image étirée à la taille de la hitbox du mur
-            batch.draw(texture, wall.getX(), wall.getY(), wall.getbounds().width, wall.getbounds().height);
+            batch.draw(texture, wall.getRenderX(), wall.getRenderY(), wall.getbounds().width, wall.getbounds().height);
         }
     }
 
@@ -70,16 +74,16 @@ public class WallView implements EntityView {
     }
 
     /**
-     * Libère la texture de la mémoire graphique.
+     * Rend la texture au cache.
      * <p>
-     * Important : Chaque instance de WallView possédant sa propre Texture (dans cette implémentation),
-     * il est crucial de les dispose() pour éviter de saturer la VRAM.
+     * La texture est partagée : elle n'est libérée de la mémoire graphique qu'avec le dernier mur visible.
      * </p>
      */
     @Override
     public void dispose() {
         if (texture != null) {
-            texture.dispose();
+            AssetCache.getInstance().release(TexturePath);
+            texture = null;
         }
     }
 }
@@ -1,10 +1,9 @@
 package com.EthanKnittel.respawn;
 
-import com.EthanKnittel.entities.Entity;
 import com.EthanKnittel.entities.agents.Foe;
 import com.EthanKnittel.entities.agents.Player;
 import com.EthanKnittel.entities.agents.foes.Cactus;
-import com.badlogic.gdx.utils.Array;
+import com.EthanKnittel.world.systems.Environment;
 
 /**
  * Usine concrète pour produire des Cactus.
@@ -21,11 +20,11 @@ public class CactusFactory implements EnemyFactory {
      * @param x           Position X.
      * @param y           Position Y.
      * @param target      Le joueur cible.
-     * @param allentities La liste des entités du monde.
+     * @param environment Le monde dans lequel l'ennemi évoluera.
      * @return Une nouvelle instance de {@link Cactus}.
      */
     @Override
-    public Foe create(float x, float y, Player target, Array<Entity> allentities){
-        return new Cactus(x, y, target, allentities);
+    public Foe create(float x, float y, Player target, Environment environment){
+        return new Cactus(x, y, target, environment);
     }
 }
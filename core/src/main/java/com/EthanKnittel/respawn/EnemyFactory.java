@@ -1,9 +1,8 @@
 package com.EthanKnittel.respawn;
 
-import com.EthanKnittel.entities.Entity;
 import com.EthanKnittel.entities.agents.Foe;
 import com.EthanKnittel.entities.agents.Player;
-import com.badlogic.gdx.utils.Array;
+import com.EthanKnittel.world.systems.Environment;
 
 /**
  * Interface pour le pattern "Factory" (Usine) de création d'ennemis.
@@ -23,8 +22,8 @@ public interface EnemyFactory {
      * @param x           Position X d'apparition.
      * @param y           Position Y d'apparition.
      * @param target      La cible principale de l'ennemi (le Joueur).
-     * @param allEntities La liste des entités du monde (pour que l'ennemi puisse voir les murs).
+     * @param environment Le monde dans lequel l'ennemi évoluera (pour qu'il puisse voir les murs).
      * @return Une nouvelle instance de {@link Foe} (Ennemi) prête à être ajoutée au monde.
      */
-    Foe create(float x, float y, Player target, Array<Entity> allEntities);
+    Foe create(float x, float y, Player target, Environment environment);
 }
@@ -1,10 +1,9 @@
 package com.EthanKnittel.respawn;
 
-import com.EthanKnittel.entities.Entity;
 import com.EthanKnittel.entities.agents.Foe;
 import com.EthanKnittel.entities.agents.Player;
 import com.EthanKnittel.entities.agents.foes.Ordi;
-import com.badlogic.gdx.utils.Array;
+import com.EthanKnittel.world.systems.Environment;
 
 /**
  * Usine concrète pour produire des ennemis "Ordi".
@@ -21,11 +20,11 @@ public class OrdiFactory implements EnemyFactory {
      * @param x           Position X.
      * @param y           Position Y.
      * @param target      Le joueur cible.
-     * @param allentities La liste des entités du monde.
+     * @param environment Le monde dans lequel l'ennemi évoluera.
      * @return Une nouvelle instance de {@link Ordi}.
      */
     @Override
-    public Foe create(float x, float y, Player target, Array<Entity> allentities){
-        return new Ordi(x, y, target, allentities);
+    public Foe create(float x, float y, Player target, Environment environment){
+        return new Ordi(x, y, target, environment);
     }
 }
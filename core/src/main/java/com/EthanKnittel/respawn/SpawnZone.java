@@ -4,9 +4,11 @@ import com.EthanKnittel.ai.EnemyStrategy;
 import com.EthanKnittel.entities.Entity;
 import com.EthanKnittel.entities.agents.Foe;
 import com.EthanKnittel.entities.agents.Player;
+import com.EthanKnittel.world.systems.Environment;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 
 /**
  * Gère une zone géographique d'apparition d'ennemis (Wave Manager).
@@ -30,8 +32,11 @@ public class SpawnZone {
     /** Liste des points précis où les monstres peuvent apparaître dans cette zone. */
     private final Array<SpawnPoint> spawnPoints;
 
-    /** Liste des ennemis actuellement vivants gérés par cette zone. */
-    private final Array<Foe> activeFoes;
+    /**
+     * Poignées des ennemis actuellement vivants gérés par cette zone (voir {@link Entity#getHandle()}).
+     * Une poignée devient invalide dès que l'ennemi quitte le monde : aucune référence vers un ennemi supprimé n'est gardée.
+     */
+    private final IntArray activeFoes;
 
     // --- RÈGLES DE JEU (Game Design) ---
     /** Nombre maximum d'ennemis simultanés dans cette zone (Plafond). */
@@ -53,7 +58,7 @@ public class SpawnZone {
     public  SpawnZone(Rectangle zoneBounds) {
         this.zoneBounds = zoneBounds;
         this.spawnPoints = new Array<>();
-        this.activeFoes = new Array<>();
+        this.activeFoes = new IntArray();
     }
 
     /** Ajoute un point de spawn à cette zone (appelé lors du chargement du niveau). */
@@ -71,17 +76,18 @@ public class SpawnZone {
      *
      * @param deltaTime        Temps écoulé.
      * @param player           Le joueur (pour vérifier s'il est dedans).
-     * @param globalEntityList La liste globale des entités du jeu (pour y ajouter les nouveaux nés).
+     * @param environment      Le monde du jeu (pour y ajouter les nouveaux nés).
      */
-    public void update(float deltaTime, Player player, Array<Entity> globalEntityList) {
+    public void update(float deltaTime, Player player, Environment environment) {
 
         // 1. Nettoyage de la liste locale (on oublie les morts)
-        // On parcourt à l'envers pour pouvoir supprimer sans casser les index.
+        // On parcourt à l'envers : le dernier élément vient boucher le trou (l'ordre de la liste n'a pas d'importance).
         for (int i = activeFoes.size - 1; i >= 0; i--) {
-            Foe foe = activeFoes.get(i);
-            // Si l'ennemi est marqué pour suppression (mort + anim finie)
-            if (foe.getCanBeRemove()) {
-                activeFoes.removeIndex(i);
+            Entity foe = environment.getEntity(activeFoes.get(i));
+            // Si l'ennemi a quitté le monde, ou est marqué pour suppression (mort + anim finie)
+            if (foe == null || foe.getCanBeRemove()) {
+                activeFoes.set(i, activeFoes.peek());
+                activeFoes.pop();
             }
         }
 
@@ -94,7 +100,7 @@ public class SpawnZone {
             // Le joueur est DANS la zone.
             // Faut-il faire apparaître des renforts ?
             if (activeFoes.size <= minEnemiesInZone) {
-                spawnWave(player, globalEntityList);
+                spawnWave(player, environment);
             }
         }
         // Note : Si le joueur sort de la zone, les ennemis restants ne despawnent pas (choix de design).
@@ -103,7 +109,7 @@ public class SpawnZone {
     /**
      * Génère une vague d'ennemis pour remplir la zone jusqu'à son maximum.
      */
-    private void spawnWave(Player player, Array<Entity> globalEntityList) {
+    private void spawnWave(Player player, Environment environment) {
         // On calcule combien d'ennemis il manque pour être complet
         int enemiesToSpawn = maxEnemiesInZone - activeFoes.size;
 
@@ -127,7 +133,7 @@ public class SpawnZone {
                 // 2. Création de l'entité (le corps physique)
                 // Le SpawnPoint choisit aléatoirement un type (Cactus ou Ordi)
                 EnemyFactory factory = spawnPoint.getRandomFactory();
-                Foe newFoe = factory.create(spawnPoint.getPosition().x, spawnPoint.getPosition().y, player, globalEntityList);
+                Foe newFoe = factory.create(spawnPoint.getPosition().x, spawnPoint.getPosition().y, player, environment);
 
                 // 3. Configuration de l'IA (le cerveau)
                 // On récupère les instructions "forcées" depuis Tiled (ex: ["Chase", "Patrol"])
@@ -150,8 +156,8 @@ public class SpawnZone {
                 }
 
                 // 4. Enregistrement final
-                activeFoes.add(newFoe);       // Pour le suivi de la zone (quota)
-                globalEntityList.add(newFoe); // Pour le moteur physique et l'affichage
+                environment.addEntity(newFoe); // Pour le moteur physique et l'affichage (donne sa poignée)
+                activeFoes.add(newFoe.getHandle()); // Pour le suivi de la zone (quota)
 
                 enemiesToSpawn--; // Un de moins à faire !
             }
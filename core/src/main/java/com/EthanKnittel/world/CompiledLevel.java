@@ -0,0 +1,390 @@
+package com.EthanKnittel.world;
+
+import com.EthanKnittel.entities.Entity;
+import com.EthanKnittel.entities.artifacts.Wall;
+import com.EthanKnittel.respawn.EnemyRegistry;
+import com.EthanKnittel.respawn.SpawnPoint;
+import com.EthanKnittel.respawn.SpawnZone;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Version "compilée" d'un niveau Tiled : tout ce que le jeu tire du fichier .tmx, sous une forme compacte.
+ * <p>
+ * Contient :
+ * <ul>
+ * <li>La grille de collision des calques de tuiles (ses bits bruts) ;</li>
+ * <li>Les murs (rectangles des calques d'objets, et des tuiles fusionnées en mode "murs") ;</li>
+ * <li>Le point de départ du joueur ;</li>
+ * <li>Les zones d'apparition, avec leurs points déjà rattachés et leurs types d'ennemis / stratégies déjà reconnus ;</li>
+ * <li>Les ennemis placés dans le calque "Setup" ;</li>
+ * <li>L'ordre de dessin des calques (arrière-plan / premier plan).</li>
+ * </ul>
+ * Construite une fois par {@link TiledLevel} à partir de la carte, elle est ensuite écrite sur disque par le
+ * {@link LevelCache} : les chargements suivants la relisent d'une traite au lieu de relire les propriétés texte
+ * de la carte et de refaire les rapprochements points / zones / types d'ennemis.
+ * </p>
+ * <p>
+ * Une fois construite, elle n'est plus modifiée : chaque niveau en tire ses propres objets ({@link #createWalls()},
+ * {@link #createSpawnZones()}...), qui peuvent ensuite changer d'état sans la toucher. Ses listes sont parcourues
+ * par index (pas d'itérateur partagé) : elle peut être lue par plusieurs threads à la fois.
+ * </p>
+ */
+public class CompiledLevel {
+
+    /** Signature du fichier ("ETLV"). */
+    private static final int Magic = 0x45544C56;
+
+    /** Version du format : à incrémenter à chaque changement de {@link #write}/{@link #read}. */
+    public static final int FormatVersion = 1;
+
+    // --- COLLISIONS ---
+    private int mapWidth;
+    private int mapHeight;
+    /** Bits de la {@link TileCollisionMap} ({@code null} en mode "murs"). */
+    private long[] collisionBits;
+    /** Murs, 4 valeurs par mur : x, y, largeur, hauteur. */
+    private final FloatArray walls = new FloatArray();
+    private int removedColliderCount = 0;
+
+    // --- JOUEUR ---
+    private boolean hasPlayerSpawn = false;
+    private float playerSpawnX;
+    private float playerSpawnY;
+
+    // --- ENNEMIS ---
+    private final Array<ZoneData> zones = new Array<>();
+    private final Array<MobData> mobs = new Array<>();
+
+    // --- RENDU ---
+    private int[] backgroundLayers = new int[0];
+    private int[] aboveLayers = new int[0];
+
+    /** Une zone d'apparition et ses points. */
+    static final class ZoneData {
+        final float x, y, width, height;
+        final Array<PointData> points = new Array<>();
+
+        ZoneData(float x, float y, float width, float height) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    /** Un point d'apparition : noms des ennemis autorisés et des stratégies imposées (tous connus des registres). */
+    static final class PointData {
+        final float x, y;
+        final Array<String> enemies = new Array<>();
+        final Array<String> strategies = new Array<>();
+
+        PointData(float x, float y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    /** Un ennemi placé à la main dans le calque "Setup". */
+    static final class MobData {
+        final String enemy;
+        final float x, y;
+        final Array<String> strategies = new Array<>();
+
+        MobData(String enemy, float x, float y) {
+            this.enemy = enemy;
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    // -----------------------------------------------------------
+    // CONSTRUCTION (depuis la carte, par TiledLevel)
+    // -----------------------------------------------------------
+
+    void setCollisionMap(int width, int height, TileCollisionMap collisionMap) {
+        this.mapWidth = width;
+        this.mapHeight = height;
+        this.collisionBits = (collisionMap != null) ? collisionMap.getBits() : null;
+    }
+
+    void addWall(float x, float y, float width, float height) {
+        walls.add(x);
+        walls.add(y);
+        walls.add(width);
+        walls.add(height);
+    }
+
+    void setRemovedColliderCount(int removedColliderCount) {
+        this.removedColliderCount = removedColliderCount;
+    }
+
+    void setPlayerSpawn(float x, float y) {
+        this.hasPlayerSpawn = true;
+        this.playerSpawnX = x;
+        this.playerSpawnY = y;
+    }
+
+    ZoneData addZone(float x, float y, float width, float height) {
+        ZoneData zone = new ZoneData(x, y, width, height);
+        zones.add(zone);
+        return zone;
+    }
+
+    MobData addMob(String enemy, float x, float y) {
+        MobData mob = new MobData(enemy, x, y);
+        mobs.add(mob);
+        return mob;
+    }
+
+    void setLayerOrder(int[] backgroundLayers, int[] aboveLayers) {
+        this.backgroundLayers = backgroundLayers;
+        this.aboveLayers = aboveLayers;
+    }
+
+    // -----------------------------------------------------------
+    // UTILISATION (objets neufs pour chaque niveau)
+    // -----------------------------------------------------------
+
+    /**
+     * @return Une grille de collision (les bits sont partagés : elle ne doit plus être modifiée), ou {@code null} en mode "murs".
+     */
+    public TileCollisionMap createCollisionMap() {
+        return (collisionBits != null) ? new TileCollisionMap(mapWidth, mapHeight, collisionBits) : null;
+    }
+
+    /**
+     * @return De nouveaux murs invisibles (c'est le {@link com.EthanKnittel.graphics.LevelView} qui dessine la carte).
+     */
+    public Array<Entity> createWalls() {
+        Array<Entity> out = new Array<>(walls.size / 4);
+        for (int i = 0; i < walls.size; i += 4) {
+            out.add(new Wall(walls.get(i), walls.get(i + 1), walls.get(i + 2), walls.get(i + 3), false));
+        }
+        return out;
+    }
+
+    /**
+     * @return De nouvelles zones d'apparition, avec leurs points configurés.
+     */
+    public Array<SpawnZone> createSpawnZones() {
+        Array<SpawnZone> out = new Array<>(zones.size);
+        for (int z = 0; z < zones.size; z++) {
+            ZoneData zoneData = zones.get(z);
+            SpawnZone zone = new SpawnZone(new Rectangle(zoneData.x, zoneData.y, zoneData.width, zoneData.height));
+            for (int p = 0; p < zoneData.points.size; p++) {
+                PointData pointData = zoneData.points.get(p);
+                SpawnPoint spawnPoint = new SpawnPoint(pointData.x, pointData.y);
+                for (int i = 0; i < pointData.strategies.size; i++) {
+                    spawnPoint.addForcedStrategy(pointData.strategies.get(i));
+                }
+                for (int i = 0; i < pointData.enemies.size; i++) {
+                    spawnPoint.addAllowedFactory(EnemyRegistry.getFactory(pointData.enemies.get(i)));
+                }
+                zone.addSpawnPoint(spawnPoint);
+            }
+            out.add(zone);
+        }
+        return out;
+    }
+
+    /** @return Le point de départ du joueur (un nouveau vecteur), ou {@code null} si la carte n'en définit pas. */
+    public Vector2 getPlayerSpawnPoint() {
+        return hasPlayerSpawn ? new Vector2(playerSpawnX, playerSpawnY) : null;
+    }
+
+    Array<MobData> getMobs() {
+        return mobs;
+    }
+
+    public int getRemovedColliderCount() {
+        return removedColliderCount;
+    }
+
+    /**
+     * Estime la mémoire occupée par le niveau compilé (grille, murs, zones ; chaînes comptées grossièrement).
+     *
+     * @return Une estimation en octets.
+     */
+    public long getByteSize() {
+        long bytes = (collisionBits != null ? collisionBits.length * 8L : 0) + walls.size * 4L;
+        for (int z = 0; z < zones.size; z++) {
+            bytes += 32 + zones.get(z).points.size * 64L;
+        }
+        bytes += mobs.size * 48L + (backgroundLayers.length + aboveLayers.length) * 4L;
+        return bytes;
+    }
+
+    /** @return Les index des calques dessinés avant les entités. */
+    public int[] getBackgroundLayers() {
+        return backgroundLayers;
+    }
+
+    /** @return Les index des calques dessinés après les entités (propriété "above"). */
+    public int[] getAboveLayers() {
+        return aboveLayers;
+    }
+
+    // -----------------------------------------------------------
+    // FORMAT BINAIRE
+    // -----------------------------------------------------------
+
+    /**
+     * Écrit le niveau compilé (format binaire, lu par {@link #read}).
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(Magic);
+        out.writeInt(FormatVersion);
+
+        // 1. Collisions
+        out.writeInt(mapWidth);
+        out.writeInt(mapHeight);
+        out.writeBoolean(collisionBits != null);
+        if (collisionBits != null) {
+            out.writeInt(collisionBits.length);
+            for (long word : collisionBits) {
+                out.writeLong(word);
+            }
+        }
+        out.writeInt(removedColliderCount);
+        out.writeInt(walls.size);
+        for (int i = 0; i < walls.size; i++) {
+            out.writeFloat(walls.get(i));
+        }
+
+        // 2. Joueur
+        out.writeBoolean(hasPlayerSpawn);
+        out.writeFloat(playerSpawnX);
+        out.writeFloat(playerSpawnY);
+
+        // 3. Zones et points d'apparition
+        out.writeInt(zones.size);
+        for (int z = 0; z < zones.size; z++) {
+            ZoneData zone = zones.get(z);
+            out.writeFloat(zone.x);
+            out.writeFloat(zone.y);
+            out.writeFloat(zone.width);
+            out.writeFloat(zone.height);
+            out.writeInt(zone.points.size);
+            for (int p = 0; p < zone.points.size; p++) {
+                PointData point = zone.points.get(p);
+                out.writeFloat(point.x);
+                out.writeFloat(point.y);
+                writeStrings(out, point.enemies);
+                writeStrings(out, point.strategies);
+            }
+        }
+
+        // 4. Ennemis placés
+        out.writeInt(mobs.size);
+        for (int m = 0; m < mobs.size; m++) {
+            MobData mob = mobs.get(m);
+            out.writeUTF(mob.enemy);
+            out.writeFloat(mob.x);
+            out.writeFloat(mob.y);
+            writeStrings(out, mob.strategies);
+        }
+
+        // 5. Ordre des calques
+        writeInts(out, backgroundLayers);
+        writeInts(out, aboveLayers);
+    }
+
+    /**
+     * Relit un niveau écrit par {@link #write}.
+     *
+     * @throws IOException si le fichier est tronqué, ou d'un autre format / d'une autre version.
+     */
+    public static CompiledLevel read(DataInputStream in) throws IOException {
+        if (in.readInt() != Magic) {
+            throw new IOException("Pas un niveau compilé");
+        }
+        int version = in.readInt();
+        if (version != FormatVersion) {
+            throw new IOException("Version " + version + " au lieu de " + FormatVersion);
+        }
+        CompiledLevel level = new CompiledLevel();
+
+        // 1. Collisions
+        level.mapWidth = in.readInt();
+        level.mapHeight = in.readInt();
+        if (in.readBoolean()) {
+            long[] bits = new long[in.readInt()];
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] = in.readLong();
+            }
+            level.collisionBits = bits;
+        }
+        level.removedColliderCount = in.readInt();
+        int wallValues = in.readInt();
+        level.walls.ensureCapacity(wallValues);
+        for (int i = 0; i < wallValues; i++) {
+            level.walls.add(in.readFloat());
+        }
+
+        // 2. Joueur
+        level.hasPlayerSpawn = in.readBoolean();
+        level.playerSpawnX = in.readFloat();
+        level.playerSpawnY = in.readFloat();
+
+        // 3. Zones et points d'apparition
+        int zoneCount = in.readInt();
+        for (int z = 0; z < zoneCount; z++) {
+            ZoneData zone = level.addZone(in.readFloat(), in.readFloat(), in.readFloat(), in.readFloat());
+            int pointCount = in.readInt();
+            for (int p = 0; p < pointCount; p++) {
+                PointData point = new PointData(in.readFloat(), in.readFloat());
+                readStrings(in, point.enemies);
+                readStrings(in, point.strategies);
+                zone.points.add(point);
+            }
+        }
+
+        // 4. Ennemis placés
+        int mobCount = in.readInt();
+        for (int m = 0; m < mobCount; m++) {
+            MobData mob = level.addMob(in.readUTF(), in.readFloat(), in.readFloat());
+            readStrings(in, mob.strategies);
+        }
+
+        // 5. Ordre des calques
+        level.backgroundLayers = readInts(in);
+        level.aboveLayers = readInts(in);
+        return level;
+    }
+
+    private static void writeStrings(DataOutputStream out, Array<String> strings) throws IOException {
+        out.writeInt(strings.size);
+        for (int i = 0; i < strings.size; i++) {
+            out.writeUTF(strings.get(i));
+        }
+    }
+
+    private static void readStrings(DataInputStream in, Array<String> out) throws IOException {
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            out.add(in.readUTF());
+        }
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static int[] readInts(DataInputStream in) throws IOException {
+        int[] values = new int[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,124 @@
+package com.EthanKnittel.world;
+
+/**
+ * Parcours, dans l'ordre, des cases d'une grille traversées par un segment (algorithme DDA d'Amanatides & Woo).
+ * <p>
+ * Au lieu de tester toutes les cases du rectangle englobant le segment, on avance case par case le long du segment :
+ * à chaque pas, on passe dans la case voisine (en X ou en Y) dont la frontière est atteinte en premier.
+ * Le nombre de cases visitées est donc proportionnel à la longueur du segment, et l'appelant peut
+ * s'arrêter dès la première case qui l'intéresse (ex: une case solide).
+ * </p>
+ * <p>
+ * Utilisation (sans allocation, l'objet est réutilisable) :
+ * <pre>
+ * ray.begin(startX, startY, endX, endY, cellSize);
+ * while (ray.next()) {
+ *     ... ray.getCellX(), ray.getCellY() ...
+ * }
+ * </pre>
+ * </p>
+ */
+public class GridRay {
+
+    // Case courante et case d'arrivée
+    private int cellX;
+    private int cellY;
+    private int endCellX;
+    private int endCellY;
+
+    // Sens du pas sur chaque axe (-1, 0 ou 1)
+    private int stepX;
+    private int stepY;
+
+    // Fraction du segment (entre 0 et 1) à laquelle on franchit la prochaine frontière verticale / horizontale
+    private float nextBoundaryX;
+    private float nextBoundaryY;
+
+    // Fraction du segment nécessaire pour traverser une case entière sur chaque axe
+    private float boundaryStepX;
+    private float boundaryStepY;
+
+    /** Nombre de pas restants avant la case d'arrivée. */
+    private int remaining;
+
+    /** Vrai tant que la case de départ n'a pas encore été renvoyée par {@link #next()}. */
+    private boolean atStart;
+
+    /**
+     * Prépare le parcours d'un segment.
+     *
+     * @param startX   Point de départ (X, unités monde).
+     * @param startY   Point de départ (Y).
+     * @param endX     Point d'arrivée (X).
+     * @param endY     Point d'arrivée (Y).
+     * @param cellSize Taille d'une case (1 pour la grille de tuiles).
+     */
+    public void begin(float startX, float startY, float endX, float endY, float cellSize) {
+        cellX = (int) Math.floor(startX / cellSize);
+        cellY = (int) Math.floor(startY / cellSize);
+        endCellX = (int) Math.floor(endX / cellSize);
+        endCellY = (int) Math.floor(endY / cellSize);
+
+        float deltaX = endX - startX;
+        float deltaY = endY - startY;
+
+        stepX = Integer.signum(endCellX - cellX);
+        stepY = Integer.signum(endCellY - cellY);
+
+        if (stepX != 0) {
+            float boundary = (stepX > 0) ? (cellX + 1) * cellSize : cellX * cellSize;
+            nextBoundaryX = (boundary - startX) / deltaX;
+            boundaryStepX = cellSize / Math.abs(deltaX);
+        } else {
+            nextBoundaryX = Float.MAX_VALUE;
+            boundaryStepX = 0f;
+        }
+        if (stepY != 0) {
+            float boundary = (stepY > 0) ? (cellY + 1) * cellSize : cellY * cellSize;
+            nextBoundaryY = (boundary - startY) / deltaY;
+            boundaryStepY = cellSize / Math.abs(deltaY);
+        } else {
+            nextBoundaryY = Float.MAX_VALUE;
+            boundaryStepY = 0f;
+        }
+
+        remaining = Math.abs(endCellX - cellX) + Math.abs(endCellY - cellY);
+        atStart = true;
+    }
+
+    /**
+     * Passe à la case suivante du segment (la première fois : la case de départ).
+     *
+     * @return {@code false} si la case d'arrivée a déjà été renvoyée (fin du parcours).
+     */
+    public boolean next() {
+        if (atStart) {
+            atStart = false;
+            return true;
+        }
+        if (remaining == 0) {
+            return false;
+        }
+        remaining--;
+
+        // On franchit la frontière la plus proche. Un axe déjà aligné sur l'arrivée n'avance plus
+        // (protège contre les arrondis des float près de la fin du segment).
+        boolean moveX = (cellY == endCellY) || (cellX != endCellX && nextBoundaryX < nextBoundaryY);
+        if (moveX) {
+            cellX += stepX;
+            nextBoundaryX += boundaryStepX;
+        } else {
+            cellY += stepY;
+            nextBoundaryY += boundaryStepY;
+        }
+        return true;
+    }
+
+    public int getCellX() {
+        return cellX;
+    }
+
+    public int getCellY() {
+        return cellY;
+    }
+}
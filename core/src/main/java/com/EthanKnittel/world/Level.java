@@ -35,6 +35,18 @@ public abstract class Level implements Disposable {
      */
     public abstract Array<Entity> load();
 
+    /**
+     * Renvoie la grille de collision des calques de tuiles, si le niveau en possède une.
+     * <p>
+     * Par défaut, un niveau n'a pas de grille : toutes ses collisions passent par des entités (Murs).
+     * </p>
+     *
+     * @return La {@link TileCollisionMap} construite par {@link #load()}, ou {@code null}.
+     */
+    public TileCollisionMap getTileCollisionMap() {
+        return null;
+    }
+
     // Note : La méthode void dispose() est héritée de l'interface Disposable.
     // C'est le contrat qui force les sous-classes (TiledLevel) à le faire.
 }
@@ -0,0 +1,191 @@
+package com.EthanKnittel.world;
+
+import com.EthanKnittel.ai.StrategyRegistry;
+import com.EthanKnittel.game.GameScreen;
+import com.EthanKnittel.respawn.EnemyAssociation;
+import com.EthanKnittel.respawn.EnemyRegistry;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cache disque des niveaux compilés ({@link CompiledLevel}).
+ * <p>
+ * Chaque carte compilée est rangée dans le dossier local {@value #CacheDirectory}, sous un nom qui contient
+ * une <b>empreinte</b> (SHA-1) de tout ce dont elle dépend :
+ * <ul>
+ * <li>le contenu du fichier .tmx et de ses tilesets externes (.tsx) ;</li>
+ * <li>la version du format binaire, le mode de collision ("murs" ou grille) et l'échelle pixels / blocs ;</li>
+ * <li>les noms des ennemis et des stratégies connus des registres (les propriétés de la carte sont reconnues avec eux).</li>
+ * </ul>
+ * Si la carte est modifiée dans Tiled, l'empreinte change : l'ancien fichier est ignoré (puis remplacé).
+ * </p>
+ * <p>
+ * Le fichier est lu d'un seul bloc, puis décodé en mémoire. Les méthodes ne touchent pas à OpenGL :
+ * elles peuvent être appelées depuis le thread du {@link LevelLoader}.
+ * </p>
+ */
+public class LevelCache {
+
+    /** Dossier (stockage local) des niveaux compilés. */
+    private static final String CacheDirectory = "cache/levels/";
+
+    /** Extension des fichiers du cache. */
+    private static final String Extension = ".lvl";
+
+    /** Recherche des tilesets externes dans un .tmx (attribut "source" d'une balise tileset). */
+    private static final Pattern ExternalTileset = Pattern.compile("<tileset[^>]*\\ssource=\"([^\"]+)\"");
+
+    /** Le cache peut être désactivé (ex: pour mesurer le temps d'une compilation complète). */
+    private static boolean useCache = true;
+
+    private LevelCache() {
+    }
+
+    /**
+     * Donne le fichier du cache correspondant à l'état actuel d'une carte.
+     *
+     * @param mapPath          Chemin interne du .tmx.
+     * @param tileLayersAsWalls Mode de collision des calques de tuiles (voir {@link TiledLevel#setTileLayersAsWalls}).
+     * @return Le fichier (qui n'existe pas forcément encore), ou {@code null} si le cache est indisponible.
+     */
+    public static FileHandle getCacheFile(String mapPath, boolean tileLayersAsWalls) {
+        if (!useCache || Gdx.files == null || !Gdx.files.isLocalStorageAvailable()) {
+            return null;
+        }
+        FileHandle tmx = Gdx.files.internal(mapPath);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+
+            // 1. Ce qui change la façon de compiler
+            digest.update(("v" + CompiledLevel.FormatVersion + "|" + tileLayersAsWalls + "|" + GameScreen.getPixelsPerBlocks()).getBytes(StandardCharsets.UTF_8));
+            Array<EnemyAssociation> foes = EnemyRegistry.getAllAssociations();
+            for (int i = 0; i < foes.size; i++) {
+                digest.update(("|e:" + foes.get(i).getName()).getBytes(StandardCharsets.UTF_8));
+            }
+            Array<String> strategies = StrategyRegistry.getAllNames();
+            for (int i = 0; i < strategies.size; i++) {
+                digest.update(("|s:" + strategies.get(i)).getBytes(StandardCharsets.UTF_8));
+            }
+
+            // 2. Le contenu de la carte et de ses tilesets externes
+            byte[] tmxBytes = tmx.readBytes();
+            digest.update(tmxBytes);
+            Matcher matcher = ExternalTileset.matcher(new String(tmxBytes, StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                FileHandle tileset = tmx.parent().child(matcher.group(1));
+                if (tileset.exists()) {
+                    digest.update(tileset.readBytes());
+                }
+            }
+
+            return Gdx.files.local(CacheDirectory + tmx.nameWithoutExtension() + "-" + toHex(digest.digest()) + Extension);
+        } catch (NoSuchAlgorithmException e) {
+            Gdx.app.error("LevelCache", "SHA-1 indisponible, cache désactivé", e);
+            useCache = false;
+            return null;
+        } catch (RuntimeException e) {
+            // Carte illisible : son chargement échouera de toute façon, sans le cache
+            Gdx.app.error("LevelCache", "Empreinte impossible pour " + mapPath, e);
+            return null;
+        }
+    }
+
+    /**
+     * Relit un niveau compilé.
+     *
+     * @param file Le fichier donné par {@link #getCacheFile} (peut être {@code null}).
+     * @return Le niveau, ou {@code null} s'il n'est pas (ou mal) en cache : il faut alors le compiler.
+     */
+    public static CompiledLevel read(FileHandle file) {
+        if (file == null || !file.exists()) {
+            return null;
+        }
+        try {
+            // Une seule lecture du fichier, puis décodage en mémoire
+            byte[] bytes = file.readBytes();
+            return CompiledLevel.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+        } catch (IOException | RuntimeException e) {
+            Gdx.app.error("LevelCache", "Niveau compilé illisible, recompilation : " + file.path(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Écrit un niveau compilé dans le cache (et supprime les anciennes versions de la même carte).
+     * <p>
+     * Une erreur d'écriture n'est pas grave (le niveau sera recompilé la prochaine fois) : elle est seulement affichée.
+     * </p>
+     *
+     * @param file  Le fichier donné par {@link #getCacheFile} (sans effet si {@code null}).
+     * @param level Le niveau à écrire.
+     */
+    public static void write(FileHandle file, CompiledLevel level) {
+        if (file == null) {
+            return;
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            level.write(out);
+            out.flush();
+
+            // 1. Les anciennes versions de cette carte ne serviront plus
+            String prefix = file.nameWithoutExtension().substring(0, file.nameWithoutExtension().lastIndexOf('-') + 1);
+            for (FileHandle old : file.parent().list(Extension)) {
+                String oldName = old.nameWithoutExtension();
+                boolean sameMap = oldName.startsWith(prefix) && oldName.lastIndexOf('-') == prefix.length() - 1;
+                if (sameMap && !old.name().equals(file.name())) {
+                    old.delete();
+                }
+            }
+
+            // 2. Écriture dans un fichier temporaire puis renommage : jamais de fichier à moitié écrit sous le bon nom
+            FileHandle temp = file.sibling(file.name() + ".tmp");
+            temp.writeBytes(bytes.toByteArray(), false);
+            temp.moveTo(file);
+        } catch (IOException | RuntimeException e) {
+            Gdx.app.error("LevelCache", "Impossible d'écrire " + file.path(), e);
+        }
+    }
+
+    /**
+     * Supprime tous les niveaux compilés.
+     */
+    public static void clear() {
+        if (Gdx.files != null && Gdx.files.isLocalStorageAvailable()) {
+            Gdx.files.local(CacheDirectory).deleteDirectory();
+        }
+    }
+
+    public static boolean getUseCache() {
+        return useCache;
+    }
+
+    /**
+     * Active ou désactive le cache (désactivé : chaque chargement recompile la carte, et rien n'est écrit).
+     */
+    public static void setUseCache(boolean useCache) {
+        LevelCache.useCache = useCache;
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16));
+            builder.append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,290 @@
+package com.EthanKnittel.world;
+
+import com.EthanKnittel.assets.AssetCache;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/**
+ * Chargeur de niveau en arrière-plan.
+ * <p>
+ * Charger un niveau d'un coup sur le thread de rendu (lecture du .tmx, parcours de toutes les tuiles, création des murs)
+ * provoque un à-coup visible. Ici, le travail est découpé en deux étapes, lancées à l'avance
+ * (pendant la partie, par le {@link com.EthanKnittel.game.LevelManager}) :
+ * <ol>
+ * <li><b>Carte :</b> le fichier .tmx est mis en file dans l'{@link AssetCache}. Sa lecture et le décodage des images
+ * se font sur le thread de l'AssetManager ; l'envoi des textures à la carte graphique est réparti sur les frames
+ * par {@link #update()} (au plus {@link #getUploadBudgetMillis()} ms par frame).</li>
+ * <li><b>Préparation :</b> dès que la carte est prête, {@link TiledLevel#prepare()} (grille de collision, murs,
+ * zones d'apparition) tourne sur le thread du chargeur.</li>
+ * </ol>
+ * Quand {@link #isDone()} renvoie {@code true}, {@link #finish()} rend le niveau prêt à être installé dans le monde.
+ * </p>
+ * <p>
+ * Avec un {@link MapCache}, une carte déjà jouée saute l'étape 1 (elle est encore en mémoire), et chaque carte
+ * chargée y est rangée une fois prête.
+ * </p>
+ */
+public class LevelLoader implements Disposable {
+
+    /** Temps maximal (en millisecondes) passé à envoyer des textures par frame. */
+    private static final int DefaultUploadBudgetMillis = 4;
+
+    /** Étapes d'un chargement. */
+    private enum Stage {
+        Idle,       // Aucun chargement en cours
+        Map,        // Carte en cours de chargement (AssetManager)
+        Preparing,  // Construction des collisions en arrière-plan
+        Done        // Niveau prêt (ou erreur), en attente de finish()
+    }
+
+    /** Les dernières cartes jouées ({@code null} = pas de cache mémoire). */
+    private final MapCache mapCache;
+
+    /** Le thread de préparation (un seul : un niveau à la fois). */
+    private final AsyncExecutor executor = new AsyncExecutor(1, "LevelLoader");
+
+    private Stage stage = Stage.Idle;
+    private String path;
+    private TiledLevel level;
+    private AsyncResult<Void> preparation;
+    private RuntimeException error;
+
+    private int uploadBudgetMillis = DefaultUploadBudgetMillis;
+
+    // --- STATISTIQUES ---
+    private long startTime;
+    private long lastLoadMillis = 0;
+
+    /** Crée un chargeur sans cache mémoire. */
+    public LevelLoader() {
+        this(null);
+    }
+
+    /**
+     * @param mapCache Le cache des dernières cartes jouées (peut être {@code null}).
+     */
+    public LevelLoader(MapCache mapCache) {
+        this.mapCache = mapCache;
+    }
+
+    /**
+     * Lance le chargement d'un niveau (un chargement précédent non récupéré est annulé).
+     *
+     * @param levelPath Chemin du fichier .tmx.
+     */
+    public void start(String levelPath) {
+        cancel();
+        path = levelPath;
+        error = null;
+        startTime = TimeUtils.millis();
+
+        // Carte encore en mémoire : directement à la préparation
+        level = (mapCache != null) ? mapCache.createLevel(levelPath) : null;
+        if (level != null) {
+            preparation = executor.submit(new PrepareTask(level));
+            stage = Stage.Preparing;
+            return;
+        }
+        AssetCache.getInstance().acquireAsync(levelPath, TiledMap.class);
+        stage = Stage.Map;
+    }
+
+    /**
+     * Fait avancer le chargement. À appeler à chaque frame, sur le thread de rendu.
+     */
+    public void update() {
+        if (stage == Stage.Map) {
+            AssetCache cache = AssetCache.getInstance();
+            // La file est partagée : une erreur sur un autre fichier (ex: un atlas) ne concerne pas ce niveau,
+            // elle est retenue par le cache pour celui qui l'a demandé
+            cache.update(uploadBudgetMillis);
+            Throwable mapError = cache.getLoadError(path);
+            if (mapError != null) {
+                fail(new GdxRuntimeException("Carte impossible à charger : " + path, mapError));
+                return;
+            }
+            if (!cache.isLoaded(path)) {
+                return;
+            }
+            try {
+                // Carte prête : la suite ne demande plus la carte graphique, on la passe au thread du chargeur
+                level = new TiledLevel(path, cache.get(path, TiledMap.class));
+                preparation = executor.submit(new PrepareTask(level));
+                stage = Stage.Preparing;
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+        }
+
+        if (stage == Stage.Preparing && preparation.isDone()) {
+            try {
+                preparation.get(); // Renvoie ici une éventuelle erreur du thread
+                if (mapCache != null) {
+                    mapCache.put(level);
+                }
+                stage = Stage.Done;
+                lastLoadMillis = TimeUtils.timeSinceMillis(startTime);
+                Gdx.app.log("LevelLoader", path + " prêt en " + lastLoadMillis + " ms");
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+    }
+
+    /**
+     * Termine le chargement en cours sans rendre la main (ex: le premier niveau, demandé avant la fin du préchargement).
+     * <p>
+     * Au retour, {@link #isDone()} renvoie {@code true} (sauf si aucun chargement n'était lancé).
+     * </p>
+     */
+    public void finishLoading() {
+        if (stage == Stage.Map) {
+            try {
+                AssetCache.getInstance().finishLoading(path);
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+            update(); // Carte prête : la préparation est lancée
+        }
+        if (stage == Stage.Preparing) {
+            try {
+                preparation.get();
+            } catch (RuntimeException e) {
+                // L'erreur est relevée juste après, par update()
+            }
+            update();
+        }
+    }
+
+    /** Tâche du thread de préparation. */
+    private static final class PrepareTask implements AsyncTask<Void> {
+        private final TiledLevel level;
+
+        private PrepareTask(TiledLevel level) {
+            this.level = level;
+        }
+
+        @Override
+        public Void call() {
+            level.prepare();
+            return null;
+        }
+    }
+
+    private void fail(RuntimeException e) {
+        error = e;
+        stage = Stage.Done;
+        if (level != null) {
+            level.dispose();
+            level = null;
+        } else {
+            AssetCache.getInstance().release(path);
+        }
+    }
+
+    /** @return {@code true} si aucun chargement n'est lancé. */
+    public boolean isIdle() {
+        return stage == Stage.Idle;
+    }
+
+    /** @return {@code true} si le niveau est prêt (ou a échoué) : {@link #finish()} ne bloquera pas. */
+    public boolean isDone() {
+        return stage == Stage.Done;
+    }
+
+    /**
+     * @return L'erreur du chargement terminé (levée par {@link #finish()}), ou {@code null} s'il a réussi ou n'est pas terminé.
+     */
+    public RuntimeException getError() {
+        return (stage == Stage.Done) ? error : null;
+    }
+
+    /**
+     * Récupère le niveau chargé. Le chargeur redevient libre.
+     *
+     * @return Le niveau, déjà préparé : {@link TiledLevel#load()} ne fait plus que rendre ses entités.
+     * @throws GdxRuntimeException si le chargement n'est pas terminé ou a échoué.
+     */
+    public TiledLevel finish() {
+        if (stage != Stage.Done) {
+            throw new GdxRuntimeException("Niveau pas encore chargé : " + path);
+        }
+        stage = Stage.Idle;
+        if (error != null) {
+            RuntimeException e = error;
+            error = null;
+            throw new GdxRuntimeException("Erreur de chargement du niveau " + path, e);
+        }
+        TiledLevel loaded = level;
+        level = null;
+        preparation = null;
+        return loaded;
+    }
+
+    /**
+     * Abandonne le chargement en cours et rend la carte au cache.
+     * <p>
+     * Si la préparation tourne encore, on attend sa fin (elle ne peut pas être interrompue).
+     * </p>
+     */
+    public void cancel() {
+        if (stage == Stage.Idle) {
+            return;
+        }
+        if (stage == Stage.Preparing) {
+            try {
+                preparation.get();
+            } catch (RuntimeException e) {
+                // Le niveau est abandonné : son erreur n'intéresse plus personne
+            }
+        }
+        if (level != null) {
+            level.dispose();
+        } else if (stage == Stage.Map) {
+            AssetCache.getInstance().release(path);
+        }
+        level = null;
+        preparation = null;
+        error = null;
+        stage = Stage.Idle;
+    }
+
+    /** @return Le chemin du niveau en cours (ou du dernier) chargement. */
+    public String getPath() {
+        return path;
+    }
+
+    public int getUploadBudgetMillis() {
+        return uploadBudgetMillis;
+    }
+
+    /**
+     * Change le temps maximal passé à envoyer des textures à la carte graphique par frame.
+     * @param millis Au moins 1 ms.
+     */
+    public void setUploadBudgetMillis(int millis) {
+        this.uploadBudgetMillis = Math.max(1, millis);
+    }
+
+    /** @return La durée (en millisecondes) du dernier chargement, du lancement jusqu'au niveau prêt. */
+    public long getLastLoadMillis() {
+        return lastLoadMillis;
+    }
+
+    /**
+     * Annule le chargement en cours et arrête le thread du chargeur.
+     */
+    @Override
+    public void dispose() {
+        cancel();
+        executor.dispose();
+    }
+}
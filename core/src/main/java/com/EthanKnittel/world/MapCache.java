@@ -0,0 +1,202 @@
+package com.EthanKnittel.world;
+
+import com.EthanKnittel.assets.AssetCache;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.OrderedMap;
+
+/**
+ * Cache mémoire des dernières cartes jouées (du moins récemment utilisée à la plus récente).
+ * <p>
+ * Pour chaque carte, il garde :
+ * <ul>
+ * <li>une référence sur la {@link TiledMap} dans l'{@link AssetCache} : la carte et ses textures restent chargées
+ * après la fin du niveau ;</li>
+ * <li>son {@link CompiledLevel} (grille de collision, murs, zones d'apparition).</li>
+ * </ul>
+ * Revenir sur une carte déjà jouée ne demande alors ni lecture de fichier, ni envoi de textures :
+ * seulement la création des murs et des zones du nouveau niveau.
+ * </p>
+ * <p>
+ * <b>Limites :</b> un nombre maximal de cartes, et une mémoire maximale (textures estimées à 4 octets par pixel,
+ * plus le niveau compilé). Au-delà, la carte utilisée le moins récemment est retirée : sa référence est rendue
+ * à l'{@link AssetCache}, qui ne libère les textures que si aucun autre niveau (ex: celui en cours, ou une carte
+ * qui partage le même tileset) ne les utilise encore.
+ * </p>
+ * <p>
+ * Toutes les méthodes s'appellent sur le thread de rendu. Les niveaux compilés gardés ici sont ceux du mode "grille"
+ * (le mode par défaut de {@link TiledLevel}).
+ * </p>
+ */
+public class MapCache implements Disposable {
+
+    /** Une carte gardée en mémoire. */
+    private static final class Entry {
+        private final CompiledLevel compiledLevel;
+        private final long bytes;
+
+        private Entry(CompiledLevel compiledLevel, long bytes) {
+            this.compiledLevel = compiledLevel;
+            this.bytes = bytes;
+        }
+    }
+
+    /** Cartes gardées, rangées par chemin, de la moins récemment utilisée à la plus récente. */
+    private final OrderedMap<String, Entry> entries = new OrderedMap<>();
+
+    private int maxEntries;
+    private long maxBytes;
+    private long totalBytes = 0;
+
+    // --- STATISTIQUES ---
+    private int hits = 0;
+    private int misses = 0;
+    private int evictions = 0;
+
+    /**
+     * @param maxEntries Nombre maximal de cartes gardées.
+     * @param maxBytes   Mémoire maximale (en octets) des cartes gardées.
+     */
+    public MapCache(int maxEntries, long maxBytes) {
+        this.maxEntries = Math.max(0, maxEntries);
+        this.maxBytes = Math.max(0, maxBytes);
+    }
+
+    /**
+     * Crée un nouveau niveau à partir d'une carte gardée en mémoire.
+     *
+     * @param path Chemin du fichier .tmx.
+     * @return Le niveau (sa propre référence sur la carte est déjà prise ; il reste à appeler {@link TiledLevel#prepare()}),
+     * ou {@code null} si la carte n'est pas dans le cache.
+     */
+    public TiledLevel createLevel(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        touch(path, entry);
+        // Carte déjà chargée : la référence du niveau s'obtient sans attendre
+        TiledMap map = AssetCache.getInstance().acquire(path, TiledMap.class);
+        return new TiledLevel(path, map, entry.compiledLevel);
+    }
+
+    /**
+     * Garde en mémoire la carte d'un niveau qui vient d'être préparé.
+     *
+     * @param level Le niveau (préparé, en mode "grille").
+     */
+    public void put(TiledLevel level) {
+        String path = level.getMapFileName();
+        Entry entry = entries.get(path);
+        if (entry != null) {
+            touch(path, entry);
+            return;
+        }
+        if (level.getMap() == null || level.getCompiledLevel() == null || level.getTileLayersAsWalls()) {
+            return;
+        }
+
+        // Le cache prend sa propre référence : la carte survit à la fin du niveau
+        AssetCache cache = AssetCache.getInstance();
+        cache.acquire(path, TiledMap.class);
+        long bytes = cache.getResidentBytes(path) + level.getCompiledLevel().getByteSize();
+        entries.put(path, new Entry(level.getCompiledLevel(), bytes));
+        totalBytes += bytes;
+
+        trim();
+    }
+
+    /**
+     * Passe une carte en tête (la plus récemment utilisée).
+     */
+    private void touch(String path, Entry entry) {
+        entries.remove(path);
+        entries.put(path, entry);
+    }
+
+    /**
+     * Retire les cartes les moins récemment utilisées jusqu'à respecter les limites.
+     */
+    private void trim() {
+        while (entries.size > 0 && (entries.size > maxEntries || totalBytes > maxBytes)) {
+            evict(entries.orderedKeys().first());
+        }
+    }
+
+    /**
+     * Retire une carte du cache et rend sa référence (ses textures sont libérées si plus personne ne les utilise).
+     */
+    private void evict(String path) {
+        Entry entry = entries.remove(path);
+        totalBytes -= entry.bytes;
+        evictions++;
+        if (AssetCache.instance != null) {
+            AssetCache.instance.release(path);
+        }
+        Gdx.app.log("MapCache", path + " retirée du cache (" + (entry.bytes / 1024) + " Ko)");
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Change les limites du cache (les cartes en trop sont retirées aussitôt).
+     *
+     * @param maxEntries Nombre maximal de cartes gardées (0 = cache désactivé).
+     * @param maxBytes   Mémoire maximale (en octets).
+     */
+    public void setLimits(int maxEntries, long maxBytes) {
+        this.maxEntries = Math.max(0, maxEntries);
+        this.maxBytes = Math.max(0, maxBytes);
+        trim();
+    }
+
+    /** @return {@code true} si la carte est gardée en mémoire. */
+    public boolean contains(String path) {
+        return entries.containsKey(path);
+    }
+
+    /** @return Le nombre de cartes gardées. */
+    public int getSize() {
+        return entries.size;
+    }
+
+    /** @return La mémoire estimée (en octets) des cartes gardées. */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    public int getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Retire toutes les cartes du cache.
+     */
+    public void clear() {
+        while (entries.size > 0) {
+            evict(entries.orderedKeys().first());
+        }
+    }
+
+    @Override
+    public void dispose() {
+        clear();
+    }
+}
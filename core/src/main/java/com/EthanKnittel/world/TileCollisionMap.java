@@ -0,0 +1,188 @@
+package com.EthanKnittel.world;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Grille de collision compacte des calques de tuiles.
+ * <p>
+ * Au lieu de créer un {@link com.EthanKnittel.entities.artifacts.Wall} (position, vitesse, hitbox...) pour chaque
+ * tuile solide, on stocke un simple <b>bit</b> par case : 1 = solide, 0 = vide.
+ * Une carte de 200x100 tuiles tient ainsi dans 2 500 octets.
+ * </p>
+ * <p>
+ * Les cases sont adressées par leurs coordonnées entières (colonne, ligne), qui correspondent directement
+ * aux unités du monde : la case (x, y) occupe le rectangle {@code [x, x+1] x [y, y+1]}.
+ * </p>
+ * <p>
+ * Le {@link com.EthanKnittel.world.systems.PhysicSystem} n'interroge que les cases recouvertes par la hitbox
+ * (balayée) d'une entité : le coût dépend donc de la taille de l'entité, plus de la taille de la carte.
+ * </p>
+ */
+public class TileCollisionMap {
+
+    /** Largeur de la grille (en cases). */
+    private final int width;
+
+    /** Hauteur de la grille (en cases). */
+    private final int height;
+
+    /** Les bits de la grille, 64 cases par mot, rangées ligne par ligne. */
+    private final long[] bits;
+
+    /** Parcours réutilisable des cases traversées par un segment (évite une allocation par test). */
+    private final GridRay ray = new GridRay();
+
+    /**
+     * Crée une grille entièrement vide.
+     *
+     * @param width  Nombre de colonnes.
+     * @param height Nombre de lignes.
+     */
+    public TileCollisionMap(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.bits = new long[(width * height + 63) / 64];
+    }
+
+    /**
+     * Crée une grille à partir de bits déjà calculés (relus depuis un {@link CompiledLevel}).
+     *
+     * @param bits Les bits de la grille (partagés, pas copiés).
+     */
+    TileCollisionMap(int width, int height, long[] bits) {
+        this.width = width;
+        this.height = height;
+        this.bits = bits;
+    }
+
+    /**
+     * Marque une case comme solide.
+     * Les coordonnées hors de la grille sont ignorées.
+     */
+    public void setSolid(int cellX, int cellY) {
+        if (!isInside(cellX, cellY)) {
+            return;
+        }
+        int index = cellY * width + cellX;
+        bits[index >> 6] |= 1L << (index & 63);
+    }
+
+    /**
+     * Indique si une case est solide.
+     *
+     * @return {@code true} si la case contient une tuile d'un calque "collidable".
+     * Une case hors de la grille est toujours considérée comme vide.
+     */
+    public boolean isSolid(int cellX, int cellY) {
+        if (!isInside(cellX, cellY)) {
+            return false;
+        }
+        int index = cellY * width + cellX;
+        return (bits[index >> 6] & (1L << (index & 63))) != 0;
+    }
+
+    /**
+     * Vérifie si un segment traverse au moins une case solide.
+     * <p>
+     * Les cases sont parcourues le long du segment ({@link GridRay}, algorithme DDA) et le parcours s'arrête
+     * à la première case solide : le coût dépend de la longueur du segment, plus de la taille de la zone qu'il couvre.
+     * Utilisé pour la ligne de vue des ennemis.
+     * </p>
+     *
+     * @return {@code true} si une case solide coupe le segment.
+     */
+    public boolean segmentHitsSolid(float startX, float startY, float endX, float endY) {
+        ray.begin(startX, startY, endX, endY, 1f);
+        while (ray.next()) {
+            if (isSolid(ray.getCellX(), ray.getCellY())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Regroupe les cases solides en rectangles maximaux (fusion gloutonne).
+     * <p>
+     * <b>Fonctionnement :</b>
+     * <ol>
+     * <li>Sur chaque ligne, les cases solides contiguës forment une "bande" horizontale.</li>
+     * <li>Si la ligne du dessus contient une bande qui commence et finit exactement aux mêmes colonnes,
+     * le rectangle de la ligne précédente est prolongé d'une case vers le haut au lieu d'en créer un nouveau.</li>
+     * </ol>
+     * </p>
+     * <p>
+     * Les rectangles couvrent exactement les mêmes cases que la grille, sans chevauchement :
+     * leurs bords coïncident avec ceux des tuiles d'origine, donc un mur fusionné bloque, pose au sol
+     * et signale le contact mural exactement comme les tuiles qu'il remplace.
+     * </p>
+     *
+     * @param out Liste remplie avec les rectangles trouvés (en unités monde, une case = 1x1).
+     * @return Le nombre de rectangles ajoutés à {@code out}.
+     */
+    public int mergeIntoRectangles(Array<Rectangle> out) {
+        int firstIndex = out.size;
+
+        // Rectangle "ouvert" (encore prolongeable) de la ligne précédente, indexé par la colonne de début de sa bande.
+        int[] openIndex = new int[width];
+        int[] openEnd = new int[width];
+        int[] nextIndex = new int[width];
+        int[] nextEnd = new int[width];
+        java.util.Arrays.fill(openIndex, -1);
+        java.util.Arrays.fill(nextIndex, -1);
+
+        for (int cy = 0; cy < height; cy++) {
+            int cx = 0;
+            while (cx < width) {
+                if (!isSolid(cx, cy)) {
+                    cx++;
+                    continue;
+                }
+                // 1. Recherche de la fin de la bande horizontale
+                int start = cx;
+                while (cx < width && isSolid(cx, cy)) {
+                    cx++;
+                }
+
+                // 2. Même bande sur la ligne du dessous -> on prolonge vers le haut
+                int index = openIndex[start];
+                if (index >= 0 && openEnd[start] == cx) {
+                    out.get(index).height += 1f;
+                } else {
+                    index = out.size;
+                    out.add(new Rectangle(start, cy, cx - start, 1f));
+                }
+                nextIndex[start] = index;
+                nextEnd[start] = cx;
+            }
+
+            // 3. Les bandes de cette ligne deviennent les rectangles ouverts pour la suivante
+            int[] swap = openIndex;
+            openIndex = nextIndex;
+            nextIndex = swap;
+            swap = openEnd;
+            openEnd = nextEnd;
+            nextEnd = swap;
+            java.util.Arrays.fill(nextIndex, -1);
+        }
+        return out.size - firstIndex;
+    }
+
+    private boolean isInside(int cellX, int cellY) {
+        return cellX >= 0 && cellY >= 0 && cellX < width && cellY < height;
+    }
+
+    /** @return Les bits de la grille (pour l'écrire dans un {@link CompiledLevel}). */
+    long[] getBits() {
+        return bits;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
@@ -1,5 +1,6 @@
 package com.EthanKnittel.world;
 
+import com.EthanKnittel.assets.AssetCache;
 import com.EthanKnittel.ai.BrainStrategy;
 import com.EthanKnittel.ai.EnemyStrategy;
 import com.EthanKnittel.ai.StrategyRegistry;
@@ -9,17 +10,20 @@ import com.EthanKnittel.entities.agents.Player;
 import com.EthanKnittel.entities.artifacts.Wall;
 import com.EthanKnittel.game.GameScreen;
 import com.EthanKnittel.respawn.*; // Importe tout le dossier respawn (SpawnPoint, Zone, etc)
+import com.EthanKnittel.world.systems.Environment;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.maps.tiled.objects.TiledMapTileMapObject;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 
 /**
  * Implémentation d'un {@link Level} chargé depuis un fichier Tiled (.tmx).
@@ -28,6 +32,21 @@ import com.badlogic.gdx.utils.Array;
  * en entités du jeu (Murs, Ennemis, Zones de Spawn).
  * </p>
  * <p>
+ * Les calques de tuiles "collidable" ne deviennent pas des entités : ils sont compactés dans une
+ * {@link TileCollisionMap} (un bit par case). Seuls les objets libres (rectangles, tuiles-objets) deviennent des murs.
+ * Leurs tailles étant quelconques, l'{@link Environment} les range dans un
+ * {@link com.EthanKnittel.world.systems.StaticTree} plutôt que dans la grille de la Broadphase.
+ * </p>
+ * <p>
+ * Si l'on préfère garder les tuiles sous forme de murs (voir {@link #setTileLayersAsWalls(boolean)}), les cases
+ * voisines sont d'abord fusionnées en rectangles maximaux : un sol de 100 tuiles devient un seul mur.
+ * </p>
+ * <p>
+ * Le travail de construction est regroupé dans {@link #prepare()}, qui ne touche pas à la carte graphique :
+ * le {@link LevelLoader} l'exécute sur un thread d'arrière-plan pendant le fondu de fin de niveau.
+ * La carte elle-même est prise dans l'{@link AssetCache} (et lui est rendue par {@link #dispose()}).
+ * </p>
+ * <p>
  * Elle gère notamment :
  * <ul>
  * <li>La conversion des coordonnées (Pixels Tiled -> Mètres/Blocs Box2D/Monde).</li>
@@ -48,6 +67,27 @@ public class TiledLevel extends Level{
     /** Point de départ du joueur (lu depuis le calque "Setup"). */
     private Vector2 playerSpawnPoint;
 
+    /** Grille de collision des calques de tuiles (construite dans {@link #prepare()}). */
+    private TileCollisionMap tileCollisionMap;
+
+    /**
+     * Mode "murs" pour les calques de tuiles.
+     * <p>
+     * {@code false} (défaut) : les tuiles solides sont stockées dans la {@link TileCollisionMap}.<br>
+     * {@code true} : les tuiles deviennent des entités {@link Wall}, fusionnées en rectangles au chargement.
+     * </p>
+     */
+    private boolean tileLayersAsWalls = false;
+
+    /** Nombre de murs économisés par la fusion lors du dernier {@link #load()} (mode "murs" uniquement). */
+    private int removedColliderCount = 0;
+
+    /** Version compilée de la carte (construite ou relue dans {@link #prepare()}). */
+    private CompiledLevel compiledLevel;
+
+    /** Entités construites par {@link #prepare()}, en attente d'être remises au monde par {@link #load()}. */
+    private Array<Entity> preparedEntities;
+
     // --- CONSTANTES (Noms des calques dans Tiled) ---
     private static final String SpawnLayerName= "SpawnZones";
     private static final String SetupLayerName = "Setup"; // nom du calque de setup
@@ -62,6 +102,27 @@ public class TiledLevel extends Level{
         this.spawnZones = new Array<>();
     }
 
+    /**
+     * Crée un niveau à partir d'une carte déjà chargée (par le {@link LevelLoader}).
+     *
+     * @param filename Chemin du fichier, sous lequel la carte est rangée dans l'{@link AssetCache}.
+     * @param map      La carte, dont une référence a été prise dans le cache pour ce niveau.
+     */
+    TiledLevel(String filename, TiledMap map) {
+        this(filename);
+        this.map = map;
+    }
+
+    /**
+     * Crée un niveau à partir d'une carte et d'un niveau compilé déjà en mémoire (par le {@link MapCache}).
+     *
+     * @param compiledLevel La version compilée de la carte (partagée : elle n'est jamais modifiée).
+     */
+    TiledLevel(String filename, TiledMap map, CompiledLevel compiledLevel) {
+        this(filename, map);
+        this.compiledLevel = compiledLevel;
+    }
+
     // --- GETTERS ---
     public Array<SpawnZone> getSpawnZones(){
         return spawnZones;
@@ -75,19 +136,120 @@ public class TiledLevel extends Level{
         return map;
     }
 
+    /** @return La version compilée de la carte (après {@link #prepare()}). */
+    CompiledLevel getCompiledLevel() {
+        return compiledLevel;
+    }
+
+    /** @return Le chemin du fichier .tmx. */
+    public String getMapFileName() {
+        return mapFileName;
+    }
+
+    /** @return Les index des calques dessinés avant les entités (après {@link #prepare()}). */
+    public int[] getBackgroundLayers() {
+        return (compiledLevel != null) ? compiledLevel.getBackgroundLayers() : null;
+    }
+
+    /** @return Les index des calques dessinés après les entités (après {@link #prepare()}). */
+    public int[] getAboveLayers() {
+        return (compiledLevel != null) ? compiledLevel.getAboveLayers() : null;
+    }
+
+    @Override
+    public TileCollisionMap getTileCollisionMap() {
+        return tileCollisionMap;
+    }
+
+    public boolean getTileLayersAsWalls() {
+        return tileLayersAsWalls;
+    }
+
+    /**
+     * Choisit comment les calques de tuiles sont transformés en collisions (à appeler avant {@link #prepare()}).
+     * @param tileLayersAsWalls {@code true} pour générer des murs fusionnés au lieu de la grille de collision.
+     */
+    public void setTileLayersAsWalls(boolean tileLayersAsWalls) {
+        this.tileLayersAsWalls = tileLayersAsWalls;
+    }
+
+    /** @return Le nombre de murs 1x1 évités grâce à la fusion en rectangles (0 en mode grille). */
+    public int getRemovedColliderCount() {
+        return removedColliderCount;
+    }
+
     /**
      * Charge le niveau, analyse les calques et crée les entités physiques.
+     * <p>
+     * Si {@link #prepare()} a déjà été appelé (ex: en arrière-plan), renvoie directement les entités préparées.
+     * </p>
      *
-     * @return La liste de toutes les entités statiques (Murs) créées.
+     * @return La liste de toutes les entités statiques (Murs des calques d'objets, et des tuiles en mode "murs") créées.
      */
     @Override
     public Array<Entity> load() {
-        Array<Entity> generatedEntities = new Array<>();
+        if (preparedEntities == null) {
+            prepare();
+        }
+        Array<Entity> generatedEntities = preparedEntities;
+        preparedEntities = null; // Les entités n'entrent qu'une fois dans le monde
+        return generatedEntities;
+    }
 
-        // 1. Chargement du fichier TMX en mémoire
-        map = new TmxMapLoader().load(mapFileName);
+    /**
+     * Construit tout ce dont le niveau a besoin : grille de collision, murs, point de départ du joueur et zones d'apparition.
+     * <p>
+     * Le tout vient d'un {@link CompiledLevel} : déjà fourni par le {@link MapCache}, relu depuis le {@link LevelCache}
+     * si la carte n'a pas changé depuis le dernier lancement, sinon compilé à partir des calques de la carte
+     * (puis écrit dans le cache).
+     * </p>
+     * <p>
+     * Si la carte a été fournie au constructeur, cette méthode ne fait que du calcul et des lectures de fichiers
+     * (aucun appel à OpenGL) : elle peut alors tourner sur un autre thread que celui du rendu. Sinon, la carte est
+     * d'abord chargée (de façon bloquante) depuis l'{@link AssetCache}.
+     * </p>
+     */
+    public void prepare() {
+        // 1. Chargement du fichier TMX en mémoire (s'il n'a pas déjà été fait en arrière-plan)
+        // La carte sert au dessin (LevelView) : elle est chargée même si le niveau compilé est en cache
+        if (map == null) {
+            map = AssetCache.getInstance().acquire(mapFileName, TiledMap.class);
+        }
+
+        // 2. Niveau compilé : déjà en mémoire, depuis le cache disque, ou en analysant les calques
+        if (compiledLevel == null) {
+            FileHandle cacheFile = LevelCache.getCacheFile(mapFileName, tileLayersAsWalls);
+            compiledLevel = LevelCache.read(cacheFile);
+            if (compiledLevel == null) {
+                compiledLevel = compile();
+                LevelCache.write(cacheFile, compiledLevel);
+            } else {
+                Gdx.app.log("TiledLevel", mapFileName + " : niveau compilé lu depuis le cache");
+            }
+        }
+
+        // 3. Objets propres à ce niveau (les zones et les murs changent d'état pendant la partie)
+        tileCollisionMap = compiledLevel.createCollisionMap();
+        playerSpawnPoint = compiledLevel.getPlayerSpawnPoint();
+        spawnZones.clear();
+        spawnZones.addAll(compiledLevel.createSpawnZones());
+        removedColliderCount = compiledLevel.getRemovedColliderCount();
+        preparedEntities = compiledLevel.createWalls();
+    }
+
+    /**
+     * Analyse les calques de la carte et en tire un {@link CompiledLevel}.
+     */
+    private CompiledLevel compile() {
+        CompiledLevel compiled = new CompiledLevel();
 
-        // 2. Recherche du point de spawn du joueur (Calque "Setup")
+        // La grille de collision couvre toute la carte (dimensions en tuiles lues dans le fichier TMX)
+        int mapWidthInTiles = map.getProperties().get("width", 0, Integer.class);
+        int mapHeightInTiles = map.getProperties().get("height", 0, Integer.class);
+        TileCollisionMap collisionMap = tileLayersAsWalls ? null : new TileCollisionMap(mapWidthInTiles, mapHeightInTiles);
+        int removedColliders = 0;
+
+        // 1. Recherche du point de spawn du joueur et des ennemis placés (Calque "Setup")
         MapLayer setuplayer = map.getLayers().get(SetupLayerName);
         for (MapObject object : setuplayer.getObjects()) {
             if (object.getProperties().containsKey("playerSpawnPoint")) {
@@ -95,14 +257,15 @@ public class TiledLevel extends Level{
                 float y = object.getProperties().get("y", Float.class);
 
                 // Conversion Pixels -> Unités Monde
-                this.playerSpawnPoint = new Vector2(x / GameScreen.getPixelsPerBlocks(), y / GameScreen.getPixelsPerBlocks());
+                compiled.setPlayerSpawn(x / GameScreen.getPixelsPerBlocks(), y / GameScreen.getPixelsPerBlocks());
             }
         }
+        compileStaticMobs(setuplayer, compiled);
 
-        // 3. Configuration des zones de spawn (Ennemis dynamiques)
-        loadSpawnZones();
+        // 2. Configuration des zones de spawn (Ennemis dynamiques)
+        compileSpawnZones(compiled);
 
-        // 4. Génération des Murs (Physique)
+        // 3. Génération des collisions (Grille de tuiles + Murs pour les objets)
         // On parcourt tous les calques de la carte
         for (int i=0; i < map.getLayers().getCount(); i++) {
             MapLayer layer = map.getLayers().get(i);
@@ -119,17 +282,27 @@ public class TiledLevel extends Level{
                 int mapWidth = tileLayer.getWidth();
                 int mapHeight = tileLayer.getHeight();
 
+                // En mode "murs", on remplit une grille propre au calque pour la fusionner ensuite
+                TileCollisionMap targetCells = tileLayersAsWalls ? new TileCollisionMap(mapWidth, mapHeight) : collisionMap;
+                int solidTiles = 0;
+
                 // On scanne chaque case de la grille
                 for (int x = 0; x < mapWidth; x++) {
                     for (int y = 0; y < mapHeight; y++) {
                         TiledMapTileLayer.Cell cell = tileLayer.getCell(x, y);
-                        // Si la case contient une tuile, on crée un mur physique invisible par dessus
+                        // Si la case contient une tuile, on la marque comme solide dans la grille de collision
+                        // (pas d'entité : c'est le LevelView qui dessine la map et le PhysicSystem qui lit la grille)
                         if (cell != null && cell.getTile() != null) {
-                            // Wall(x, y, w, h, visible=false) car c'est le LevelView qui dessine la map
-                            generatedEntities.add(new Wall(x, y, 1f, 1f, false));
+                            targetCells.setSolid(x, y);
+                            solidTiles++;
                         }
                     }
                 }
+
+                if (tileLayersAsWalls) {
+                    solidTiles -= addMergedWalls(targetCells, compiled);
+                    removedColliders += solidTiles;
+                }
                 // CAS B : Calque d'Objets (Rectangles placés librement)
             } else {
                 for (MapObject object : layer.getObjects()) {
@@ -158,12 +331,39 @@ public class TiledLevel extends Level{
                     }
 
                     // Ajout du mur physique
-                    generatedEntities.add(new Wall(scaledX, scaledY, scaledWidth, scaledHeight, false));
+                    compiled.addWall(scaledX, scaledY, scaledWidth, scaledHeight);
                 }
             }
         }
 
-        return generatedEntities;
+        if (tileLayersAsWalls) {
+            Gdx.app.log("TiledLevel", mapFileName + " : fusion des tuiles, " + removedColliders + " murs en moins");
+        }
+        compiled.setCollisionMap(mapWidthInTiles, mapHeightInTiles, collisionMap);
+        compiled.setRemovedColliderCount(removedColliders);
+
+        // 4. Ordre de dessin des calques (pour le LevelView)
+        compileLayerOrder(compiled);
+
+        return compiled;
+    }
+
+    /**
+     * Transforme les cases solides d'un calque en murs invisibles, après fusion en rectangles maximaux
+     * (d'abord le long des lignes, puis vers le haut le long des colonnes).
+     *
+     * @param layerCells Les cases solides du calque.
+     * @param out        Le niveau compilé où ajouter les murs créés.
+     * @return Le nombre de murs créés.
+     */
+    private int addMergedWalls(TileCollisionMap layerCells, CompiledLevel out) {
+        Array<Rectangle> rectangles = new Array<>();
+        layerCells.mergeIntoRectangles(rectangles);
+        for (Rectangle rectangle : rectangles) {
+            // Murs invisibles car c'est le LevelView qui dessine la map
+            out.addWall(rectangle.x, rectangle.y, rectangle.width, rectangle.height);
+        }
+        return rectangles.size;
     }
 
     /**
@@ -174,12 +374,13 @@ public class TiledLevel extends Level{
      * <li><b>Points (SpawnPoint) :</b> Emplacements précis. Lisent les propriétés (ex: "Cactus"=true) pour savoir quel monstre faire apparaître.</li>
      * <li><b>Zones (SpawnZone) :</b> Rectangles géographiques qui regroupent les points qu'ils contiennent.</li>
      * </ul>
+     * Les noms reconnus (ennemis, stratégies) et le rattachement des points aux zones sont gardés dans le niveau compilé.
      * </p>
      */
-    private void loadSpawnZones(){
+    private void compileSpawnZones(CompiledLevel compiled){
         MapLayer spawnLayer = map.getLayers().get(SpawnLayerName);
 
-        Array<SpawnZone> tempZones = new Array<>();
+        Array<CompiledLevel.ZoneData> tempZones = new Array<>();
         Array<MapObject> tempPoints = new Array<>();
 
         // On récupère toute la liste d'ennemis connus d'un coup
@@ -209,7 +410,7 @@ public class TiledLevel extends Level{
                     float width = rectangle.width / GameScreen.getPixelsPerBlocks();
                     float height = rectangle.height / GameScreen.getPixelsPerBlocks();
 
-                    tempZones.add(new SpawnZone(new Rectangle(x, y, width, height)));
+                    tempZones.add(compiled.addZone(x, y, width, height));
                 }
             }
         }
@@ -221,32 +422,17 @@ public class TiledLevel extends Level{
             float x =  rawX / GameScreen.getPixelsPerBlocks();
             float y = rawY / GameScreen.getPixelsPerBlocks();
 
-            SpawnPoint spawnPoint = new SpawnPoint(x, y);
+            CompiledLevel.PointData spawnPoint = new CompiledLevel.PointData(x, y);
 
             // A. Détection des Stratégies (IA) forcées
             // On parcourt toutes les propriétés pour voir si elles correspondent à des stratégies connues (ex: "Chase")
-            Array<String> listeDesProprietes = new Array<>();
-            java.util.Iterator<String> it = points.getProperties().getKeys();
-            while(it.hasNext()) {
-                listeDesProprietes.add(it.next());
-            }
-            for (String key : listeDesProprietes) {
-                // Si le nom de la propriété correspond à une stratégie connue dans notre registre
-                if (StrategyRegistry.exists(key)) {
-                    // Si la case est cochée (true)
-                    boolean isEnabled = points.getProperties().get(key, false, Boolean.class);
-                    if (isEnabled) {
-                        spawnPoint.addForcedStrategy(key);
-                    }
-                }
-            }
+            readEnabledStrategies(points, spawnPoint.strategies);
 
             // B. Détection des Types d'Ennemis autorisés
             for (int i=0; i < allKnownFoes.size; i++) {
-                EnemyAssociation association = allKnownFoes.get(i);
-                String enemyName = association.getName();
+                String enemyName = allKnownFoes.get(i).getName();
 
-                // Si la propriété "Cactus" est true, on ajoute l'usine CactusFactory
+                // Si la propriété "Cactus" est true, le point pourra utiliser la CactusFactory
                 boolean isEnabled = false;
                 try {
                     isEnabled = points.getProperties().get(enemyName, false, Boolean.class);
@@ -255,88 +441,137 @@ public class TiledLevel extends Level{
                 }
 
                 if (isEnabled) {
-                    spawnPoint.addAllowedFactory(association.getFactory());
+                    spawnPoint.enemies.add(enemyName);
                 }
             }
 
             // 3. Assignation du Point à sa Zone
             // On regarde dans quel rectangle (Zone) tombe ce point (Point)
-            for (SpawnZone zone : tempZones) {
-                if (zone.getZoneBounds().contains(x,y)){
-                    zone.addSpawnPoint(spawnPoint);
+            for (CompiledLevel.ZoneData zone : tempZones) {
+                if (x >= zone.x && x <= zone.x + zone.width && y >= zone.y && y <= zone.y + zone.height){
+                    zone.points.add(spawnPoint);
                     break;
                 }
             }
         }
-
-        this.spawnZones.addAll(tempZones);
     }
 
     /**
-     * Fait apparaître les ennemis "statiques" placés directement dans le calque Setup via Tiled.
-     * <p>
-     * Ces ennemis sont présents dès le début du niveau et ne réapparaissent pas une fois tués.
-     * </p>
+     * Relève les ennemis "statiques" placés directement dans le calque Setup via Tiled.
      *
-     * @param player           Le joueur (cible initiale).
-     * @param globalEntityList La liste globale pour ajouter les ennemis créés.
+     * @param setupLayer Le calque "Setup".
+     * @param compiled   Le niveau compilé où les ranger.
      */
-    public void spawnStaticMobs(Player player, Array<Entity> globalEntityList){
-        MapLayer setupLayer = map.getLayers().get(SetupLayerName);
-
-        if (setupLayer != null) {
-            for (MapObject object : setupLayer.getObjects()) {
-                String objectName = object.getName(); // ex: "Cactus"
-                EnemyFactory factory = EnemyRegistry.getFactory(objectName);
-
-                if (factory != null) {
-                    float x = object.getProperties().get("x", Float.class) /  GameScreen.getPixelsPerBlocks();
-                    float y = object.getProperties().get("y", Float.class) /   GameScreen.getPixelsPerBlocks();
+    private void compileStaticMobs(MapLayer setupLayer, CompiledLevel compiled) {
+        if (setupLayer == null) {
+            return;
+        }
+        for (MapObject object : setupLayer.getObjects()) {
+            String objectName = object.getName(); // ex: "Cactus"
+            if (EnemyRegistry.getFactory(objectName) == null) {
+                continue;
+            }
+            float x = object.getProperties().get("x", Float.class) /  GameScreen.getPixelsPerBlocks();
+            float y = object.getProperties().get("y", Float.class) /   GameScreen.getPixelsPerBlocks();
 
-                    Foe newFoe = factory.create(x, y, player, globalEntityList);
+            // Configuration IA (similaire aux SpawnPoints)
+            CompiledLevel.MobData mob = compiled.addMob(objectName, x, y);
+            readEnabledStrategies(object, mob.strategies);
+        }
+    }
 
-                    // Configuration IA (similaire aux SpawnPoints)
-                    BrainStrategy brain = new BrainStrategy();
-                    boolean strategyFound = false;
+    /**
+     * Relève les stratégies cochées sur un objet de la carte (propriétés booléennes portant le nom d'une stratégie connue).
+     *
+     * @param object L'objet Tiled.
+     * @param out    La liste où ajouter les noms.
+     */
+    private static void readEnabledStrategies(MapObject object, Array<String> out) {
+        java.util.Iterator<String> it = object.getProperties().getKeys();
+        while (it.hasNext()) {
+            String key = it.next();
+            // Si le nom de la propriété correspond à une stratégie connue dans notre registre, et que la case est cochée
+            if (StrategyRegistry.exists(key) && object.getProperties().get(key, false, Boolean.class)
+                && !out.contains(key, false)) {
+                out.add(key);
+            }
+        }
+    }
 
-                    Array<String> listeDesProprietes = new Array<>();
-                    java.util.Iterator<String> it = object.getProperties().getKeys();
-                    while (it.hasNext()) {
-                        listeDesProprietes.add(it.next());
-                    }
-                    for (String key : listeDesProprietes) {
-                        // Si c'est une stratégie connue
-                        if (StrategyRegistry.exists(key)) {
-                            boolean isEnabled = object.getProperties().get(key, false, Boolean.class);
-
-                            if (isEnabled) {
-                                EnemyStrategy s = StrategyRegistry.create(key);
-                                if (s != null) {
-                                    brain.addStrategy(s);
-                                    strategyFound = true;
-                                }
-                            }
-                        }
-                    }
+    /**
+     * Trie les calques en deux groupes pour le {@link com.EthanKnittel.graphics.LevelView} :
+     * dessinés avant les entités, ou après (propriété booléenne "above" dans Tiled).
+     * Les calques techniques (SpawnZones, Setup) ne sont pas dessinés.
+     */
+    private void compileLayerOrder(CompiledLevel compiled) {
+        IntArray backgroundIndices = new IntArray();
+        IntArray aboveIndices = new IntArray();
 
-                    // Si on a trouvé au moins une stratégie, on remplace le cerveau par défaut
-                    if (strategyFound) {
-                        newFoe.setStrategy(brain);
-                    }
+        for (int i = 0; i < map.getLayers().getCount(); i++) {
+            MapLayer layer = map.getLayers().get(i);
+            if (layer.getName().equals(SpawnLayerName) || layer.getName().equals(SetupLayerName)) {
+                continue;
+            }
+            if (layer.getProperties().get("above", false, Boolean.class)) {
+                aboveIndices.add(i);
+            } else {
+                backgroundIndices.add(i);
+            }
+        }
+        compiled.setLayerOrder(backgroundIndices.toArray(), aboveIndices.toArray());
+    }
 
-                    globalEntityList.add(newFoe);
+    /**
+     * Fait apparaître les ennemis "statiques" placés directement dans le calque Setup via Tiled.
+     * <p>
+     * Ces ennemis sont présents dès le début du niveau et ne réapparaissent pas une fois tués.
+     * </p>
+     *
+     * @param player      Le joueur (cible initiale).
+     * @param environment Le monde dans lequel ajouter les ennemis créés.
+     */
+    public void spawnStaticMobs(Player player, Environment environment){
+        if (compiledLevel == null) {
+            return;
+        }
+        Array<CompiledLevel.MobData> mobs = compiledLevel.getMobs();
+        for (int m = 0; m < mobs.size; m++) {
+            CompiledLevel.MobData mob = mobs.get(m);
+            EnemyFactory factory = EnemyRegistry.getFactory(mob.enemy);
+            if (factory == null) {
+                continue;
+            }
+            Foe newFoe = factory.create(mob.x, mob.y, player, environment);
+
+            // Si la carte impose des stratégies, on remplace le cerveau par défaut
+            BrainStrategy brain = new BrainStrategy();
+            boolean strategyFound = false;
+            for (int i = 0; i < mob.strategies.size; i++) {
+                EnemyStrategy s = StrategyRegistry.create(mob.strategies.get(i));
+                if (s != null) {
+                    brain.addStrategy(s);
+                    strategyFound = true;
                 }
             }
+            if (strategyFound) {
+                newFoe.setStrategy(brain);
+            }
+
+            environment.addEntity(newFoe);
         }
     }
 
     /**
      * Nettoie les ressources graphiques (la map) lors du changement de niveau.
+     * <p>
+     * La carte est rendue à l'{@link AssetCache} : ses textures ne sont libérées que si aucun autre niveau ne les utilise.
+     * </p>
      */
     @Override
     public void dispose() {
-        if (map != null) {
-            map.dispose();
+        if (map != null && AssetCache.instance != null) {
+            AssetCache.instance.release(mapFileName);
         }
+        map = null;
     }
 }
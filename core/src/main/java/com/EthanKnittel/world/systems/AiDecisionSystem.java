@@ -0,0 +1,188 @@
+package com.EthanKnittel.world.systems;
+
+import com.EthanKnittel.entities.Entity;
+import com.EthanKnittel.entities.agents.Foe;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Phase de décision de l'IA, séparée de la mise à jour des entités.
+ * <p>
+ * Au début de l'étape 2 de {@link Environment#update(float)}, chaque ennemi qui doit être simulé pendant ce tick
+ * calcule son ordre de mouvement ({@link Foe#decide(float)}). Les ordres sont ensuite appliqués par la boucle
+ * habituelle ({@link Foe#update(float)}), une entité après l'autre, dans l'ordre de la liste.
+ * </p>
+ * <p>
+ * Pendant la décision, le monde est en lecture seule : les positions ne changent qu'à l'étape 3 (physique),
+ * et la perception a été mesurée au tick précédent. Chaque ennemi n'écrit que dans son propre état
+ * (sa stratégie, son générateur aléatoire, son ordre) : les décisions peuvent donc être prises en parallèle.
+ * </p>
+ * <p>
+ * <b>Mode parallèle (optionnel) :</b> voir {@link #setParallelism(int)}. Les ennemis sont répartis en tranches
+ * contiguës, une par thread. Le résultat est identique, au bit près, à celui du mode séquentiel.
+ * </p>
+ */
+public class AiDecisionSystem {
+
+    /** En dessous de ce nombre d'ennemis à faire réfléchir, le thread principal s'en charge seul (lancer les threads coûterait plus cher). */
+    private static final int ParallelThreshold = 128;
+
+    /** Nombre de threads (1 = mode séquentiel). */
+    private int parallelism = 1;
+
+    /** Le pool de threads (créé seulement si {@link #parallelism} est supérieur à 1). */
+    private ForkJoinPool pool;
+
+    /** Une tâche par thread, chacune sur sa tranche de {@link #deciders}. */
+    private final List<DecisionTask> tasks = new ArrayList<>();
+
+    // --- DONNÉES DU TICK EN COURS (lues par les tâches) ---
+    private final IntArray deciders = new IntArray();
+    private Array<Entity> tickEntities;
+    private SimulationLod tickLod;
+    private float tickDeltaTime;
+
+    // --- STATISTIQUES DU DERNIER TICK ---
+    private int lastDecisionCount = 0;
+
+    /**
+     * Fait réfléchir les ennemis simulés pendant ce tick.
+     *
+     * @param deltaTime   Durée d'un tick.
+     * @param entities    La liste des entités du monde.
+     * @param staticCount Nombre d'entités statiques (au début de la liste, jamais des ennemis).
+     * @param lod         Le niveau de détail du tick ({@code null} = tout le monde à chaque tick).
+     */
+    public void update(float deltaTime, Array<Entity> entities, int staticCount, SimulationLod lod) {
+        // 1. Liste des ennemis qui réfléchissent ce tick.
+        // Leur perception est complétée ici, sur le thread principal (le lancer de rayon n'est pas partagé entre threads).
+        deciders.clear();
+        for (int i = staticCount; i < entities.size; i++) {
+            Entity entity = entities.get(i);
+            if (!(entity instanceof Foe) || getStepDelta(lod, i, deltaTime) <= 0) {
+                continue;
+            }
+            Foe foe = (Foe) entity;
+            if (foe.getAlive() && foe.getTarget() != null) {
+                foe.getSensor();
+            }
+            deciders.add(i);
+        }
+        lastDecisionCount = deciders.size;
+
+        tickEntities = entities;
+        tickLod = lod;
+        tickDeltaTime = deltaTime;
+
+        // 2. Décisions : sur le pool si assez d'ennemis, sinon ici
+        if (parallelism > 1 && deciders.size >= ParallelThreshold) {
+            for (int s = 0; s < parallelism; s++) {
+                DecisionTask task = tasks.get(s);
+                task.from = (int) ((long) deciders.size * s / parallelism);
+                task.to = (int) ((long) deciders.size * (s + 1) / parallelism);
+            }
+            runWorkers();
+        } else {
+            decideRange(0, deciders.size);
+        }
+
+        tickEntities = null;
+        tickLod = null;
+    }
+
+    /**
+     * Fait réfléchir les ennemis de la tranche {@code [from, to)} de {@link #deciders}.
+     */
+    private void decideRange(int from, int to) {
+        for (int k = from; k < to; k++) {
+            int index = deciders.get(k);
+            ((Foe) tickEntities.get(index)).decide(getStepDelta(tickLod, index, tickDeltaTime));
+        }
+    }
+
+    /** @return Le temps simulé pour l'entité d'index {@code index} pendant ce tick. */
+    private static float getStepDelta(SimulationLod lod, int index, float deltaTime) {
+        return (lod != null) ? lod.getStepDelta(index) : deltaTime;
+    }
+
+    /** Tâche d'un thread : une tranche contiguë d'ennemis. */
+    private final class DecisionTask implements Callable<Void> {
+        private int from;
+        private int to;
+
+        @Override
+        public Void call() {
+            decideRange(from, to);
+            return null;
+        }
+    }
+
+    /**
+     * Lance les tâches sur le pool et attend qu'elles soient toutes terminées.
+     * Une erreur dans un thread est renvoyée sur le thread principal.
+     */
+    private void runWorkers() {
+        try {
+            for (Future<Void> result : pool.invokeAll(tasks)) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GdxRuntimeException("IA parallèle interrompue", e);
+        } catch (ExecutionException e) {
+            throw new GdxRuntimeException("Erreur dans un thread de l'IA", e.getCause());
+        }
+    }
+
+    /**
+     * Choisit le nombre de threads de la phase de décision.
+     * <p>
+     * Le mode parallèle ne s'active qu'à partir de {@link #ParallelThreshold} ennemis à faire réfléchir dans le tick.
+     * </p>
+     *
+     * @param threads Nombre de threads (1 = mode séquentiel).
+     */
+    public void setParallelism(int threads) {
+        threads = Math.max(1, threads);
+        if (threads == parallelism) {
+            return;
+        }
+        dispose();
+        parallelism = threads;
+        if (threads > 1) {
+            pool = new ForkJoinPool(threads);
+            for (int s = 0; s < threads; s++) {
+                tasks.add(new DecisionTask());
+            }
+        }
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Arrête les threads de l'IA (le système repasse en mode séquentiel).
+     */
+    public void dispose() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+        tasks.clear();
+        parallelism = 1;
+    }
+
+    /** @return Le nombre d'ennemis qui ont réfléchi au dernier tick. */
+    public int getLastDecisionCount() {
+        return lastDecisionCount;
+    }
+}
@@ -0,0 +1,93 @@
+package com.EthanKnittel.world.systems;
+
+/**
+ * Liste réutilisable des contacts détectés pendant un tick de physique (la "phase étroite").
+ * <p>
+ * Un contact est une paire d'index d'entités plus un type ({@link #Melee}, {@link #AllyTouch}).
+ * Chaque contact est rangé dans un seul {@code long} : aucune allocation, et un simple tri suffit à les ordonner.
+ * </p>
+ * <p>
+ * La paire est normalisée (plus petit index d'abord) : la même paire détectée des deux côtés
+ * donne deux clés identiques, fusionnées par {@link #sortAndRemoveDuplicates()}.
+ * Les contacts sont ensuite appliqués une seule fois chacun par le {@link ContactDispatcher}.
+ * </p>
+ */
+public class ContactBuffer {
+
+    // --- TYPES DE CONTACT ---
+    /** Un joueur et un ennemi se chevauchent (dégâts au corps à corps). */
+    public static final int Melee = 0;
+    /** Deux ennemis sont trop proches l'un de l'autre (drapeau "touchingAlly"). */
+    public static final int AllyTouch = 1;
+
+    // Disposition d'une clé : [premier index (31 bits)][second index (31 bits)][type (2 bits)]
+    private static final int TypeBits = 2;
+    private static final int IndexBits = 31;
+    private static final long TypeMask = (1L << TypeBits) - 1;
+    private static final long IndexMask = (1L << IndexBits) - 1;
+
+    private long[] keys = new long[64];
+    private int size = 0;
+
+    /**
+     * Ajoute un contact entre deux entités (l'ordre des index n'a pas d'importance).
+     *
+     * @param type   Le type de contact.
+     * @param first  Index de la première entité dans la liste du monde.
+     * @param second Index de la seconde entité.
+     */
+    public void add(int type, int first, int second) {
+        int low = Math.min(first, second);
+        int high = Math.max(first, second);
+        if (size == keys.length) {
+            keys = java.util.Arrays.copyOf(keys, size * 2);
+        }
+        keys[size++] = ((long) low << (IndexBits + TypeBits)) | ((long) high << TypeBits) | type;
+    }
+
+    /** Ajoute tous les contacts d'un autre buffer (ex: celui d'un thread de la physique). */
+    public void addAll(ContactBuffer other) {
+        if (size + other.size > keys.length) {
+            keys = java.util.Arrays.copyOf(keys, Math.max(size + other.size, keys.length * 2));
+        }
+        System.arraycopy(other.keys, 0, keys, size, other.size);
+        size += other.size;
+    }
+
+    /**
+     * Trie les contacts (premier index, second index, type) et supprime les doublons.
+     * L'ordre obtenu ne dépend que des paires, pas de l'ordre dans lequel elles ont été détectées.
+     */
+    public void sortAndRemoveDuplicates() {
+        java.util.Arrays.sort(keys, 0, size);
+        int unique = 0;
+        for (int k = 0; k < size; k++) {
+            if (unique == 0 || keys[k] != keys[unique - 1]) {
+                keys[unique++] = keys[k];
+            }
+        }
+        size = unique;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getType(int contact) {
+        return (int) (keys[contact] & TypeMask);
+    }
+
+    /** @return Le plus petit des deux index du contact. */
+    public int getFirst(int contact) {
+        return (int) ((keys[contact] >>> (IndexBits + TypeBits)) & IndexMask);
+    }
+
+    /** @return Le plus grand des deux index du contact. */
+    public int getSecond(int contact) {
+        return (int) ((keys[contact] >>> TypeBits) & IndexMask);
+    }
+}
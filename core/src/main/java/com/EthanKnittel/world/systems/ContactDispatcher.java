@@ -0,0 +1,80 @@
+package com.EthanKnittel.world.systems;
+
+import com.EthanKnittel.entities.Entity;
+import com.EthanKnittel.entities.agents.Foe;
+import com.EthanKnittel.entities.agents.Player;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Applique les conséquences des contacts détectés pendant un tick (dégâts, drapeaux de l'IA, impacts de projectiles).
+ * <p>
+ * Appelé par le {@link PhysicSystem} une fois toutes les entités déplacées : les boucles de collision
+ * se contentent de remplir un {@link ContactBuffer}, et les règles de jeu sont regroupées ici.
+ * Modifier une règle (ex: dégâts des projectiles) ne touche donc pas aux boucles de collision.
+ * </p>
+ * <p>
+ * Chaque paire est traitée une seule fois, dans l'ordre des index (le même en mode séquentiel et parallèle).
+ * </p>
+ */
+public class ContactDispatcher {
+
+    /**
+     * Applique tous les contacts du buffer (déjà triés et sans doublons).
+     * <p>
+     * Le drapeau "touche un allié" de tous les ennemis est d'abord remis à zéro, y compris pour ceux qui n'ont pas
+     * bougé ce tick (endormis, ou hors de leur tour de mise à jour) : il ne reflète que les contacts de ce tick.
+     * </p>
+     *
+     * @param contacts Les contacts du tick.
+     * @param entities La liste des entités du monde (les index du buffer y renvoient).
+     */
+    public void dispatch(ContactBuffer contacts, Array<Entity> entities) {
+        for (int i = 0; i < entities.size; i++) {
+            Entity entity = entities.get(i);
+            if (entity.getIsEnemy()) {
+                ((Foe) entity).setTouchingAlly(false);
+            }
+        }
+
+        for (int c = 0; c < contacts.getSize(); c++) {
+            Entity first = entities.get(contacts.getFirst(c));
+            Entity second = entities.get(contacts.getSecond(c));
+            switch (contacts.getType(c)) {
+                case ContactBuffer.Melee:
+                    onMelee(first, second);
+                    break;
+                case ContactBuffer.AllyTouch:
+                    onAllyTouch((Foe) first, (Foe) second);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Joueur et ennemi en contact : le joueur prend les dégâts de l'ennemi (quel que soit celui qui a foncé sur l'autre).
+     * Les deux se réveillent : ils ne dorment jamais au contact (les dégâts doivent continuer à tomber).
+     */
+    private void onMelee(Entity first, Entity second) {
+        Player player = (Player) (first.getIsPlayer() ? first : second);
+        Foe foe = (Foe) (first.getIsPlayer() ? second : first);
+        player.wakeUp();
+        foe.wakeUp();
+        player.takeDamage(foe.getDamage());
+    }
+
+    /**
+     * Projectile arrivé sur un ennemi : l'ennemi prend les dégâts du projectile.
+     * Appelé par le {@link ProjectileSystem} (les projectiles ne sont pas des entités : pas de paire d'index).
+     */
+    public void applyProjectileHit(Foe foe, int damage) {
+        foe.takeDamage(damage);
+    }
+
+    /** Deux ennemis trop proches : chacun le signale à son IA (voir {@link Foe#getTouchingAlly()}). */
+    private void onAllyTouch(Foe first, Foe second) {
+        first.setTouchingAlly(true);
+        second.setTouchingAlly(true);
+    }
+}
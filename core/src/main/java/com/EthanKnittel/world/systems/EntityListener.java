@@ -0,0 +1,33 @@
+package com.EthanKnittel.world.systems;
+
+import com.EthanKnittel.entities.Entity;
+
+/**
+ * Écouteur du cycle de vie des entités du monde (Pattern Observer).
+ * <p>
+ * L'{@link Environment} prévient ses écouteurs quand une entité entre dans le monde et quand elle en sort.
+ * Les systèmes qui associent des données à chaque entité (ex: les vues du
+ * {@link com.EthanKnittel.graphics.WorldRenderer}) les créent et les libèrent ainsi au bon moment,
+ * sans comparer leur liste à celle du monde à chaque frame.
+ * </p>
+ * <p>
+ * Les deux méthodes sont appelées sur le thread principal, pendant que l'entité a encore une poignée valide
+ * ({@link Entity#getHandle()}).
+ * </p>
+ */
+public interface EntityListener {
+
+    /**
+     * Appelé quand une entité vient d'entrer dans le monde ({@link Environment#addEntity}).
+     *
+     * @param entity L'entité ajoutée.
+     */
+    void onEntitySpawned(Entity entity);
+
+    /**
+     * Appelé quand une entité va quitter le monde (suppression au début du tick, ou changement de niveau).
+     *
+     * @param entity L'entité retirée.
+     */
+    void onEntityRemoved(Entity entity);
+}
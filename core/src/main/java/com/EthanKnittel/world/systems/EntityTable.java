@@ -0,0 +1,163 @@
+package com.EthanKnittel.world.systems;
+
+import com.EthanKnittel.entities.Entity;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Table des poignées d'entités (identifiants entiers stables).
+ * <p>
+ * Chaque entité ajoutée au monde reçoit une <b>poignée</b> : un entier qui combine
+ * <ul>
+ * <li>une <b>case</b> de la table (les 20 bits de poids faible), réutilisée après la suppression de l'entité ;</li>
+ * <li>une <b>génération</b> (les bits suivants), incrémentée à chaque réutilisation de la case.</li>
+ * </ul>
+ * Une poignée gardée après la suppression de son entité ne désigne donc jamais la suivante :
+ * {@link #get(int)} renvoie {@code null} et {@link #isAlive(int)} renvoie {@code false}, en temps constant.
+ * </p>
+ * <p>
+ * La table connaît aussi la position de chaque entité dans la liste du monde ({@link #indexOf(int)}).
+ * L'{@link Environment} la tient à jour quand il déplace une entité (retrait par échange avec la dernière).
+ * </p>
+ * <p>
+ * Les systèmes qui gardent des entités d'un tick à l'autre (rendu, zones d'apparition) gardent leurs poignées
+ * plutôt que des références : pas de recherche dans la liste pour savoir si une entité existe encore.
+ * </p>
+ */
+public class EntityTable {
+
+    /** Poignée qui ne désigne aucune entité (jamais distribuée). */
+    public static final int None = 0;
+
+    /** Nombre de bits de la case dans une poignée (environ un million d'entités simultanées). */
+    private static final int IndexBits = 20;
+    private static final int IndexMask = (1 << IndexBits) - 1;
+
+    /** Plus grande génération (elle reboucle ensuite sur 1 : 0 est réservé à {@link #None}). */
+    private static final int MaxGeneration = (1 << (31 - IndexBits)) - 1;
+
+    // --- CASES (tableaux parallèles) ---
+    private Entity[] entities = new Entity[64];
+    private int[] generations = new int[64];
+    private int[] denseIndex = new int[64];
+
+    /** Nombre de cases déjà utilisées au moins une fois. */
+    private int slotCount = 0;
+
+    /** Cases libérées, réutilisées en priorité (la dernière libérée d'abord). */
+    private final IntArray freeSlots = new IntArray();
+
+    /** Nombre d'entités enregistrées. */
+    private int size = 0;
+
+    /** Nombre total de libérations (permet aux systèmes de savoir si une poignée a pu mourir depuis leur dernier passage). */
+    private int releaseCount = 0;
+
+    /**
+     * Donne une poignée à une entité qui entre dans le monde.
+     *
+     * @param entity L'entité (elle ne doit pas déjà avoir de poignée).
+     * @param index  Sa position dans la liste du monde.
+     * @return La poignée, aussi rangée dans l'entité ({@link Entity#getHandle()}).
+     */
+    public int register(Entity entity, int index) {
+        if (entity.getHandle() != None) {
+            throw new GdxRuntimeException("Entité déjà présente dans le monde : " + entity);
+        }
+        int slot;
+        if (freeSlots.size > 0) {
+            slot = freeSlots.pop();
+        } else {
+            if (slotCount > IndexMask) {
+                throw new GdxRuntimeException("Trop d'entités simultanées (" + slotCount + ")");
+            }
+            ensureCapacity(slotCount + 1);
+            slot = slotCount++;
+            generations[slot] = 1;
+        }
+        entities[slot] = entity;
+        denseIndex[slot] = index;
+        size++;
+
+        int handle = (generations[slot] << IndexBits) | slot;
+        entity.setHandle(handle);
+        return handle;
+    }
+
+    /**
+     * Retire une entité de la table : sa poignée (et toutes ses copies) devient invalide.
+     *
+     * @param entity L'entité qui quitte le monde (sans effet si elle n'a pas de poignée).
+     */
+    public void release(Entity entity) {
+        int handle = entity.getHandle();
+        if (!isAlive(handle)) {
+            return;
+        }
+        int slot = handle & IndexMask;
+        entities[slot] = null;
+        denseIndex[slot] = -1;
+        generations[slot] = (generations[slot] == MaxGeneration) ? 1 : generations[slot] + 1;
+        freeSlots.add(slot);
+        size--;
+        releaseCount++;
+        entity.setHandle(None);
+    }
+
+    /**
+     * Note la nouvelle position d'une entité dans la liste du monde.
+     */
+    public void setIndex(Entity entity, int index) {
+        int handle = entity.getHandle();
+        if (isAlive(handle)) {
+            denseIndex[handle & IndexMask] = index;
+        }
+    }
+
+    /**
+     * @return L'entité désignée par la poignée, ou {@code null} si elle a quitté le monde.
+     */
+    public Entity get(int handle) {
+        return isAlive(handle) ? entities[handle & IndexMask] : null;
+    }
+
+    /**
+     * @return {@code true} si la poignée désigne une entité encore présente dans le monde.
+     */
+    public boolean isAlive(int handle) {
+        if (handle == None) {
+            return false;
+        }
+        int slot = handle & IndexMask;
+        return slot < slotCount && generations[slot] == (handle >>> IndexBits) && entities[slot] != null;
+    }
+
+    /**
+     * @return La position de l'entité dans la liste du monde, ou -1 si elle a quitté le monde.
+     */
+    public int indexOf(int handle) {
+        return isAlive(handle) ? denseIndex[handle & IndexMask] : -1;
+    }
+
+    /** @return Le nombre d'entités enregistrées. */
+    public int getSize() {
+        return size;
+    }
+
+    /** @return Le nombre total d'entités retirées depuis la création de la table. */
+    public int getReleaseCount() {
+        return releaseCount;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= entities.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, entities.length * 2);
+        Entity[] newEntities = new Entity[newCapacity];
+        System.arraycopy(entities, 0, newEntities, 0, slotCount);
+        entities = newEntities;
+        generations = java.util.Arrays.copyOf(generations, newCapacity);
+        denseIndex = java.util.Arrays.copyOf(denseIndex, newCapacity);
+    }
+}
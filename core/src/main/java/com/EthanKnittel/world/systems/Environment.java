@@ -1,9 +1,13 @@
 package com.EthanKnittel.world.systems;
 
 import com.EthanKnittel.Evolving;
+import com.EthanKnittel.entities.CollisionLayers;
 import com.EthanKnittel.entities.Entity;
 import com.EthanKnittel.world.Level;
+import com.EthanKnittel.world.TileCollisionMap;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
 
 /**
  * Environnement de jeu (Simulateur / Monde).
@@ -12,15 +16,30 @@ import com.badlogic.gdx.utils.Array;
  * Elle contient :
  * <ul>
  * <li>Le {@link Level} actuel (la carte, les décors).</li>
- * <li>La liste de toutes les {@link Entity} actives (Joueur, Ennemis, Projectiles).</li>
+ * <li>La liste de toutes les {@link Entity} actives (Joueur, Ennemis, Murs).</li>
  * <li>Le {@link PhysicSystem} qui gère les interactions physiques entre ces entités.</li>
+ * <li>Le {@link ProjectileSystem} qui gère les tirs (ce ne sont pas des entités, voir sa documentation).</li>
+ * <li>La {@link SpatialGrid} (Broadphase) qui permet à la physique de ne tester que les entités proches.</li>
+ * <li>Le {@link StaticTree} qui range une fois pour toutes les murs (partie statique) pour la Broadphase et les lancers de rayon.</li>
+ * <li>Le {@link PerceptionSystem} qui mesure, pour l'IA, ce que chaque ennemi voit du joueur.</li>
+ * <li>Le {@link SimulationLod} qui simule moins souvent les entités éloignées de la caméra.</li>
  * </ul>
  * </p>
  * <p>
+ * <b>Partition statique / dynamique :</b> la liste des entités est rangée en deux blocs.
+ * Les entités statiques (Murs) occupent toujours le début de la liste ({@code [0, staticCount)}),
+ * les entités dynamiques (Joueur, Ennemis) la suite. Les statiques ne sont jamais
+ * mises à jour ni intégrées par la physique : elles servent uniquement d'obstacles.
+ * </p>
+ * <p>
+ * En option, les données physiques (position, vitesse, taille) peuvent être rangées dans un {@link TransformStore}
+ * (tableaux parallèles, slot = index dans la liste) pour que la physique parcoure de la mémoire contiguë.
+ * </p>
+ * <p>
  * C'est ici que se trouve la boucle de mise à jour logique principale (via la méthode {@link #update(float)}).
  * </p>
  */
-public class Environment implements Evolving {
+public class Environment implements Evolving, Disposable {
 
     /** Le niveau actuellement chargé (Carte + Règles de spawn). */
     private Level currentlevel;
@@ -28,17 +47,121 @@ public class Environment implements Evolving {
     /** Liste dynamique de toutes les entités présentes dans le monde. */
     private Array<Entity> entities;
 
+    /** Nombre d'entités statiques, rangées au début de {@link #entities}. */
+    private int staticCount = 0;
+
+    /** Poignées des entités (identifiants stables, position de chaque entité dans {@link #entities}). */
+    private EntityTable entityTable;
+
+    /** Écouteurs prévenus de l'entrée et de la sortie de chaque entité (ex: le rendu, qui crée et libère les vues). */
+    private final Array<EntityListener> listeners = new Array<>();
+
     /** Le moteur physique qui gère les déplacements et collisions. */
     private PhysicSystem physics;
 
+    /** Taille des cellules de la Broadphase (2 blocs = taille d'un ennemi ou du joueur). */
+    private static final float BroadphaseCellSize = 2f;
+
+    /** Graine du monde par défaut (voir {@link #setAiSeed(long)}). */
+    public static final long DefaultAiSeed = 0x5EEDL;
+
+    /** Grille spatiale reconstruite à chaque tick pour accélérer les tests de collision. */
+    private SpatialGrid broadphase;
+
+    /**
+     * Interrupteur de la Broadphase.
+     * <p>
+     * {@code true} : la physique n'interroge que les cellules voisines (mode normal).<br>
+     * {@code false} : retour au parcours complet de toutes les paires (utile pour comparer justesse et performances).
+     * </p>
+     */
+    private boolean useBroadphase = true;
+
+    /** Arbre des entités statiques, reconstruit seulement quand la partie statique change. */
+    private StaticTree staticTree;
+
+    /**
+     * Interrupteur de l'arbre des statiques dans la Broadphase.
+     * <p>
+     * {@code true} : les murs restent dans le {@link StaticTree}, la grille ne contient que les entités dynamiques.<br>
+     * {@code false} : les murs sont réinscrits dans les cellules de la grille à chaque tick (mode d'origine).
+     * La ligne de vue utilise l'arbre dans les deux cas.
+     * </p>
+     */
+    private boolean useStaticTree = true;
+
+    /** Stockage SoA des données physiques (utilisé seulement si {@link #useTransformStore} est vrai). */
+    private TransformStore transforms;
+
+    /**
+     * Interrupteur du stockage SoA.
+     * <p>
+     * {@code true} : position/vitesse/taille sont lues et écrites dans les tableaux du {@link TransformStore}.<br>
+     * {@code false} : chaque entité garde ses propres objets (mode d'origine).
+     * </p>
+     */
+    private boolean useTransformStore = false;
+
+    /** Nombre de threads de la physique (1 = mode séquentiel). Conservé d'un niveau à l'autre. */
+    private int physicsThreads = 1;
+
+    /** Phase de décision de l'IA (ordres des ennemis calculés avant leur mise à jour, éventuellement en parallèle). */
+    private AiDecisionSystem aiDecisions;
+
+    /** Nombre de threads de la décision de l'IA (1 = mode séquentiel). */
+    private int aiThreads = 1;
+
+    /** Graine du monde : les générateurs aléatoires des ennemis en sont dérivés, dans l'ordre d'apparition. */
+    private long aiSeed = DefaultAiSeed;
+
+    /** Nombre d'ennemis ayant déjà reçu une graine (depuis le dernier {@link #setAiSeed(long)}). */
+    private long foeSeedCount = 0;
+
+    /** Poids de la cohésion et de l'alignement des ennemis (voir {@link PhysicSystem#setFlockingWeights}). Conservés d'un niveau à l'autre. */
+    private float cohesionWeight = 0f;
+    private float alignmentWeight = 0f;
+
+    /** Les projectiles en vol (tableaux plats réutilisés, conservés d'un niveau à l'autre). */
+    private ProjectileSystem projectiles;
+
+    /** Lancer de rayons (ligne de vue) sur les tuiles et les murs. */
+    private WorldRaycast raycast;
+
+    /** Passe de perception des ennemis (distance et ligne de vue vers leur cible). */
+    private PerceptionSystem perception;
+
+    /** Niveau de détail de la simulation (anneaux autour de la caméra). Son foyer et ses réglages sont conservés d'un niveau à l'autre. */
+    private SimulationLod simulationLod;
+
+    /**
+     * Interrupteur du niveau de détail.
+     * <p>
+     * {@code true} : hors de l'écran, IA et physique tournent moins souvent (voir {@link SimulationLod}).<br>
+     * {@code false} : toutes les entités sont simulées à chaque tick (mode d'origine).
+     * </p>
+     */
+    private boolean useSimulationLod = true;
+
+    /** Vrai si la partie statique du monde a changé depuis la dernière reconstruction de {@link #staticTree}. */
+    private boolean staticGeometryDirty = true;
+
     /**
      * Constructeur de l'environnement.
      * Initialise les listes et les systèmes de base.
      */
     public Environment() {
         entities = new Array<>();
+        entityTable = new EntityTable();
         // On initialise le système physique (sans niveau pour l'instant)
         physics = new PhysicSystem(null);
+        broadphase = new SpatialGrid(BroadphaseCellSize);
+        staticTree = new StaticTree();
+        transforms = new TransformStore();
+        projectiles = new ProjectileSystem();
+        raycast = new WorldRaycast();
+        perception = new PerceptionSystem();
+        simulationLod = new SimulationLod();
+        aiDecisions = new AiDecisionSystem();
     }
 
     /**
@@ -48,7 +171,7 @@ public class Environment implements Evolving {
      * <ol>
      * <li>Nettoyer l'ancien niveau (mémoire).</li>
      * <li>Vider la liste des entités (sauf si on voulait garder le joueur, mais ici on recharge tout).</li>
-     * <li>Charger les nouvelles entités (Murs, Spawners) définies par le nouveau niveau.</li>
+     * <li>Charger les nouvelles entités (Murs des calques d'objets) et la grille de tuiles du nouveau niveau.</li>
      * <li>Réinitialiser le moteur physique avec le nouveau contexte.</li>
      * </ol>
      * </p>
@@ -59,67 +182,235 @@ public class Environment implements Evolving {
         // 1. Nettoyage de l'ancien niveau
         if (this.currentlevel != null) {
             this.currentlevel.dispose();
-            entities.clear();
+            clearEntities();
         }
+        staticCount = 0;
+        staticGeometryDirty = true; // Nouvelle grille de tuiles
 
         // 2. Installation du nouveau niveau
         this.currentlevel = level;
 
         // On lie le moteur physique au nouveau niveau (utile si le niveau contient des données physiques globales)
+        // L'ancien système libère d'abord ses threads
+        physics.dispose();
         physics = new PhysicSystem(this.currentlevel);
+        physics.setParallelism(physicsThreads);
+        physics.setFlockingWeights(cohesionWeight, alignmentWeight);
 
         // 3. Chargement initial des entités du niveau (Murs, Décors)
+        // On passe par addEntity() pour que chaque mur soit rangé dans la partie statique
         Array<Entity> levelEntities = this.currentlevel.load();
-        this.entities.addAll(levelEntities);
+        for (int i = 0; i < levelEntities.size; i++) {
+            addEntity(levelEntities.get(i));
+        }
     }
 
     /**
-     * Ajoute une entité dynamique à la simulation en cours de jeu.
+     * Retire toutes les entités du monde.
+     * <p>
+     * Les entités rattachées au {@link TransformStore} en sont d'abord détachées :
+     * celles qu'on garde (ex: le Joueur, réinséré dans le niveau suivant) conservent ainsi leur état.
+     * </p>
+     */
+    public void clearEntities() {
+        transforms.detachAll(entities);
+        for (int i = 0; i < entities.size; i++) {
+            fireRemoved(entities.get(i));
+            entityTable.release(entities.get(i)); // Leurs poignées deviennent invalides
+        }
+        entities.clear();
+        staticCount = 0;
+        staticGeometryDirty = true;
+        projectiles.clear();
+        perception.clear();
+    }
+
+    /**
+     * Ajoute une entité à la simulation en cours de jeu.
      * <p>
      * Utilisé pour faire apparaître :
      * <ul>
      * <li>Le Joueur (au début).</li>
-     * <li>Des Projectiles (quand on tire).</li>
      * <li>Des Ennemis (via les SpawnZones).</li>
      * </ul>
      * </p>
+     * <p>
+     * Une entité statique est placée à la fin du bloc statique (avant toutes les entités dynamiques) :
+     * la première entité dynamique lui cède sa place et passe en fin de liste. Une entité dynamique est ajoutée
+     * en fin de liste. Dans les deux cas, aucune autre entité n'est décalée.
+     * </p>
+     * <p>
+     * L'entité reçoit une poignée ({@link Entity#getHandle()}), valable jusqu'à ce qu'elle quitte le monde,
+     * puis les écouteurs ({@link EntityListener}) sont prévenus de son arrivée.
+     * </p>
      *
      * @param entity L'entité à ajouter.
      */
     public void addEntity(Entity entity) {
-        entities.add(entity);
+        if (entity == null) {
+            return;
+        }
+        if (entity.getIsStatic()) {
+            if (staticCount < entities.size) {
+                // La première entité dynamique part en fin de liste pour libérer la place
+                Entity moved = entities.get(staticCount);
+                entities.add(moved);
+                entityTable.setIndex(moved, entities.size - 1);
+                entities.set(staticCount, entity);
+            } else {
+                entities.add(entity);
+            }
+            entityTable.register(entity, staticCount);
+            staticCount++;
+            staticGeometryDirty = true;
+        } else {
+            entities.add(entity);
+            entityTable.register(entity, entities.size - 1);
+        }
+        for (int i = 0; i < listeners.size; i++) {
+            listeners.get(i).onEntitySpawned(entity);
+        }
+    }
+
+    /**
+     * Retire l'entité d'index {@code index} en la remplaçant par la dernière de sa partie (statique ou dynamique),
+     * pour ne décaler personne. Sa poignée devient invalide.
+     */
+    private void removeAt(int index) {
+        Entity removed = entities.get(index);
+        removed.detachTransform(); // Sa case du store sera réutilisée
+        fireRemoved(removed);
+        entityTable.release(removed);
+
+        int last = entities.size - 1;
+        if (index < staticCount) {
+            // 1. Le dernier statique bouche le trou, puis la dernière entité prend la place du dernier statique
+            int lastStatic = staticCount - 1;
+            moveEntity(lastStatic, index);
+            moveEntity(last, lastStatic);
+            staticCount--; // Le bloc statique rétrécit
+            staticGeometryDirty = true;
+        } else {
+            moveEntity(last, index);
+        }
+        entities.pop();
+    }
+
+    /** Prévient les écouteurs qu'une entité quitte le monde (sa poignée est encore valide). */
+    private void fireRemoved(Entity entity) {
+        for (int i = 0; i < listeners.size; i++) {
+            listeners.get(i).onEntityRemoved(entity);
+        }
+    }
+
+    /**
+     * Abonne un écouteur au cycle de vie des entités.
+     * <p>
+     * Il reçoit d'abord un événement d'arrivée pour chaque entité déjà présente (dans l'ordre de la liste) :
+     * il peut donc s'abonner après le chargement du niveau.
+     * </p>
+     *
+     * @param listener L'écouteur à ajouter.
+     */
+    public void addEntityListener(EntityListener listener) {
+        if (listener == null || listeners.contains(listener, true)) {
+            return;
+        }
+        listeners.add(listener);
+        for (int i = 0; i < entities.size; i++) {
+            listener.onEntitySpawned(entities.get(i));
+        }
+    }
+
+    /**
+     * Désabonne un écouteur (il ne reçoit aucun événement de sortie pour les entités encore présentes).
+     */
+    public void removeEntityListener(EntityListener listener) {
+        listeners.removeValue(listener, true);
+    }
+
+    /** Copie l'entité d'index {@code from} à l'index {@code to} (sans effet si les deux sont égaux). */
+    private void moveEntity(int from, int to) {
+        if (from != to) {
+            Entity moved = entities.get(from);
+            entities.set(to, moved);
+            entityTable.setIndex(moved, to);
+        }
     }
 
     /**
      * Boucle principale de simulation (Game Loop Logique).
-     * Appelé à chaque frame.
+     * Appelé à chaque tick de simulation (pas fixe, voir {@link com.EthanKnittel.game.GameScreen}).
      *
-     * @param deltaTime Temps écoulé depuis la dernière frame.
+     * @param deltaTime Durée d'un tick (en secondes).
      */
     @Override
     public void update(float deltaTime) {
 
         // ÉTAPE 1 : Nettoyage
-        // On parcourt la liste À L'ENVERS (i--) pour pouvoir supprimer des éléments
-        // sans décaler les index des éléments suivants ni provoquer d'erreurs.
+        // On parcourt la liste À L'ENVERS (i--) : l'entité qui vient boucher un trou (la dernière de sa partie)
+        // a donc déjà été examinée.
         for (int i = entities.size - 1; i >= 0; i--) {
-            // Si une entité est marquée "à supprimer" (ex: PV <= 0, Projectile hors écran)
+            // Si une entité est marquée "à supprimer" (ex: PV <= 0)
             if (entities.get(i).getCanBeRemove()) {
-                entities.removeIndex(i);
+                removeAt(i);
             }
         }
 
         // ÉTAPE 2 : Mise à jour individuelle (IA, Comportement)
-        // Chaque entité "réfléchit" ou exécute ses animations internes.
-        for (int i = 0; i < entities.size; i++) {
+        // Chaque entité dynamique "réfléchit" ou exécute ses animations internes (les statiques sont ignorées).
+        // On mémorise aussi sa position de départ pour que le rendu puisse interpoler ce tick.
+        // Niveau de détail : une entité loin de la caméra attend son tour, puis reçoit tout le temps écoulé.
+        // Les ennemis décident d'abord tous de leur ordre (monde en lecture seule, éventuellement en parallèle),
+        // puis la boucle applique les ordres une entité après l'autre, dans l'ordre de la liste.
+        SimulationLod lod = null;
+        if (useSimulationLod) {
+            simulationLod.update(entities, staticCount, deltaTime);
+            lod = simulationLod;
+        }
+        aiDecisions.update(deltaTime, entities, staticCount, lod);
+        for (int i = staticCount; i < entities.size; i++) {
             Entity entity = entities.get(i);
-            entity.update(deltaTime);
+            entity.savePreviousPosition();
+            float stepDelta = (lod != null) ? lod.getStepDelta(i) : deltaTime;
+            if (stepDelta > 0) {
+                entity.update(stepDelta);
+            }
         }
 
         // ÉTAPE 3 : Résolution Physique (Déplacements & Collisions)
         // Une fois que tout le monde a décidé où aller, le système physique applique les règles
         // et empêche les objets de traverser les murs.
-        physics.update(deltaTime, entities);
+        // La grille est reconstruite ici car les entités ont pu bouger pendant l'étape 2.
+        // En mode SoA, on aligne d'abord le store sur la liste (suppressions, nouvelles entités).
+        // L'arbre des murs n'est reconstruit que si la partie statique a changé (chargement, mur détruit).
+        refreshStaticGeometry();
+        broadphase.setStaticTree(useStaticTree ? staticTree : null);
+        TransformStore store = null;
+        if (useTransformStore) {
+            transforms.bind(entities);
+            store = transforms;
+        }
+        if (useBroadphase) {
+            if (store != null) {
+                broadphase.rebuild(store);
+            } else {
+                broadphase.rebuild(entities);
+            }
+            physics.update(deltaTime, entities, staticCount, broadphase, store, lod);
+        } else {
+            physics.update(deltaTime, entities, staticCount, null, store, lod);
+        }
+
+        // ÉTAPE 4 : Projectiles
+        // Ils avancent après la physique : ils testent les murs et les ennemis à leur position de fin de tick.
+        projectiles.update(deltaTime, entities, useBroadphase ? broadphase : null, getTileCollisionMap(),
+            physics.getContactDispatcher());
+
+        // ÉTAPE 5 : Perception
+        // Les positions sont définitives : on mesure ce que chaque ennemi voit du joueur.
+        // L'IA lira ces mesures au tick suivant (ÉTAPE 2), sans relancer de rayon.
+        perception.update(entities, staticCount, useBroadphase ? broadphase : null);
     }
 
     // --- GETTERS ---
@@ -132,7 +423,235 @@ public class Environment implements Evolving {
         return entities;
     }
 
+    /** @return La table des poignées (poignée -> entité, position dans la liste). */
+    public EntityTable getEntityTable() {
+        return entityTable;
+    }
+
+    /**
+     * Retrouve une entité par sa poignée (temps constant).
+     * @return L'entité, ou {@code null} si elle a quitté le monde.
+     */
+    public Entity getEntity(int handle) {
+        return entityTable.get(handle);
+    }
+
+    /** @return {@code true} si l'entité désignée par la poignée est encore dans le monde. */
+    public boolean isAlive(int handle) {
+        return entityTable.isAlive(handle);
+    }
+
+    /**
+     * @return Le nombre d'entités statiques. Elles occupent les index {@code [0, staticCount)} de {@link #getEntities()}.
+     */
+    public int getStaticCount() {
+        return staticCount;
+    }
+
     public Level getLevel() {
         return currentlevel;
     }
+
+    /**
+     * Récupère la grille de collision des tuiles du niveau actuel.
+     * Utilisée par les ennemis pour leur ligne de vue.
+     *
+     * @return La grille, ou {@code null} si aucun niveau (ou un niveau sans tuiles) n'est chargé.
+     */
+    public TileCollisionMap getTileCollisionMap() {
+        return (currentlevel != null) ? currentlevel.getTileCollisionMap() : null;
+    }
+
+    /** @return Le système des projectiles (tirs du joueur, lus aussi par le rendu). */
+    public ProjectileSystem getProjectiles() {
+        return projectiles;
+    }
+
+    /**
+     * Récupère le service de lancer de rayons (ligne de vue des ennemis).
+     * L'arbre des murs est reconstruit ici si la partie statique du monde a changé (chargement, ajout d'un mur).
+     */
+    public WorldRaycast getRaycast() {
+        refreshStaticGeometry();
+        return raycast;
+    }
+
+    /** @return L'arbre des entités statiques (à jour après le début du tick ou un appel à {@link #getRaycast()}). */
+    public StaticTree getStaticTree() {
+        return staticTree;
+    }
+
+    /**
+     * Ajoute à {@code out} les index des entités statiques dont la hitbox touche la zone demandée
+     * (ex: murs visibles à l'écran). L'arbre est d'abord reconstruit si la partie statique a changé.
+     * Les index sont ajoutés sans vider la liste, dans un ordre quelconque.
+     */
+    public void queryStatics(float x, float y, float width, float height, IntArray out) {
+        refreshStaticGeometry();
+        staticTree.query(x, y, width, height, out, CollisionLayers.All);
+    }
+
+    /**
+     * Reconstruit l'arbre des murs (et branche le lancer de rayons dessus) si la partie statique a changé.
+     */
+    private void refreshStaticGeometry() {
+        if (staticGeometryDirty) {
+            staticTree.build(entities, staticCount);
+            raycast.rebuild(staticTree, getTileCollisionMap());
+            staticGeometryDirty = false;
+        }
+    }
+
+    /** @return La passe de perception (sa fréquence de mesure des ennemis éloignés est réglable). */
+    public PerceptionSystem getPerception() {
+        return perception;
+    }
+
+    public SpatialGrid getBroadphase() {
+        return broadphase;
+    }
+
+    public boolean getUseTransformStore() {
+        return useTransformStore;
+    }
+
+    /**
+     * Active ou désactive le stockage SoA des données physiques.
+     * @param useTransformStore {@code false} pour que chaque entité reprenne ses propres objets (mode d'origine).
+     */
+    public void setUseTransformStore(boolean useTransformStore) {
+        if (!useTransformStore) {
+            transforms.detachAll(entities);
+        }
+        this.useTransformStore = useTransformStore;
+    }
+
+    public PhysicSystem getPhysicSystem() {
+        return physics;
+    }
+
+    public int getPhysicsThreads() {
+        return physicsThreads;
+    }
+
+    /**
+     * Choisit le nombre de threads de la physique (voir {@link PhysicSystem#setParallelism(int)}).
+     * Le mode parallèle ne s'active qu'avec la Broadphase et un nombre suffisant d'entités dynamiques.
+     * @param physicsThreads 1 pour le mode séquentiel d'origine.
+     */
+    public void setPhysicsThreads(int physicsThreads) {
+        this.physicsThreads = Math.max(1, physicsThreads);
+        physics.setParallelism(this.physicsThreads);
+    }
+
+    /** @return La phase de décision de l'IA (nombre d'ennemis ayant réfléchi au dernier tick). */
+    public AiDecisionSystem getAiDecisions() {
+        return aiDecisions;
+    }
+
+    public int getAiThreads() {
+        return aiThreads;
+    }
+
+    /**
+     * Choisit le nombre de threads de la décision de l'IA (voir {@link AiDecisionSystem#setParallelism(int)}).
+     * @param aiThreads 1 pour le mode séquentiel d'origine.
+     */
+    public void setAiThreads(int aiThreads) {
+        this.aiThreads = Math.max(1, aiThreads);
+        aiDecisions.setParallelism(this.aiThreads);
+    }
+
+    /**
+     * Donne la graine du générateur aléatoire du prochain ennemi créé (appelée par le constructeur de {@link com.EthanKnittel.entities.agents.Foe}).
+     * <p>
+     * Les graines sont tirées dans l'ordre d'apparition : à graine du monde égale et apparitions identiques,
+     * chaque ennemi retrouve la même suite de tirages.
+     * </p>
+     */
+    public long nextFoeSeed() {
+        // Mélange (SplitMix64) pour que des ennemis voisins n'aient pas des suites proches
+        long z = aiSeed + (++foeSeedCount) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public long getAiSeed() {
+        return aiSeed;
+    }
+
+    /**
+     * Change la graine du monde et recommence la distribution des graines des ennemis.
+     * @param aiSeed La nouvelle graine (les ennemis déjà créés gardent leur générateur).
+     */
+    public void setAiSeed(long aiSeed) {
+        this.aiSeed = aiSeed;
+        this.foeSeedCount = 0;
+    }
+
+    /**
+     * Règle la cohésion et l'alignement des groupes d'ennemis (la séparation est toujours active).
+     * @param cohesionWeight  Entre 0 (désactivée, comportement d'origine) et 1.
+     * @param alignmentWeight Entre 0 (désactivé, comportement d'origine) et 1.
+     */
+    public void setFlockingWeights(float cohesionWeight, float alignmentWeight) {
+        physics.setFlockingWeights(cohesionWeight, alignmentWeight);
+        this.cohesionWeight = physics.getCohesionWeight();
+        this.alignmentWeight = physics.getAlignmentWeight();
+    }
+
+    /** @return Le niveau de détail (foyer à placer sur la caméra, réglages des anneaux, population de chaque anneau). */
+    public SimulationLod getSimulationLod() {
+        return simulationLod;
+    }
+
+    public boolean getUseSimulationLod() {
+        return useSimulationLod;
+    }
+
+    /**
+     * Active ou désactive le niveau de détail de la simulation.
+     * @param useSimulationLod {@code false} pour simuler toutes les entités à chaque tick (mode d'origine).
+     */
+    public void setUseSimulationLod(boolean useSimulationLod) {
+        this.useSimulationLod = useSimulationLod;
+    }
+
+    public boolean getUseStaticTree() {
+        return useStaticTree;
+    }
+
+    /**
+     * Active ou désactive l'arbre des statiques dans la Broadphase (prend effet au tick suivant).
+     * @param useStaticTree {@code false} pour réinscrire les murs dans la grille à chaque tick (mode d'origine).
+     */
+    public void setUseStaticTree(boolean useStaticTree) {
+        this.useStaticTree = useStaticTree;
+    }
+
+    public boolean getUseBroadphase() {
+        return useBroadphase;
+    }
+
+    /**
+     * Active ou désactive la Broadphase.
+     * @param useBroadphase {@code false} pour revenir au test de toutes les paires (force brute).
+     */
+    public void setUseBroadphase(boolean useBroadphase) {
+        this.useBroadphase = useBroadphase;
+    }
+
+    /**
+     * Arrête les threads de la simulation : physique et décisions de l'IA (le niveau, lui, est libéré par son propriétaire).
+     * <p>
+     * {@link #setLevel(Level)} libère ceux de l'ancien moteur physique ; ceux du dernier niveau, et ceux de l'IA,
+     * ne le sont qu'ici.
+     * </p>
+     */
+    @Override
+    public void dispose() {
+        physics.dispose();
+        aiDecisions.dispose();
+    }
 }
@@ -0,0 +1,157 @@
+package com.EthanKnittel.world.systems;
+
+import com.EthanKnittel.entities.Entity;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Index des ennemis par colonnes (X), utilisé pour les règles de groupe (Boids : séparation, cohésion, alignement).
+ * <p>
+ * Les règles de groupe ne regardent que l'axe X. Les ennemis sont donc rangés dans des "seaux" d'une largeur fixe
+ * selon leur colonne, et les voisins d'un ennemi se trouvent dans sa colonne et les deux colonnes voisines
+ * (la largeur d'une colonne est au moins le rayon de voisinage). Le coût total est linéaire
+ * en nombre d'ennemis, au lieu de comparer chaque ennemi à tous les autres.
+ * </p>
+ * <p>
+ * L'index est une <b>photo</b> prise au début du tick : position X et vitesse X de chaque ennemi.
+ * Les règles de groupe ne dépendent donc pas de l'ordre dans lequel les ennemis sont déplacés.
+ * </p>
+ * <p>
+ * Les colonnes sont rangées dans une table de taille fixe (puissance de deux) : deux colonnes éloignées peuvent
+ * partager un seau, leurs ennemis sont alors simplement écartés par le test de distance.
+ * </p>
+ */
+public class FlockGrid {
+
+    /** Largeur (en unités monde) d'une colonne. */
+    private float cellSize = 1f;
+
+    /** Masque de la table des seaux (taille - 1). */
+    private int mask = 0;
+
+    /** Début de chaque seau dans les tableaux des membres (le seau {@code b} occupe {@code [start[b], start[b + 1])}). */
+    private int[] bucketStart = new int[1];
+
+    // --- MEMBRES (rangés par seau, puis par index croissant) ---
+    private int[] memberIndex = new int[0];
+    private float[] memberX = new float[0];
+    private float[] memberVelocityX = new float[0];
+    private int memberCount = 0;
+
+    // --- PHOTO DU TICK (ordre de la liste, avant rangement par seau) ---
+    private int[] snapshotIndex = new int[0];
+    private float[] snapshotX = new float[0];
+    private float[] snapshotVelocityX = new float[0];
+    private int[] snapshotBucket = new int[0];
+
+    /**
+     * Reconstruit l'index à partir des ennemis du monde (tri par comptage : aucune allocation une fois à la bonne taille).
+     *
+     * @param entities    La liste des entités du monde.
+     * @param staticCount Nombre d'entités statiques (au début de la liste).
+     * @param store       Stockage SoA aligné sur la liste, ou {@code null}.
+     * @param cellSize    Largeur d'une colonne (au moins le plus grand rayon de voisinage utilisé).
+     */
+    public void rebuild(Array<Entity> entities, int staticCount, TransformStore store, float cellSize) {
+        this.cellSize = cellSize;
+
+        // 1. Photo des ennemis (position et vitesse X)
+        memberCount = 0;
+        for (int i = staticCount; i < entities.size; i++) {
+            Entity entity = entities.get(i);
+            if (!entity.getIsEnemy()) {
+                continue;
+            }
+            ensureCapacity(memberCount + 1);
+            snapshotIndex[memberCount] = i;
+            snapshotX[memberCount] = (store != null) ? store.x[i] : entity.getX();
+            snapshotVelocityX[memberCount] = (store != null) ? store.velocityX[i] : entity.getVelocity().x;
+            memberCount++;
+        }
+
+        // 2. Table des seaux : au moins 4 (les trois colonnes d'une requête tombent toujours dans des seaux différents)
+        int tableSize = MathUtils.nextPowerOfTwo(Math.max(4, memberCount * 2));
+        mask = tableSize - 1;
+        if (bucketStart.length < tableSize + 1) {
+            bucketStart = new int[tableSize + 1];
+        } else {
+            java.util.Arrays.fill(bucketStart, 0, tableSize + 1, 0);
+        }
+
+        // 3. Tri par comptage : taille de chaque seau, puis débuts cumulés
+        for (int m = 0; m < memberCount; m++) {
+            snapshotBucket[m] = getCell(snapshotX[m]) & mask;
+            bucketStart[snapshotBucket[m] + 1]++;
+        }
+        for (int b = 0; b < tableSize; b++) {
+            bucketStart[b + 1] += bucketStart[b];
+        }
+
+        // 4. Rangement stable (l'ordre des index est conservé dans chaque seau).
+        // Les débuts servent de curseurs pendant le rangement : chacun finit sur le début du seau suivant, on les décale ensuite.
+        for (int m = 0; m < memberCount; m++) {
+            int slot = bucketStart[snapshotBucket[m]]++;
+            memberIndex[slot] = snapshotIndex[m];
+            memberX[slot] = snapshotX[m];
+            memberVelocityX[slot] = snapshotVelocityX[m];
+        }
+        for (int b = tableSize; b > 0; b--) {
+            bucketStart[b] = bucketStart[b - 1];
+        }
+        bucketStart[0] = 0;
+    }
+
+    /** @return La colonne contenant la coordonnée X donnée. */
+    public int getCell(float x) {
+        return (int) Math.floor(x / cellSize);
+    }
+
+    /** @return Le seau d'une colonne (à parcourir de {@link #getBucketStart} à {@link #getBucketEnd}). */
+    public int getBucket(int cell) {
+        return cell & mask;
+    }
+
+    public int getBucketStart(int bucket) {
+        return bucketStart[bucket];
+    }
+
+    public int getBucketEnd(int bucket) {
+        return bucketStart[bucket + 1];
+    }
+
+    /** @return L'index (dans la liste des entités) du membre. */
+    public int getMemberIndex(int member) {
+        return memberIndex[member];
+    }
+
+    /** @return La position X du membre au début du tick. */
+    public float getMemberX(int member) {
+        return memberX[member];
+    }
+
+    /** @return La vitesse X du membre au début du tick. */
+    public float getMemberVelocityX(int member) {
+        return memberVelocityX[member];
+    }
+
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > memberIndex.length) {
+            int newCapacity = Math.max(capacity, memberIndex.length * 2);
+            memberIndex = java.util.Arrays.copyOf(memberIndex, newCapacity);
+            memberX = java.util.Arrays.copyOf(memberX, newCapacity);
+            memberVelocityX = java.util.Arrays.copyOf(memberVelocityX, newCapacity);
+            snapshotIndex = java.util.Arrays.copyOf(snapshotIndex, newCapacity);
+            snapshotX = java.util.Arrays.copyOf(snapshotX, newCapacity);
+            snapshotVelocityX = java.util.Arrays.copyOf(snapshotVelocityX, newCapacity);
+            snapshotBucket = java.util.Arrays.copyOf(snapshotBucket, newCapacity);
+        }
+    }
+}
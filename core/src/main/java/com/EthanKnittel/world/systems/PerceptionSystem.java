@@ -0,0 +1,186 @@
+package com.EthanKnittel.world.systems;
+
+import com.EthanKnittel.ai.FoeSensor;
+import com.EthanKnittel.entities.CollisionLayers;
+import com.EthanKnittel.entities.Entity;
+import com.EthanKnittel.entities.agents.Foe;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Passe de perception des ennemis, exécutée une fois par tick pour tout le monde.
+ * <p>
+ * Chaque stratégie mesurait auparavant elle-même la distance et la ligne de vue vers le joueur,
+ * parfois deux fois dans le même tick (ex: {@code ChaseStrategy.shouldExecute} puis {@code calculateMove}).
+ * Ici, les mesures sont faites en un seul endroit et rangées dans le {@link FoeSensor} de chaque ennemi :
+ * <ol>
+ * <li><b>Ennemis proches</b> : la Broadphase donne directement les ennemis situés dans le plus grand rayon
+ * de détection autour de chaque joueur. Ils sont mesurés à chaque tick.</li>
+ * <li><b>Ennemis éloignés</b> : ils ne peuvent pas repérer le joueur, une mesure plus ancienne leur suffit.
+ * Ils sont mesurés à tour de rôle, une tranche de la liste par tick : chacun au moins une fois
+ * tous les {@link #getDistantRefreshTicks()} ticks.</li>
+ * </ol>
+ * </p>
+ * <p>
+ * La passe a lieu à la fin du tick, quand les positions sont définitives : ce sont les mesures
+ * que l'IA lira au tick suivant (les entités ne bougent pas entre deux ticks).
+ * Le lancer de rayon ({@link WorldRaycast}) n'est pas partagé entre threads : la passe reste sur le thread principal.
+ * </p>
+ */
+public class PerceptionSystem {
+
+    /** Période de rafraîchissement par défaut des ennemis éloignés (en ticks). */
+    public static final int DefaultDistantRefreshTicks = 6;
+
+    /** Un ennemi éloigné est mesuré au moins une fois tous les {@code distantRefreshTicks} ticks. */
+    private int distantRefreshTicks = DefaultDistantRefreshTicks;
+
+    /** Numéro du tick de perception en cours (daté dans les {@link FoeSensor}). */
+    private int tick = 0;
+
+    /** Plus grand rayon de détection des ennemis suivis (taille de la zone "proche" autour d'un joueur). */
+    private float detectionRadius = 0f;
+
+    /** Position du tour de rôle des ennemis éloignés (index dans la partie dynamique de la liste). */
+    private int cursor = 0;
+
+    // --- MÉMOIRE DE TRAVAIL (réutilisée à chaque tick) ---
+    private final IntArray nearby = new IntArray();
+
+    // --- STATISTIQUES DU DERNIER TICK ---
+    private int lastNearCount = 0;
+    private int lastDistantCount = 0;
+
+    /**
+     * Mesure les ennemis pour le tick suivant.
+     *
+     * @param entities    La liste des entités du monde.
+     * @param staticCount Nombre d'entités statiques (au début de la liste, jamais des ennemis).
+     * @param grid        La Broadphase à jour (positions de fin de tick), ou {@code null} pour un parcours complet.
+     */
+    public void update(Array<Entity> entities, int staticCount, SpatialGrid grid) {
+        tick++;
+        lastNearCount = 0;
+        lastDistantCount = 0;
+
+        // 1. Ennemis proches de chaque joueur : mesurés à chaque tick
+        for (int i = staticCount; i < entities.size; i++) {
+            Entity player = entities.get(i);
+            if (!player.getIsPlayer()) {
+                continue;
+            }
+            gatherNearby(player, entities, staticCount, grid);
+            for (int k = 0; k < nearby.size; k++) {
+                Foe foe = (Foe) entities.get(nearby.get(k));
+                if (foe.getTarget() == player) {
+                    foe.sense(tick);
+                    lastNearCount++;
+                }
+            }
+        }
+
+        // 2. Tour de rôle : une tranche de la partie dynamique, pour que personne ne garde une mesure trop vieille
+        int dynamicCount = entities.size - staticCount;
+        if (dynamicCount == 0) {
+            return;
+        }
+        int slice = (dynamicCount + distantRefreshTicks - 1) / distantRefreshTicks;
+        for (int n = 0; n < slice; n++) {
+            if (cursor >= dynamicCount) {
+                cursor = 0;
+            }
+            Entity entity = entities.get(staticCount + cursor);
+            cursor++;
+            if (isLivingFoe(entity) && ((Foe) entity).getSensor().getTick() != tick) {
+                ((Foe) entity).sense(tick);
+                lastDistantCount++;
+            }
+        }
+    }
+
+    /**
+     * Remplit {@link #nearby} avec les index des ennemis vivants dont la hitbox touche le carré
+     * de côté {@code 2 * detectionRadius} centré sur le joueur.
+     */
+    private void gatherNearby(Entity player, Array<Entity> entities, int staticCount, SpatialGrid grid) {
+        nearby.clear();
+        Rectangle bounds = player.getbounds();
+        float minX = bounds.x + bounds.width / 2f - detectionRadius;
+        float minY = bounds.y + bounds.height / 2f - detectionRadius;
+        float size = detectionRadius * 2f;
+
+        if (grid != null) {
+            grid.query(minX, minY, size, size, nearby, CollisionLayers.Foe);
+            // On ne garde que les ennemis vivants (la couche ne suffit pas : un ennemi mort attend sa suppression)
+            int kept = 0;
+            for (int k = 0; k < nearby.size; k++) {
+                int index = nearby.get(k);
+                if (index >= staticCount && isLivingFoe(entities.get(index))) {
+                    nearby.set(kept++, index);
+                }
+            }
+            nearby.size = kept;
+            return;
+        }
+
+        // Sans Broadphase : parcours complet de la partie dynamique
+        for (int i = staticCount; i < entities.size; i++) {
+            Entity entity = entities.get(i);
+            if (isLivingFoe(entity)) {
+                Rectangle other = entity.getbounds();
+                if (other.x < minX + size && other.x + other.width > minX
+                    && other.y < minY + size && other.y + other.height > minY) {
+                    nearby.add(i);
+                }
+            }
+        }
+    }
+
+    private static boolean isLivingFoe(Entity entity) {
+        return entity instanceof Foe && ((Foe) entity).getAlive();
+    }
+
+    /**
+     * Prend en compte le rayon de détection d'un ennemi (appelé quand il reçoit un nouveau cerveau).
+     * La zone "proche" s'agrandit pour que cet ennemi soit mesuré à chaque tick quand le joueur est à sa portée.
+     */
+    public void track(Foe foe) {
+        detectionRadius = Math.max(detectionRadius, foe.getDetectionRadius());
+    }
+
+    /** Remet à zéro le tour de rôle (changement de niveau, liste vidée). */
+    public void clear() {
+        cursor = 0;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    public float getDetectionRadius() {
+        return detectionRadius;
+    }
+
+    public int getDistantRefreshTicks() {
+        return distantRefreshTicks;
+    }
+
+    /**
+     * Choisit la fréquence de mesure des ennemis éloignés.
+     * @param distantRefreshTicks 1 pour mesurer tous les ennemis à chaque tick (comportement d'origine).
+     */
+    public void setDistantRefreshTicks(int distantRefreshTicks) {
+        this.distantRefreshTicks = Math.max(1, distantRefreshTicks);
+    }
+
+    /** @return Le nombre d'ennemis proches mesurés au dernier tick. */
+    public int getLastNearCount() {
+        return lastNearCount;
+    }
+
+    /** @return Le nombre d'ennemis éloignés mesurés au dernier tick (tour de rôle). */
+    public int getLastDistantCount() {
+        return lastDistantCount;
+    }
+}
@@ -1,15 +1,24 @@
 package com.EthanKnittel.world.systems;
 
 import com.EthanKnittel.entities.Agent;
+import com.EthanKnittel.entities.CollisionLayers;
 import com.EthanKnittel.entities.Entity;
 import com.EthanKnittel.entities.agents.Foe;
-import com.EthanKnittel.entities.agents.Player;
-import com.EthanKnittel.entities.artifacts.Projectile;
-import com.EthanKnittel.entities.artifacts.Wall;
 import com.EthanKnittel.game.GameScreen;
 import com.EthanKnittel.world.Level;
+import com.EthanKnittel.world.TileCollisionMap;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 /**
  * Système gérant la physique et les collisions du jeu.
@@ -21,10 +30,166 @@ import com.badlogic.gdx.utils.Array;
  * Il utilise une détection de collision de type <b>AABB</b> (Axis-Aligned Bounding Box),
  * c'est-à-dire des rectangles qui ne pivotent pas. C'est la méthode standard pour les jeux de plateforme 2D.
  * </p>
+ * <p>
+ * Les tests de collision ne parcourent pas forcément toutes les entités : si une {@link SpatialGrid} (Broadphase)
+ * est fournie, seules les entités des cellules voisines sont testées. Sans grille, on revient au parcours
+ * complet ("force brute"), ce qui permet de comparer les deux modes.
+ * </p>
+ * <p>
+ * Les tuiles solides du niveau ne sont pas des entités : elles sont lues directement dans la
+ * {@link TileCollisionMap} du niveau, en ne visitant que les cases recouvertes par la hitbox déplacée.
+ * Elles sont résolues avant les entités, comme l'étaient les anciens murs (créés en premier au chargement).
+ * </p>
+ * <p>
+ * <b>Optimisations :</b> seules les entités dynamiques sont intégrées (les statiques servent uniquement d'obstacles),
+ * et un agent immobile au sol pendant {@link #TicksBeforeSleep} ticks "s'endort" : il n'est plus intégré ni
+ * testé jusqu'à son réveil (vitesse donnée, dégâts, contact, voisin qui bouge).
+ * </p>
+ * <p>
+ * <b>Contacts :</b> les boucles de collision ne font que détecter. Les contacts (corps à corps,
+ * ennemis trop proches) sont rangés dans un {@link ContactBuffer}, puis appliqués une fois par paire
+ * par le {@link ContactDispatcher} quand toutes les entités ont bougé.
+ * </p>
+ * <p>
+ * <b>Règles de groupe des ennemis (Boids) :</b> séparation, et en option cohésion et alignement
+ * (voir {@link #setFlockingWeights(float, float)}). Elles sont calculées une fois par tick, avant les déplacements,
+ * sur une photo des ennemis rangée par colonnes ({@link FlockGrid}) : leur coût est linéaire en nombre d'ennemis.
+ * </p>
+ * <p>
+ * <b>Niveau de détail (optionnel) :</b> avec un {@link SimulationLod}, chaque entité avance du temps que lui
+ * attribue son anneau (0 = elle attend son tour : ni intégrée, ni poussée par ses voisins pendant ce tick).
+ * </p>
+ * <p>
+ * <b>Mode parallèle (optionnel) :</b> voir {@link #setParallelism(int)}. Le monde est découpé en bandes verticales
+ * (X) entre des groupes d'entités qui ne peuvent pas interagir pendant le tick, et chaque bande est résolue
+ * par un thread. Le résultat est identique, au bit près, à celui du mode séquentiel.
+ * </p>
  */
 public class PhysicSystem {
     private Level level; // Référence au niveau (peu utilisée ici, mais peut servir pour des requêtes globales)
 
+    /** La grille de partitionnement du tick en cours ({@code null} = mode force brute). */
+    private SpatialGrid broadphase;
+
+    /** Nombre d'entités du tick en cours (utilisé par le mode force brute). */
+    private int entityCount;
+
+    /** Mémoire de travail du thread principal (mode séquentiel). Son buffer de contacts reçoit ceux de tout le tick. */
+    private final StepContext mainContext = new StepContext();
+
+    /** Applique les contacts du tick (dégâts, drapeaux de l'IA) une fois les déplacements terminés. */
+    private final ContactDispatcher contactDispatcher = new ContactDispatcher();
+
+    /** Grille des tuiles solides du tick en cours ({@code null} si le niveau n'en a pas). */
+    private TileCollisionMap tiles;
+
+    /** Stockage SoA du tick en cours ({@code null} = chaque entité utilise ses propres objets). */
+    private TransformStore store;
+
+    /** Niveau de détail du tick en cours ({@code null} = toutes les entités avancent d'un tick complet). */
+    private SimulationLod lod;
+
+    /** Nombre de ticks d'immobilité au sol avant qu'un agent ne s'endorme (0,5 s à 60 Hz). */
+    private static final int TicksBeforeSleep = 30;
+
+    /** Déplacement maximal (un demi-bloc) d'un sous-pas quand une entité éloignée rattrape plusieurs ticks d'un coup. */
+    private static final float MaxSubStepDistance = 0.5f;
+
+    /** Distance minimale (1 bloc) entre deux ennemis avant qu'ils ne se repoussent. */
+    private static final float SeparationThreshold = 16f / GameScreen.getPixelsPerBlocks();
+
+    /** Vitesse de la poussée de séparation (par voisin trop proche). */
+    private static final float SeparationPushStrength = 10f / GameScreen.getPixelsPerBlocks();
+
+    // --- RÈGLES DE GROUPE (Boids) ---
+
+    /** Rayon (3 blocs) dans lequel un ennemi suit son groupe (cohésion, alignement). */
+    private static final float NeighbourRadius = 48f / GameScreen.getPixelsPerBlocks();
+
+    /** Vitesse maximale de correction de chacune des règles de cohésion et d'alignement. */
+    private static final float FlockingSteerSpeed = 10f / GameScreen.getPixelsPerBlocks();
+
+    /** Index des ennemis par colonnes, reconstruit à chaque tick (photo des positions et vitesses X). */
+    private final FlockGrid flock = new FlockGrid();
+
+    /** Ajustement X de chaque ennemi pour ce tick (séparation + cohésion + alignement), calculé avant les déplacements. */
+    private float[] flockingX = new float[0];
+
+    /** Poids de la cohésion et de l'alignement (entre 0 et 1, 0 = règle désactivée : séparation seule). */
+    private float cohesionWeight = 0f;
+    private float alignmentWeight = 0f;
+
+    // --- PHYSIQUE PARALLÈLE ---
+
+    /** Nombre de threads de la physique (1 = mode séquentiel d'origine). */
+    private int parallelism = 1;
+
+    /** Le pool de threads (créé seulement si {@link #parallelism} est supérieur à 1). */
+    private ForkJoinPool pool;
+
+    /** Une mémoire de travail par bande (chaque thread a ses propres listes et rectangles). */
+    private StepContext[] workerContexts = new StepContext[0];
+
+    /** Tâches des threads : calcul des zones atteignables, puis résolution des bandes. */
+    private final List<WorkerTask> reachTasks = new ArrayList<>();
+    private final List<WorkerTask> stepTasks = new ArrayList<>();
+
+    /** En dessous de ce nombre d'entités dynamiques, découper le monde coûte plus cher que ce qu'il rapporte. */
+    private static final int ParallelThreshold = 256;
+
+    /** Marge ajoutée aux zones atteignables pour absorber les arrondis des calculs en {@code float}. */
+    private static final float RangeEpsilon = 1e-3f;
+
+    // Zone atteignable de chaque entité pendant le tick (en cellules de la Broadphase, bornes incluses) :
+    // toutes les cellules qu'elle peut occuper ou interroger.
+    private int[] reserveFromX = new int[0];
+    private int[] reserveToX = new int[0];
+    private int[] reserveFromY = new int[0];
+    private int[] reserveToY = new int[0];
+
+    /** Bande attribuée à chaque entité dynamique. */
+    private int[] assignedStrip = new int[0];
+
+    /** Clés de tri (début de zone, index) pour regrouper les entités dont les zones se chevauchent. */
+    private long[] sortKeys = new long[0];
+
+    /** Liste d'index réutilisable (entités dont on calcule la zone atteignable). */
+    private final IntArray reachIndices = new IntArray();
+
+    // Données du tick en cours, lues par les threads
+    private Array<Entity> tickEntities;
+    private float tickDeltaTime;
+
+    /** Répartition du dernier tick (pour les mesures) : nombre de groupes et taille de la plus grosse bande. */
+    private int lastGroupCount = 0;
+    private int lastLargestStripCount = 0;
+
+    /**
+     * Mémoire de travail d'une résolution : listes et rectangles réutilisables.
+     * <p>
+     * En mode parallèle, chaque thread a la sienne, ce qui évite tout partage (et toute allocation).
+     * </p>
+     */
+    private static final class StepContext {
+        /** Liste réutilisable des index candidats renvoyés par la Broadphase (évite une allocation par test). */
+        final IntArray candidates = new IntArray();
+
+        /** Rectangle réutilisable pour les prédictions de position (évite un {@code new Rectangle} par paire testée). */
+        final Rectangle futureBounds = new Rectangle();
+
+        /** Rectangle réutilisable représentant la case de tuile testée. */
+        final Rectangle tileBounds = new Rectangle();
+
+        /** Tampons de dédoublonnage des requêtes à la grille. */
+        final SpatialGrid.QueryBuffer queryBuffer = new SpatialGrid.QueryBuffer();
+
+        /** Index des entités résolues par ce thread (ordre croissant). */
+        final IntArray indices = new IntArray();
+
+        /** Contacts détectés par ce thread (appliqués à la fin du tick). */
+        final ContactBuffer contacts = new ContactBuffer();
+    }
+
     /**
      * Initialise le système physique.
      * @param level Le niveau actuel.
@@ -40,50 +205,608 @@ public class PhysicSystem {
      * (pas de mur), puis on applique le déplacement final.
      * </p>
      *
-     * @param deltaTime Temps écoulé depuis la dernière frame.
-     * @param entities  Liste de toutes les entités actives du monde.
+     * @param deltaTime   Durée du tick.
+     * @param entities    Liste de toutes les entités actives du monde.
+     * @param staticCount Nombre d'entités statiques au début de la liste (jamais intégrées, seulement testées).
+     * @param broadphase  Grille spatiale à jour pour ce tick, ou {@code null} pour tester toutes les paires.
+     * @param store       Stockage SoA aligné sur la liste (slot = index), ou {@code null}.
+     *                    Gravité, intégration et mise à jour de la grille lisent alors directement ses tableaux.
+     * @param lod         Niveau de détail à jour pour ce tick, ou {@code null} pour simuler tout le monde à chaque tick.
+     */
+    public void update(float deltaTime, Array<Entity> entities, int staticCount, SpatialGrid broadphase, TransformStore store,
+                       SimulationLod lod){
+        this.broadphase = broadphase;
+        this.store = store;
+        this.lod = lod;
+        this.entityCount = entities.size;
+        // Lue à chaque tick : la grille n'existe qu'après le load() du niveau
+        this.tiles = (level != null) ? level.getTileCollisionMap() : null;
+        mainContext.contacts.clear();
+
+        // Règles de groupe des ennemis, sur la photo du début du tick (avant tout déplacement)
+        computeFlocking(entities, staticCount, deltaTime);
+
+        if (parallelism > 1 && broadphase != null && entities.size - staticCount >= ParallelThreshold) {
+            updateParallel(deltaTime, entities, staticCount);
+        } else {
+            // On parcourt les entités dynamiques une par une (les statiques commencent la liste)
+            for (int i = staticCount; i < entities.size; i++) {
+                stepEntity(mainContext, entities, i, deltaTime);
+            }
+            lastGroupCount = 0;
+            lastLargestStripCount = entities.size - staticCount;
+        }
+
+        // Contacts : corps à corps (positions finales), puis application de tous les contacts du tick, une fois par paire
+        collectMeleeContacts(mainContext, entities, staticCount);
+        mainContext.contacts.sortAndRemoveDuplicates();
+        contactDispatcher.dispatch(mainContext.contacts, entities);
+    }
+
+    /**
+     * Phase étroite du corps à corps : chaque joueur est testé contre les ennemis de ses cellules.
+     * <p>
+     * Fait une seule fois par tick, après tous les déplacements : chaque paire joueur/ennemi n'est testée
+     * qu'une fois (au lieu d'une fois depuis chaque côté, murs compris, pendant les déplacements).
+     * </p>
      */
-    public void update(float deltaTime, Array<Entity> entities){
-        // On parcourt toutes les entités une par une
-        for (int i = 0; i < entities.size; i++) {
+    private void collectMeleeContacts(StepContext context, Array<Entity> entities, int staticCount) {
+        IntArray candidates = context.candidates;
+        for (int i = staticCount; i < entities.size; i++) {
+            Entity player = entities.get(i);
+            if (!player.getIsPlayer()) {
+                continue;
+            }
+            Rectangle playerBounds = player.getbounds();
+            // Seuls les ennemis rencontrés par le joueur (voir CollisionLayers) sont renvoyés
+            gatherCandidates(context, entities, playerBounds.x, playerBounds.y, playerBounds.width, playerBounds.height,
+                player.getCollisionMask() & CollisionLayers.Foe);
+            for (int c = 0; c < candidates.size; c++) {
+                int j = candidates.get(c);
+                Entity other = entities.get(j);
+                if (playerBounds.overlaps(other.getbounds())) {
+                    context.contacts.add(ContactBuffer.Melee, i, j);
+                }
+            }
+        }
+    }
+
+    /**
+     * Résout le déplacement d'une entité dynamique pour ce tick.
+     * <p>
+     * Une entité loin de la caméra attend son tour, puis avance de tout le temps écoulé (voir {@link SimulationLod}).
+     * Ce pas long est découpé en sous-pas de moins de {@link #MaxSubStepDistance} : les collisions ne testent que
+     * la position d'arrivée, un grand saut traverserait sinon le sol ou un mur fin.
+     * </p>
+     *
+     * @param context      Mémoire de travail du thread appelant.
+     * @param i            Index de l'entité dans la liste.
+     * @param tickDuration Durée d'un tick.
+     */
+    private void stepEntity(StepContext context, Array<Entity> entities, int i, float tickDuration) {
+        Entity entity = entities.get(i);
+
+        // 0. Entité endormie : ni gravité ni collisions jusqu'à son réveil. Pas de temps attribué : elle attend son tour.
+        float deltaTime = getStepDelta(i, tickDuration);
+        if (entity.getIsSleeping() || deltaTime == 0) {
+            return;
+        }
+        float flocking = entity.getIsEnemy() ? flockingX[i] : 0f;
+        if (deltaTime <= tickDuration) {
+            integrate(context, entities, i, deltaTime, flocking, 1);
+            return;
+        }
+
+        // Pas long : sous-pas égaux (l'ajustement des règles de groupe est réparti entre eux)
+        int subSteps = countSubSteps(entity, i, deltaTime, tickDuration);
+        float subDelta = deltaTime / subSteps;
+        int subTicks = Math.max(1, Math.round(subDelta / tickDuration));
+        for (int s = 0; s < subSteps && !entity.getIsSleeping(); s++) {
+            integrate(context, entities, i, subDelta, flocking / subSteps, subTicks);
+        }
+    }
+
+    /**
+     * @return Le nombre de sous-pas d'un pas long : assez pour qu'aucun ne dépasse {@link #MaxSubStepDistance}
+     * (vitesse actuelle, plus la gravité de tout le pas), mais jamais plus que de ticks couverts.
+     */
+    private int countSubSteps(Entity entity, int i, float deltaTime, float tickDuration) {
+        float velocityX = (store != null) ? store.velocityX[i] : entity.getVelocity().x;
+        float velocityY = (store != null) ? store.velocityY[i] : entity.getVelocity().y;
+        float gravityStep = entity.getAffectedByGravity() ? Math.abs(Entity.getGravity()) * deltaTime : 0f;
+        float distanceX = Math.abs(velocityX) * deltaTime + (entity.getIsEnemy() ? Math.abs(flockingX[i]) : 0f);
+        float distanceY = (Math.abs(velocityY) + gravityStep) * deltaTime;
+        int steps = (int) Math.ceil(Math.max(distanceX, distanceY) / MaxSubStepDistance);
+        int maxSteps = Math.max(1, Math.round(deltaTime / tickDuration));
+        return MathUtils.clamp(steps, 1, maxSteps);
+    }
+
+    /**
+     * Intègre une entité pendant {@code deltaTime} : forces, déplacement, collisions, grille et sommeil.
+     *
+     * @param flocking     Ajustement X des règles de groupe pour ce pas.
+     * @param elapsedTicks Nombre de ticks couverts par ce pas (pour le compteur d'immobilité).
+     */
+    private void integrate(StepContext context, Array<Entity> entities, int i, float deltaTime, float flocking, int elapsedTicks) {
+        Entity entity = entities.get(i);
+        float startX = entity.getX();
+        float startY = entity.getY();
+
+        // 1. Application des forces verticales (Gravité, Glissade sur mur)
+        applyGravityAndAgentLogic(entity, i, deltaTime);
+
+        // 2. Calcul du déplacement théorique (Vitesse * Temps)
+        float potentialDeltaX;
+        float potentialDeltaY;
+        if (store != null) {
+            potentialDeltaX = store.velocityX[i] * deltaTime;
+            potentialDeltaY = store.velocityY[i] * deltaTime;
+        } else {
+            potentialDeltaX = entity.getVelocity().x * deltaTime;
+            potentialDeltaY = entity.getVelocity().y * deltaTime;
+        }
+
+        // 3. Règles de groupe des ennemis (séparation, cohésion, alignement), calculées en début de tick
+        potentialDeltaX += flocking;
+
+        // Optimisation : Si l'entité ne bouge pas, inutile de calculer les collisions
+        if (potentialDeltaX == 0 && potentialDeltaY == 0) {
+            return;
+        }
+
+        // 4. Résolution des collisions physiques (Solides)
+        if (!entity.getCollision()) { // Si ce n'est pas un mur (donc c'est un mob ou joueur)
+            // Si ce n'est pas un mur (donc c'est un acteur mobile)
+            // Important : On traite X et Y séparément pour permettre de glisser contre un mur
+            // tout en tombant (plutôt que d'être bloqué net en diagonale).
+            potentialDeltaX = checkCollisionsX(context, entity, entities, i, potentialDeltaX);
+            potentialDeltaY = checkCollisionsY(context, entity, entities, i, potentialDeltaY);
+        }
+
+        // 5. Application finale de la nouvelle position validée
+        if (potentialDeltaX != 0 || potentialDeltaY != 0) {
+            entity.setPosXY(entity.getX() + potentialDeltaX, entity.getY() + potentialDeltaY);
+        }
+
+        // 6. On signale le déplacement à la grille pour que les entités suivantes voient la position à jour
+        if (broadphase != null) {
+            if (store != null) {
+                broadphase.update(i, store.x[i], store.y[i], store.width[i], store.height[i]);
+            } else {
+                broadphase.update(i, entity.getbounds());
+            }
+        }
+
+        // 7. Faut-il endormir l'entité ? (un pas long compte pour tous les ticks qu'il couvre)
+        updateSleepState(entity, startX, startY, elapsedTicks);
+    }
+
+    // --- PHYSIQUE PARALLÈLE ---
+
+    /**
+     * Choisit le nombre de threads de la physique.
+     * <p>
+     * Avec plus d'un thread (et seulement si une Broadphase est fournie et que le monde compte au moins
+     * {@link #ParallelThreshold} entités dynamiques), chaque tick est résolu en trois temps :
+     * <ol>
+     * <li>Chaque entité dynamique reçoit une "zone atteignable" : toutes les cellules qu'elle peut occuper ou interroger
+     * pendant le tick (vitesse, séparation, murs et tuiles contre lesquels elle peut être recalée).</li>
+     * <li>Les entités dont les zones se chevauchent forment un groupe. Le monde est découpé en bandes X
+     * (une par thread, avec autant d'entités que possible dans chacune) en ne coupant jamais un groupe :
+     * aucune entité n'est à cheval sur deux bandes.</li>
+     * <li>Chaque thread résout sa bande, dans l'ordre croissant des index.</li>
+     * </ol>
+     * Deux groupes différents ne peuvent ni se voir ni se toucher pendant le tick : le résultat est donc identique,
+     * au bit près, à celui du mode séquentiel. Le gain dépend de la répartition des entités : une foule continue
+     * forme un seul groupe, résolu par un seul thread.
+     * </p>
+     * <p>
+     * Un obstacle mobile (entité dynamique avec {@code collision}) rend les zones impossibles à borner :
+     * le tick est alors entièrement résolu par le thread principal.
+     * </p>
+     *
+     * @param threads Nombre de threads (1 = mode séquentiel d'origine).
+     */
+    public void setParallelism(int threads) {
+        threads = Math.max(1, threads);
+        if (threads == parallelism) {
+            return;
+        }
+        dispose();
+        parallelism = threads;
+        if (threads > 1) {
+            pool = new ForkJoinPool(threads);
+            workerContexts = new StepContext[threads];
+            reachTasks.clear();
+            stepTasks.clear();
+            for (int s = 0; s < threads; s++) {
+                workerContexts[s] = new StepContext();
+                reachTasks.add(new WorkerTask(workerContexts[s], false));
+                stepTasks.add(new WorkerTask(workerContexts[s], true));
+            }
+        }
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Règle la cohésion et l'alignement des ennemis (en plus de la séparation, toujours active).
+     * Comme la séparation, ces règles ne s'appliquent qu'aux stratégies qui l'acceptent (ex: Chasse).
+     *
+     * @param cohesionWeight  Attirance vers le centre du groupe (0 = désactivée, 1 = maximale).
+     * @param alignmentWeight Alignement sur la vitesse du groupe (0 = désactivé, 1 = maximal).
+     */
+    public void setFlockingWeights(float cohesionWeight, float alignmentWeight) {
+        this.cohesionWeight = MathUtils.clamp(cohesionWeight, 0f, 1f);
+        this.alignmentWeight = MathUtils.clamp(alignmentWeight, 0f, 1f);
+    }
+
+    public float getCohesionWeight() {
+        return cohesionWeight;
+    }
+
+    public float getAlignmentWeight() {
+        return alignmentWeight;
+    }
+
+    /** @return Les règles appliquées aux contacts (aussi utilisées par le {@link ProjectileSystem} pour ses impacts). */
+    public ContactDispatcher getContactDispatcher() {
+        return contactDispatcher;
+    }
+
+    /**
+     * Arrête les threads de la physique (le système repasse en mode séquentiel).
+     * À appeler quand le système est remplacé (changement de niveau).
+     */
+    public void dispose() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+        workerContexts = new StepContext[0];
+        reachTasks.clear();
+        stepTasks.clear();
+        parallelism = 1;
+    }
+
+    /** @return Le nombre de groupes indépendants lors du dernier tick (0 en mode séquentiel). */
+    public int getLastGroupCount() {
+        return lastGroupCount;
+    }
+
+    /**
+     * @return Le nombre d'entités de la bande la plus chargée lors du dernier tick (toutes en mode séquentiel) :
+     * c'est elle qui fixe la durée de la résolution.
+     */
+    public int getLastLargestStripCount() {
+        return lastLargestStripCount;
+    }
+
+    /**
+     * Travail d'un thread : parcourt sa liste d'index ({@code context.indices}) dans l'ordre croissant.
+     */
+    private final class WorkerTask implements Callable<Void> {
+        private final StepContext context;
+        private final boolean step;
+
+        WorkerTask(StepContext context, boolean step) {
+            this.context = context;
+            this.step = step;
+        }
+
+        @Override
+        public Void call() {
+            IntArray indices = context.indices;
+            for (int k = 0; k < indices.size; k++) {
+                if (step) {
+                    stepEntity(context, tickEntities, indices.get(k), tickDeltaTime);
+                } else {
+                    computeReach(context, tickEntities, indices.get(k), tickDeltaTime);
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Résolution d'un tick en mode parallèle (voir {@link #setParallelism(int)}).
+     */
+    private void updateParallel(float deltaTime, Array<Entity> entities, int staticCount) {
+        int size = entities.size;
+        int dynamicCount = size - staticCount;
+        ensureParallelCapacity(size);
+
+        // ÉTAPE 1 : Un obstacle mobile rendrait les zones atteignables impossibles à borner : on reste en séquentiel.
+        for (int i = staticCount; i < size; i++) {
             Entity entity = entities.get(i);
+            if ((entity.getCollisionLayer() & CollisionLayers.getBlockingLayers()) != 0) {
+                for (int k = staticCount; k < size; k++) {
+                    stepEntity(mainContext, entities, k, deltaTime);
+                }
+                lastGroupCount = 0;
+                lastLargestStripCount = dynamicCount;
+                return; // Les contacts sont déjà dans le buffer du thread principal
+            }
+        }
+        tickEntities = entities;
+        tickDeltaTime = deltaTime;
+
+        // ÉTAPE 2 : Zones atteignables (lecture seule, calculées en parallèle par tranches d'index)
+        reachIndices.clear();
+        for (int i = staticCount; i < size; i++) {
+            reachIndices.add(i);
+        }
+        runReach(reachIndices);
 
-            // 1. Application des forces verticales (Gravité, Glissade sur mur)
-            applyGravityAndAgentLogic(entity, deltaTime);
+        // ÉTAPE 3 : Regroupement des zones qui se chevauchent et découpage en bandes
+        assignStrips(staticCount, size);
+
+        // ÉTAPE 4 : Listes de chaque bande (ordre croissant des index)
+        // Les cellules que les entités peuvent rejoindre sont créées maintenant, sur le thread principal.
+        for (int s = 0; s < parallelism; s++) {
+            workerContexts[s].indices.clear();
+        }
+        for (int i = staticCount; i < size; i++) {
+            workerContexts[assignedStrip[i]].indices.add(i);
+            broadphase.reserve(reserveFromX[i], reserveFromY[i], reserveToX[i], reserveToY[i]);
+        }
+        lastLargestStripCount = 0;
+        for (int s = 0; s < parallelism; s++) {
+            lastLargestStripCount = Math.max(lastLargestStripCount, workerContexts[s].indices.size);
+        }
+
+        // ÉTAPE 5 : Résolution des bandes en parallèle
+        for (int s = 0; s < parallelism; s++) {
+            workerContexts[s].contacts.clear();
+        }
+        runWorkers(stepTasks);
+        tickEntities = null;
 
-            // 2. Calcul du déplacement théorique (Vitesse * Temps)
-            float potentialDeltaX = entity.getVelocity().x * deltaTime;
-            float potentialDeltaY = entity.getVelocity().y * deltaTime;
+        // ÉTAPE 6 : Contacts des bandes regroupés (ils seront triés : l'ordre des threads n'a pas d'importance)
+        for (int s = 0; s < parallelism; s++) {
+            mainContext.contacts.addAll(workerContexts[s].contacts);
+        }
+    }
 
-            // 3. Gestion de la séparation des ennemis (pour éviter qu'ils ne s'empilent)
-            if (entity.getIsEnemy()) {
-                potentialDeltaX += calculateSeparation((Foe) entity, entities, i, deltaTime);
+    /**
+     * Calcule en parallèle les zones atteignables des entités de la liste (réparties en tranches, une par thread).
+     */
+    private void runReach(IntArray indices) {
+        for (int s = 0; s < parallelism; s++) {
+            IntArray slice = workerContexts[s].indices;
+            slice.clear();
+            int from = (int) ((long) indices.size * s / parallelism);
+            int to = (int) ((long) indices.size * (s + 1) / parallelism);
+            for (int k = from; k < to; k++) {
+                slice.add(indices.get(k));
             }
+        }
+        runWorkers(reachTasks);
+    }
 
-            // 4. Cas spécial : Projectiles (Collisions "Trigger")
-            // Les projectiles traversent l'air mais s'arrêtent au premier impact.
-            if (entity.getIsProjectile()) {
-                handleProjectileCollision((Projectile) entity, entities, i, deltaTime);
-                continue; // Le projectile gère son propre mouvement dans sa classe, on passe au suivant.
+    /**
+     * Lance les tâches sur le pool et attend qu'elles soient toutes terminées.
+     * Une erreur dans un thread est renvoyée sur le thread principal.
+     */
+    private void runWorkers(List<WorkerTask> tasks) {
+        try {
+            for (Future<Void> result : pool.invokeAll(tasks)) {
+                result.get();
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GdxRuntimeException("Physique parallèle interrompue", e);
+        } catch (ExecutionException e) {
+            throw new GdxRuntimeException("Erreur dans un thread de la physique", e.getCause());
+        }
+    }
 
-            // Optimisation : Si l'entité ne bouge pas, inutile de calculer les collisions
-            if (potentialDeltaX == 0 && potentialDeltaY == 0) {
-                continue;
+    /**
+     * Calcule la zone atteignable d'une entité dynamique pendant ce tick (bornes volontairement larges).
+     * <p>
+     * <b>Déplacement :</b> pendant le tick, la vitesse ne peut que diminuer (glissade sur un mur, arrêt contre
+     * un obstacle ; les coups ne sont appliqués qu'après tous les déplacements) : on prend la vitesse actuelle,
+     * plus l'ajustement des règles de groupe (connu dès le début du tick), plus la gravité d'un tick.
+     * </p>
+     * <p>
+     * <b>Recalages :</b> un obstacle touché recale la hitbox sur l'un de ses bords (une fois par axe au plus).
+     * Un obstacle qui ne chevauche pas encore la hitbox est devant elle : le bord visé reste dans la zone balayée.
+     * Une tuile déjà chevauchée ne déplace la hitbox que d'une case et d'une largeur. Un mur peut être grand : s'il chevauche
+     * déjà la hitbox, la zone X s'étend jusqu'à ses bords ; tout mur présent sur la ligne parcourue étend
+     * la zone Y jusqu'à ses faces (sol ou plafond).
+     * </p>
+     * <p>
+     * <b>Pas long</b> (entité éloignée qui rattrape plusieurs ticks, en sous-pas) : chaque sous-pas peut recaler la hitbox.
+     * La zone reste bornée en supposant le pire à chaque position de la ligne parcourue : une tuile à dégager,
+     * et tout mur de la ligne (pas seulement ceux qui chevauchent déjà la hitbox) comme obstacle possible.
+     * </p>
+     */
+    private void computeReach(StepContext context, Array<Entity> entities, int i, float tickDuration) {
+        Entity entity = entities.get(i);
+        Rectangle bounds = entity.getbounds();
+        float x = bounds.x;
+        float y = bounds.y;
+        float width = bounds.width;
+        float height = bounds.height;
+
+        // Déplacement maximal sur chaque axe (pendant le temps que le niveau de détail lui attribue)
+        float deltaTime = getStepDelta(i, tickDuration);
+        boolean longStep = deltaTime > tickDuration;
+        float velocityX = (store != null) ? store.velocityX[i] : entity.getVelocity().x;
+        float velocityY = (store != null) ? store.velocityY[i] : entity.getVelocity().y;
+        float moveX = Math.abs(velocityX) * deltaTime + RangeEpsilon;
+        if (entity.getIsEnemy()) {
+            moveX += Math.abs(flockingX[i]);
+        }
+        float gravityStep = entity.getAffectedByGravity() ? Math.abs(Entity.getGravity()) * deltaTime : 0f;
+        float moveY = (Math.abs(velocityY) + gravityStep) * deltaTime + RangeEpsilon;
+
+        // Zone balayée (en Y, élargie d'une case et d'une hitbox : recalage contre une tuile après le pas X)
+        float minX = x - moveX;
+        float maxX = x + width + moveX;
+        float minY = y - moveY - height - 1f;
+        float maxY = y + height + moveY + height + 1f;
+
+        // Hitbox déjà dans une tuile : le recalage X peut la déplacer d'une case et d'une largeur.
+        // Sinon, la tuile touchée est devant elle et le bord visé reste dans la zone balayée.
+        if (longStep || findSolidTile(bounds, context.tileBounds)) {
+            minX -= width + 1f;
+            maxX += width + 1f;
+        }
+
+        // Murs qui chevauchent déjà la hitbox : le recalage X peut l'envoyer sur l'un de leurs bords
+        // (seuls les obstacles des couches qui bloquent cette entité sont renvoyés)
+        // (pas long : la ligne parcourue couvre aussi toute la hauteur balayée, l'entité peut tomber le long d'un mur)
+        int blockingMask = entity.getCollisionMask() & CollisionLayers.getBlockingLayers();
+        IntArray candidates = context.candidates;
+        float rowY = longStep ? minY : y;
+        float rowHeight = longStep ? maxY - minY : height;
+        gatherCandidates(context, entities, minX, rowY, maxX - minX, rowHeight, blockingMask);
+        float rowMinX = minX;
+        float rowMaxX = maxX;
+        Rectangle sweptRow = context.futureBounds.set(minX, rowY, maxX - minX, rowHeight);
+        for (int c = 0; c < candidates.size; c++) {
+            Rectangle otherBounds = entities.get(candidates.get(c)).getbounds();
+            if (otherBounds.overlaps(longStep ? sweptRow : bounds)) {
+                minX = Math.min(minX, otherBounds.x - width - RangeEpsilon);
+                maxX = Math.max(maxX, otherBounds.x + otherBounds.width + width + RangeEpsilon);
+            }
+        }
+
+        // Murs présents sur la ligne parcourue : le recalage Y peut poser l'entité dessus (ou la coller dessous)
+        if (minX < rowMinX || maxX > rowMaxX) {
+            gatherCandidates(context, entities, minX, rowY, maxX - minX, rowHeight, blockingMask);
+        }
+        Rectangle row = context.futureBounds.set(minX, rowY, maxX - minX, rowHeight);
+        for (int c = 0; c < candidates.size; c++) {
+            Rectangle otherBounds = entities.get(candidates.get(c)).getbounds();
+            if (otherBounds.overlaps(row)) {
+                minY = Math.min(minY, otherBounds.y - height - RangeEpsilon);
+                maxY = Math.max(maxY, otherBounds.y + otherBounds.height + height + RangeEpsilon);
             }
+        }
+        setReach(i, minX, maxX, minY, maxY);
+    }
+
+    /** Convertit une zone atteignable (coordonnées monde) en cellules de la Broadphase. */
+    private void setReach(int i, float minX, float maxX, float minY, float maxY) {
+        reserveFromX[i] = broadphase.getCellIndex(minX);
+        reserveToX[i] = broadphase.getCellIndex(maxX);
+        reserveFromY[i] = broadphase.getCellIndex(minY);
+        reserveToY[i] = broadphase.getCellIndex(maxY);
+    }
+
+    /**
+     * Attribue une bande à chaque entité dynamique.
+     * <ol>
+     * <li>Les zones sont triées par leur début : une zone qui commence avant la fin du groupe en cours
+     * (cellule partagée) rejoint ce groupe.</li>
+     * <li>Les groupes sont distribués de gauche à droite : on passe à la bande suivante dès que la bande
+     * en cours a reçu sa part des entités.</li>
+     * </ol>
+     */
+    private void assignStrips(int staticCount, int size) {
+        int dynamicCount = size - staticCount;
+        int share = (dynamicCount + parallelism - 1) / parallelism;
+
+        // 1. Tri par début de zone (l'index est rangé dans les 32 bits bas de la clé)
+        for (int k = 0; k < dynamicCount; k++) {
+            int i = staticCount + k;
+            sortKeys[k] = ((long) reserveFromX[i] << 32) | i;
+        }
+        java.util.Arrays.sort(sortKeys, 0, dynamicCount);
 
-            // 5. Résolution des collisions physiques (Solides)
-            if (!entity.getCollision()) { // Si ce n'est pas un mur (donc c'est un mob ou joueur)
-                // Si ce n'est pas un mur (donc c'est un acteur mobile)
-                // Important : On traite X et Y séparément pour permettre de glisser contre un mur
-                // tout en tombant (plutôt que d'être bloqué net en diagonale).
-                potentialDeltaX = checkCollisionsX(entity, entities, i, potentialDeltaX);
-                potentialDeltaY = checkCollisionsY(entity, entities, i, potentialDeltaY);
+        // 2. Regroupement et distribution
+        int strip = 0;
+        int stripCount = 0;
+        lastGroupCount = 0;
+        int k = 0;
+        while (k < dynamicCount) {
+            int first = k;
+            int groupEnd = reserveToX[(int) sortKeys[k]];
+            k++;
+            while (k < dynamicCount && reserveFromX[(int) sortKeys[k]] <= groupEnd) {
+                groupEnd = Math.max(groupEnd, reserveToX[(int) sortKeys[k]]);
+                k++;
             }
+            if (stripCount >= share && strip < parallelism - 1) {
+                strip++;
+                stripCount = 0;
+            }
+            for (int m = first; m < k; m++) {
+                assignedStrip[(int) sortKeys[m]] = strip;
+            }
+            stripCount += k - first;
+            lastGroupCount++;
+        }
+    }
+
+    private void ensureParallelCapacity(int size) {
+        if (assignedStrip.length >= size) {
+            return;
+        }
+        int capacity = Math.max(size, assignedStrip.length * 2);
+        reserveFromX = new int[capacity];
+        reserveToX = new int[capacity];
+        reserveFromY = new int[capacity];
+        reserveToY = new int[capacity];
+        assignedStrip = new int[capacity];
+        sortKeys = new long[capacity];
+    }
+
+    /**
+     * Compte les ticks d'immobilité d'un agent et l'endort au bout de {@link #TicksBeforeSleep}.
+     * <p>
+     * Un agent est "immobile" s'il est au sol, sans vitesse, et n'a pas bougé pendant ce tick.
+     * Le moindre mouvement remet le compteur à zéro.
+     * </p>
+     *
+     * @param elapsedTicks Nombre de ticks couverts par ce pas (plus de 1 pour une entité loin de la caméra).
+     */
+    private void updateSleepState(Entity entity, float startX, float startY, int elapsedTicks) {
+        if (!entity.getIsAgent()) {
+            return;
+        }
+        Agent agent = (Agent) entity;
+        boolean idle = agent.getGrounded()
+            && agent.getVelocity().x == 0 && agent.getVelocity().y == 0
+            && agent.getX() == startX && agent.getY() == startY;
+
+        if (!idle) {
+            agent.setIdleTicks(0);
+            return;
+        }
+        agent.setIdleTicks(agent.getIdleTicks() + elapsedTicks);
+        if (agent.getIdleTicks() >= TicksBeforeSleep) {
+            agent.setIsSleeping(true);
+        }
+    }
 
-            // 6. Application finale de la nouvelle position validée
-            if (potentialDeltaX != 0 || potentialDeltaY != 0) {
-                entity.setPosXY(entity.getX() + potentialDeltaX, entity.getY() + potentialDeltaY);
+    /**
+     * Remplit {@code context.candidates} avec les index des entités susceptibles de toucher la zone donnée.
+     * <p>
+     * Avec une Broadphase, seules les cellules recouvertes par la zone sont visitées.
+     * Sans Broadphase, tous les index sont renvoyés (comportement d'origine).
+     * Dans les deux cas, les index sont dans l'ordre croissant.
+     * </p>
+     */
+    private void gatherCandidates(StepContext context, Array<Entity> entities, float x, float y, float width, float height, int mask) {
+        if (broadphase != null) {
+            broadphase.query(x, y, width, height, context.candidates, context.queryBuffer, mask);
+        } else {
+            gatherAll(context, entities, mask);
+        }
+    }
+
+    /** Renvoie tous les index des couches demandées (mode force brute). */
+    private void gatherAll(StepContext context, Array<Entity> entities, int mask) {
+        IntArray candidates = context.candidates;
+        candidates.clear();
+        for (int k = 0; k < entityCount; k++) {
+            if ((entities.get(k).getCollisionLayer() & mask) != 0) {
+                candidates.add(k);
             }
         }
     }
@@ -91,10 +814,14 @@ public class PhysicSystem {
     /**
      * Applique la gravité et met à jour les états physiques des Agents (Sol, Mur).
      */
-    private void applyGravityAndAgentLogic(Entity entity, float deltaTime) {
-        // Application de la gravité simple
-        if (entity.getAffectedByGravity()) {
-            entity.getVelocity().y += Entity.getGravity() * deltaTime;
+    private void applyGravityAndAgentLogic(Entity entity, int index, float deltaTime) {
+        // Application de la gravité simple (sans réveiller l'entité : ce n'est pas une intention de bouger)
+        if (store != null) {
+            if ((store.flags[index] & TransformStore.FlagGravity) != 0) {
+                store.velocityY[index] += Entity.getGravity() * deltaTime;
+            }
+        } else if (entity.getAffectedByGravity()) {
+            entity.addVelocityY(Entity.getGravity() * deltaTime);
         }
 
         // Logique spécifique aux êtres vivants (Player, Foe)
@@ -115,196 +842,293 @@ public class PhysicSystem {
     }
 
     /**
-     * Calcule une force de répulsion pour éviter que les ennemis ne se chevauchent.
+     * Calcule l'ajustement X de chaque ennemi pour ce tick : les règles de groupe des Boids, sur l'axe X.
+     * <ol>
+     * <li><b>Séparation</b> : chaque voisin à moins d'un bloc repousse l'ennemi (et le contact est signalé à l'IA).</li>
+     * <li><b>Cohésion</b> (optionnelle) : l'ennemi se rapproche du centre des voisins de son groupe ({@link #NeighbourRadius}).</li>
+     * <li><b>Alignement</b> (optionnel) : l'ennemi se rapproche de la vitesse moyenne de ces voisins.</li>
+     * </ol>
      * <p>
-     * C'est une implémentation simplifiée du comportement "Separation" des Boids.
+     * Les voisins sont lus dans la photo du {@link FlockGrid} (début du tick) : seules les trois colonnes autour
+     * de l'ennemi sont visitées. Fait une seule fois, sur le thread principal, avant les déplacements :
+     * la zone atteignable du mode parallèle connaît donc l'ajustement exact de chaque ennemi.
      * </p>
-     *
-     * @return Un ajustement de déplacement sur l'axe X.
      */
-    private float calculateSeparation(Foe currentFoe, Array<Entity> entities, int currentIndex, float deltaTime) {
-        float pushAdjustmentX = 0f;
-        currentFoe.setTouchingAlly(false); // Reset du flag
+    private void computeFlocking(Array<Entity> entities, int staticCount, float deltaTime) {
+        if (flockingX.length < entities.size) {
+            flockingX = new float[Math.max(entities.size, flockingX.length * 2)];
+        }
+        boolean groupRules = cohesionWeight > 0f || alignmentWeight > 0f;
+        float radius = groupRules ? NeighbourRadius : SeparationThreshold;
+        flock.rebuild(entities, staticCount, store, radius);
 
-        for (int k = 0; k < entities.size; k++) {
-            if (currentIndex == k) {
-                continue; // On ne se teste pas soi-même
+        for (int i = staticCount; i < entities.size; i++) {
+            flockingX[i] = 0f;
+            Entity entity = entities.get(i);
+            float entityDelta = getStepDelta(i, deltaTime);
+            if (!entity.getIsEnemy() || entity.getIsSleeping() || entityDelta == 0) {
+                continue; // Un ennemi endormi (ou qui attend son tour) ne bouge pas ce tick (ses voisins le réveillent s'ils bougent)
             }
-            Entity other = entities.get(k);
-
-            // On ne se sépare que des autres ennemis
-            if (other.getIsEnemy()) {
-                float diffX = currentFoe.getX() - other.getX();
-                float dist = Math.abs(diffX);
-                float threshold = 16f / GameScreen.getPixelsPerBlocks(); // Distance min (1 bloc)
-
-                // Si trop proche
-                if (dist < threshold) {
-                    currentFoe.setTouchingAlly(true);
-
-                    // On demande à l'IA si elle accepte la répulsion (ex: Oui en Chasse, Non en Patrouille)
-                    if (currentFoe.shouldUseRepulsion()) {
-                        float pushStrength = 10f / GameScreen.getPixelsPerBlocks();
-                        float pushAmount = pushStrength * deltaTime;
-
-                        // Si superposition parfaite (dist ~ 0), on pousse arbitrairement selon l'index
-                        if (dist < 0.01f) {
-                            pushAdjustmentX += (currentIndex > k ? pushAmount : -pushAmount);
-                        } else {
-                            // Sinon on pousse dans la direction opposée à l'autre
-                            pushAdjustmentX += (diffX > 0 ? pushAmount : -pushAmount);
+            float pushAmount = SeparationPushStrength * entityDelta;
+            Foe currentFoe = (Foe) entity;
+            boolean repulsion = currentFoe.shouldUseRepulsion();
+            float x = (store != null) ? store.x[i] : currentFoe.getX();
+            float velocityX = (store != null) ? store.velocityX[i] : currentFoe.getVelocity().x;
+
+            float pushAdjustmentX = 0f;
+            float neighbourSumX = 0f;
+            float neighbourSumVelocityX = 0f;
+            int neighbourCount = 0;
+
+            // Colonne de l'ennemi et ses deux voisines
+            int cell = flock.getCell(x);
+            for (int column = cell - 1; column <= cell + 1; column++) {
+                int bucket = flock.getBucket(column);
+                for (int member = flock.getBucketStart(bucket); member < flock.getBucketEnd(bucket); member++) {
+                    int k = flock.getMemberIndex(member);
+                    if (k == i) {
+                        continue; // On ne se teste pas soi-même
+                    }
+                    float diffX = x - flock.getMemberX(member);
+                    float dist = Math.abs(diffX);
+
+                    // 1. Séparation : voisin trop proche
+                    if (dist < SeparationThreshold) {
+                        mainContext.contacts.add(ContactBuffer.AllyTouch, i, k);
+
+                        // Un voisin qui bouge réveille l'ennemi endormi à côté de lui
+                        Entity other = entities.get(k);
+                        if (other.getIsSleeping() && velocityX != 0) {
+                            other.wakeUp();
+                        }
+
+                        // On demande à l'IA si elle accepte la répulsion (ex: Oui en Chasse, Non en Patrouille)
+                        if (repulsion) {
+                            // Si superposition parfaite (dist ~ 0), on pousse arbitrairement selon l'index
+                            if (dist < 0.01f) {
+                                pushAdjustmentX += (i > k ? pushAmount : -pushAmount);
+                            } else {
+                                // Sinon on pousse dans la direction opposée à l'autre
+                                pushAdjustmentX += (diffX > 0 ? pushAmount : -pushAmount);
+                            }
                         }
                     }
+
+                    // 2. Voisin du groupe (cohésion, alignement)
+                    if (groupRules && dist < NeighbourRadius) {
+                        neighbourSumX += flock.getMemberX(member);
+                        neighbourSumVelocityX += flock.getMemberVelocityX(member);
+                        neighbourCount++;
+                    }
                 }
             }
+
+            // 3. Cohésion et alignement : corrections bornées à FlockingSteerSpeed chacune
+            // (les mêmes stratégies que la séparation : un ennemi en patrouille garde son propre rythme)
+            if (repulsion && neighbourCount > 0) {
+                float steer = FlockingSteerSpeed * entityDelta;
+                float towardCenter = (neighbourSumX / neighbourCount - x) / NeighbourRadius;
+                pushAdjustmentX += cohesionWeight * MathUtils.clamp(towardCenter, -1f, 1f) * steer;
+                float moveSpeed = Math.max(currentFoe.getMoveSpeed(), 0.01f);
+                float towardVelocity = (neighbourSumVelocityX / neighbourCount - velocityX) / moveSpeed;
+                pushAdjustmentX += alignmentWeight * MathUtils.clamp(towardVelocity, -1f, 1f) * steer;
+            }
+            flockingX[i] = pushAdjustmentX;
         }
-        return pushAdjustmentX;
     }
 
     /**
-     * Gère les impacts de projectiles (Flèches, Balles).
-     * Vérifie si le projectile touche un mur ou un ennemi.
+     * @return Le temps dont l'entité d'index {@code i} avance pendant ce tick (le tick complet sans niveau de détail).
      */
-    private void handleProjectileCollision(Projectile projectile, Array<Entity> entities, int currentIndex, float deltaTime) {
-        for (int j = 0; j < entities.size; j++) {
-            if (currentIndex == j) continue;
-            Entity other = entities.get(j);
-
-            // Test de superposition simple (AABB)
-            if (projectile.getbounds().overlaps(other.getbounds())) {
-                // Cas 1 : Mur -> Le projectile se plante et disparaît
-                if (other.getClass().equals(Wall.class)) {
-                    projectile.setCanBeRemove(true);
-                    break;
-                }
-                // Cas 2 : Ennemi -> Dégâts + Disparition
-                if (other.getIsEnemy()) {
-                    ((Foe) other).takeDamage(projectile.getDamage());
-                    projectile.setCanBeRemove(true);
-                    break;
-                }
-                // Note : On ignore le joueur (Friendly Fire désactivé)
-            }
-        }
+    private float getStepDelta(int i, float deltaTime) {
+        return (lod != null) ? lod.getStepDelta(i) : deltaTime;
     }
 
     /**
      * Vérifie les collisions sur l'axe horizontal (X).
-     * Gère aussi les dégâts au contact (corps à corps).
+     * Les dégâts au contact (corps à corps) ne sont plus appliqués ici : voir {@link #collectMeleeContacts} et le {@link ContactDispatcher}.
      *
      * @return Le déplacement X corrigé (0 si bloqué par un mur).
      */
-    private float checkCollisionsX(Entity entity, Array<Entity> entities, int selfIndex, float potentialDeltaX) {
+    private float checkCollisionsX(StepContext context, Entity entity, Array<Entity> entities, int selfIndex, float potentialDeltaX) {
         Rectangle entityBounds = entity.getbounds();
+        Rectangle futureBounds = context.futureBounds;
+        IntArray candidates = context.candidates;
+
+        // Broadphase : zone balayée par le mouvement X (position actuelle + déplacement prévu).
+        // Toutes les couches rencontrées (pour réveiller les dormeurs touchés), mais seules certaines bloquent.
+        int blockingMask = entity.getCollisionMask() & CollisionLayers.getBlockingLayers();
+        gatherCandidates(context, entities, Math.min(entityBounds.x, entityBounds.x + potentialDeltaX), entityBounds.y,
+            entityBounds.width + Math.abs(potentialDeltaX), entityBounds.height, entity.getCollisionMask());
 
-        for (int j = 0; j < entities.size; j++) {
+        // Les tuiles d'abord (grille de collision du niveau)
+        if (potentialDeltaX != 0) {
+            futureBounds.set(entityBounds.x + potentialDeltaX, entityBounds.y, entityBounds.width, entityBounds.height);
+            if (findSolidTile(futureBounds, context.tileBounds)) {
+                potentialDeltaX = blockX(entity, potentialDeltaX, context.tileBounds);
+            }
+        }
+
+        boolean movingX = potentialDeltaX != 0;
+
+        for (int c = 0; c < candidates.size; c++) {
+            int j = candidates.get(c);
             if (selfIndex == j) {
                 continue;
             }
             Entity other = entities.get(j);
             Rectangle otherBounds = other.getbounds();
 
-            // Vérification : Est-ce qu'on se touche ? (Hitbox vs Hitbox)
-            // Cette méthode gère les dégâts si "entity" et "other" sont Joueur/Ennemi
-            handleDamageOverlap(entity, other);
+            // Contact avec une entité endormie pendant qu'on se déplace : on la réveille
+            if (movingX && other.getIsSleeping() && entityBounds.overlaps(otherBounds)) {
+                other.wakeUp();
+            }
 
-            // Si l'autre objet n'est pas solide (ex: un bonus, ou un autre ennemi traversable), on continue
-            if (!other.getCollision()) {
+            // Si l'autre objet ne bloque pas cette entité (ex: un autre ennemi traversable), on continue
+            if ((other.getCollisionLayer() & blockingMask) == 0) {
                 continue;
             }
 
             // Prédiction : Où sera ma hitbox si j'applique le mouvement X ?
-            Rectangle futureBoundsX = new Rectangle(entityBounds.x + potentialDeltaX, entityBounds.y, entityBounds.width, entityBounds.height);
+            Rectangle futureBoundsX = futureBounds.set(entityBounds.x + potentialDeltaX, entityBounds.y, entityBounds.width, entityBounds.height);
 
             // Si collision prédite
             if (potentialDeltaX != 0 && futureBoundsX.overlaps(otherBounds)) {
-                boolean wallIsOnLeft = false;
-
-                // Correction de position : On se colle parfaitement contre le mur
-                if (potentialDeltaX > 0) {
-                    // On allait à droite -> On se colle au bord gauche du mur
-                    entity.setPosXY(otherBounds.x - entityBounds.width, entityBounds.y);
-                    wallIsOnLeft = false;
-                } else if (potentialDeltaX < 0) {
-                    // On allait à gauche -> On se colle au bord droit du mur
-                    entity.setPosXY(otherBounds.x + otherBounds.width, entityBounds.y);
-                    wallIsOnLeft = true;
-                }
-
-                // Notification à l'Agent (pour le Wall Jump)
-                if (entity instanceof Agent) {
-                    ((Agent) entity).setIsTouchingWall(true, wallIsOnLeft);
-                }
-                // On stoppe net
-                entity.getVelocity().x = 0;
-                potentialDeltaX = 0;
+                potentialDeltaX = blockX(entity, potentialDeltaX, otherBounds);
             }
         }
         return potentialDeltaX;
     }
 
+    /**
+     * Colle l'entité contre un obstacle rencontré sur l'axe X et stoppe son mouvement horizontal.
+     *
+     * @param otherBounds La hitbox de l'obstacle (Mur ou tuile).
+     * @return Le nouveau déplacement X (toujours 0).
+     */
+    private float blockX(Entity entity, float potentialDeltaX, Rectangle otherBounds) {
+        Rectangle entityBounds = entity.getbounds();
+        boolean wallIsOnLeft = false;
+
+        // Correction de position : On se colle parfaitement contre le mur
+        if (potentialDeltaX > 0) {
+            // On allait à droite -> On se colle au bord gauche du mur
+            entity.setPosXY(otherBounds.x - entityBounds.width, entityBounds.y);
+            wallIsOnLeft = false;
+        } else if (potentialDeltaX < 0) {
+            // On allait à gauche -> On se colle au bord droit du mur
+            entity.setPosXY(otherBounds.x + otherBounds.width, entityBounds.y);
+            wallIsOnLeft = true;
+        }
+
+        // Notification à l'Agent (pour le Wall Jump)
+        if (entity instanceof Agent) {
+            ((Agent) entity).setIsTouchingWall(true, wallIsOnLeft);
+        }
+        // On stoppe net
+        entity.setVelocityX(0);
+        return 0;
+    }
+
     /**
      * Vérifie les collisions sur l'axe vertical (Y).
      * Gère le sol (Grounded) et le plafond.
      *
      * @return Le déplacement Y corrigé.
      */
-    private float checkCollisionsY(Entity entity, Array<Entity> entities, int selfIndex, float potentialDeltaY) {
+    private float checkCollisionsY(StepContext context, Entity entity, Array<Entity> entities, int selfIndex, float potentialDeltaY) {
         Rectangle entityBounds = entity.getbounds();
+        Rectangle futureBounds = context.futureBounds;
+        IntArray candidates = context.candidates;
         float currentX = entity.getX(); // On utilise le X actuel (déjà validé ou corrigé par checkCollisionsX)
 
-        for (int j = 0; j < entities.size; j++) {
-            if (selfIndex == j) continue;
-            Entity other = entities.get(j);
-            Rectangle otherBounds = other.getbounds();
+        // Broadphase : zone balayée par le mouvement Y (seuls les obstacles qui bloquent cette entité)
+        gatherCandidates(context, entities, currentX, Math.min(entityBounds.y, entityBounds.y + potentialDeltaY),
+            entityBounds.width, entityBounds.height + Math.abs(potentialDeltaY),
+            entity.getCollisionMask() & CollisionLayers.getBlockingLayers());
 
-            if (!other.getCollision()) {
-                continue;
+        // Les tuiles d'abord (grille de collision du niveau)
+        if (potentialDeltaY != 0) {
+            futureBounds.set(currentX, entityBounds.y + potentialDeltaY, entityBounds.width, entityBounds.height);
+            if (findSolidTile(futureBounds, context.tileBounds)) {
+                potentialDeltaY = blockY(entity, currentX, potentialDeltaY, context.tileBounds);
             }
+        }
+
+        for (int c = 0; c < candidates.size; c++) {
+            int j = candidates.get(c);
+            if (selfIndex == j) continue;
+            Rectangle otherBounds = entities.get(j).getbounds();
 
             // Prédiction Y
-            Rectangle futureBoundsY = new Rectangle(currentX, entityBounds.y + potentialDeltaY, entityBounds.width, entityBounds.height);
+            Rectangle futureBoundsY = futureBounds.set(currentX, entityBounds.y + potentialDeltaY, entityBounds.width, entityBounds.height);
 
             if (potentialDeltaY != 0 && futureBoundsY.overlaps(otherBounds)) {
-                if (potentialDeltaY < 0) {
-                    // On descendait -> On touche le SOL
-                    entity.setPosXY(currentX, otherBounds.y + otherBounds.height);
-
-                    if (entity.getIsAgent()) {
-                        ((Agent) entity).setGrounded(true); // Flag important pour le saut !
-                    }
-                    // On annule la vitesse de chute (sinon la gravité continue d'accumuler de la vitesse infinie)
-                    if (entity.getVelocity().y < 0) {
-                        entity.setVelocityY(0);
-                    }
-
-                } else if (potentialDeltaY > 0) {
-                    // On montait -> On se cogne la tête (PLAFOND)
-                    entity.setPosXY(currentX, otherBounds.y - entityBounds.height);
-                    entity.setVelocityY(0); // Le saut est stoppé net
-                }
-                potentialDeltaY = 0; // Mouvement validé = 0
+                potentialDeltaY = blockY(entity, currentX, potentialDeltaY, otherBounds);
             }
         }
         return potentialDeltaY;
     }
 
     /**
-     * Vérifie si deux entités se touchent et applique les dégâts si nécessaire.
-     * (Joueur touche Ennemi ou Ennemi touche Joueur).
+     * Pose l'entité sur un sol (ou la colle sous un plafond) rencontré sur l'axe Y.
+     *
+     * @param otherBounds La hitbox de l'obstacle (Mur ou tuile).
+     * @return Le nouveau déplacement Y (toujours 0).
      */
-    private void handleDamageOverlap(Entity entity, Entity other) {
-        // overlaps() vérifie si les rectangles s'intersectent
-        if (entity.getbounds().overlaps(other.getbounds())) {
+    private float blockY(Entity entity, float currentX, float potentialDeltaY, Rectangle otherBounds) {
+        if (potentialDeltaY < 0) {
+            // On descendait -> On touche le SOL
+            entity.setPosXY(currentX, otherBounds.y + otherBounds.height);
 
-            // Cas A : Ennemi fonce sur Joueur
-            if (entity.getIsEnemy() && other.getIsPlayer()) {
-                ((Player) other).takeDamage(((Foe) entity).getDamage());
+            if (entity.getIsAgent()) {
+                ((Agent) entity).setGrounded(true); // Flag important pour le saut !
             }
-            // Cas B : Joueur fonce sur Ennemi (le joueur prend des dégâts aussi par contact)
-            else if (entity.getIsPlayer() && other.getIsEnemy()) {
-                ((Player) entity).takeDamage(((Foe) other).getDamage());
+            // On annule la vitesse de chute (sinon la gravité continue d'accumuler de la vitesse infinie)
+            if (entity.getVelocity().y < 0) {
+                entity.setVelocityY(0);
+            }
+
+        } else if (potentialDeltaY > 0) {
+            // On montait -> On se cogne la tête (PLAFOND)
+            entity.setPosXY(currentX, otherBounds.y - entity.getbounds().height);
+            entity.setVelocityY(0); // Le saut est stoppé net
+        }
+        return 0; // Mouvement validé = 0
+    }
+
+    /**
+     * Cherche une tuile solide qui chevauche la zone donnée.
+     * <p>
+     * Les cases sont visitées colonne par colonne puis de bas en haut, dans le même ordre que
+     * la création des anciens murs de tuiles. La première case trouvée est copiée dans {@code tileBounds}.
+     * </p>
+     *
+     * @param area       La zone à tester (hitbox actuelle ou prédite).
+     * @param tileBounds Rectangle (du thread appelant) qui reçoit la case trouvée.
+     * @return {@code true} si une tuile solide chevauche la zone.
+     */
+    private boolean findSolidTile(Rectangle area, Rectangle tileBounds) {
+        if (tiles == null) {
+            return false;
+        }
+        int fromX = (int) Math.floor(area.x);
+        int toX = (int) Math.floor(area.x + area.width);
+        int fromY = (int) Math.floor(area.y);
+        int toY = (int) Math.floor(area.y + area.height);
+
+        for (int cx = fromX; cx <= toX; cx++) {
+            for (int cy = fromY; cy <= toY; cy++) {
+                if (tiles.isSolid(cx, cy)) {
+                    tileBounds.set(cx, cy, 1f, 1f);
+                    // Même test strict que Rectangle.overlaps() : un simple contact de bord ne compte pas
+                    if (area.overlaps(tileBounds)) {
+                        return true;
+                    }
+                }
             }
         }
+        return false;
     }
+
 }
@@ -0,0 +1,173 @@
+package com.EthanKnittel.world.systems;
+
+import com.EthanKnittel.ai.ChaseStrategy;
+import com.EthanKnittel.entities.Entity;
+import com.EthanKnittel.entities.agents.Foe;
+import com.EthanKnittel.entities.agents.Player;
+import com.EthanKnittel.entities.agents.foes.Cactus;
+import com.EthanKnittel.entities.artifacts.Wall;
+import com.EthanKnittel.world.Level;
+import com.EthanKnittel.world.TileCollisionMap;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Banc d'essai de la physique parallèle (hors jeu, lancé via {@link #main(String[])}).
+ * <p>
+ * Construit un monde synthétique (sol et piliers en tuiles, quelques murs, un joueur, des milliers d'ennemis
+ * regroupés autour de points d'apparition), puis le simule avec 1, 2, 4 et 8 threads. Pour chaque nombre de threads, on affiche :
+ * <ul>
+ * <li>le temps moyen d'un tick de physique et le gain par rapport à 1 thread ;</li>
+ * <li>le nombre de groupes indépendants et la taille de la bande la plus chargée (elle fixe le gain maximal) ;</li>
+ * <li>si l'état final (positions et vitesses) est identique, au bit près, à celui du mode séquentiel.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Seule la physique est mesurée : l'IA est remplacée par des ordres de déplacement tirés au sort
+ * (générateur à graine fixe, consommé sur le thread principal), identiques d'une exécution à l'autre.
+ * </p>
+ */
+public class PhysicsBenchmark {
+
+    private static final int[] ThreadCounts = {1, 2, 4, 8};
+    private static final int EnemyCount = 4000;
+    private static final int SpawnCount = 80;
+    private static final int WorldWidth = 8192;
+    private static final int WorldHeight = 64;
+    private static final int WarmupTicks = 300;
+    private static final int MeasuredTicks = 600;
+    private static final long Seed = 42L;
+    private static final float TickDuration = 1f / 60f;
+
+    public static void main(String[] args) {
+        int[] reference = null;
+        double referenceTime = 0;
+
+        for (int threads : ThreadCounts) {
+            BenchmarkWorld world = new BenchmarkWorld(threads);
+
+            // Chauffe (compilation JIT), puis mesure
+            world.run(WarmupTicks);
+            long start = System.nanoTime();
+            world.run(MeasuredTicks);
+            double msPerTick = (System.nanoTime() - start) / 1e6 / MeasuredTicks;
+
+            int[] state = world.snapshot();
+            if (reference == null) {
+                reference = state;
+                referenceTime = msPerTick;
+            }
+            int dynamicCount = world.entities.size - world.staticCount;
+            System.out.printf("%d thread(s) : %.3f ms/tick, gain x%.2f, %d groupes, plus grande bande %d/%d, identique au séquentiel : %s%n",
+                threads, msPerTick, referenceTime / msPerTick, world.physics.getLastGroupCount(),
+                world.physics.getLastLargestStripCount(), dynamicCount,
+                Arrays.equals(reference, state) ? "oui" : "NON");
+            world.physics.dispose();
+        }
+    }
+
+    /**
+     * Un monde de test complet (niveau, entités, grille, physique).
+     */
+    private static class BenchmarkWorld {
+        private final Array<Entity> entities = new Array<>();
+        private final SpatialGrid grid = new SpatialGrid(2f);
+        private final StaticTree staticTree = new StaticTree();
+        private final PhysicSystem physics;
+        private final Random random = new Random(Seed);
+        private int staticCount = 0;
+
+        BenchmarkWorld(int threads) {
+            // 1. Tuiles : un sol de 2 cases et un pilier tous les 64 blocs
+            final TileCollisionMap tiles = new TileCollisionMap(WorldWidth, WorldHeight);
+            for (int cx = 0; cx < WorldWidth; cx++) {
+                tiles.setSolid(cx, 0);
+                tiles.setSolid(cx, 1);
+                if (cx % 64 == 32) {
+                    for (int cy = 2; cy < 6; cy++) {
+                        tiles.setSolid(cx, cy);
+                    }
+                }
+            }
+            Level level = new Level() {
+                @Override
+                public Array<Entity> load() {
+                    return new Array<>();
+                }
+
+                @Override
+                public TileCollisionMap getTileCollisionMap() {
+                    return tiles;
+                }
+
+                @Override
+                public void dispose() {
+                    // Rien à libérer
+                }
+            };
+            physics = new PhysicSystem(level);
+            physics.setParallelism(threads);
+
+            // 2. Deux murs de bordure (personne ne tombe hors du monde) et quelques murs d'objets, au début de la liste
+            entities.add(new Wall(-1f, 0f, 1f, WorldHeight, false));
+            entities.add(new Wall(WorldWidth, 0f, 1f, WorldHeight, false));
+            staticCount += 2;
+            for (int x = 100; x < WorldWidth; x += 200) {
+                entities.add(new Wall(x, 2f, 1f, 3f, false));
+                staticCount++;
+            }
+            // Comme dans l'Environment : les murs vont dans l'arbre, la grille ne garde que les entités dynamiques
+            staticTree.build(entities, staticCount);
+            grid.setStaticTree(staticTree);
+
+            // 3. Le joueur au milieu, puis les ennemis autour des points d'apparition (un sur 64 en chasse)
+            Player player = new Player(WorldWidth / 2f, 2f, 2f, 2f, 100, 20, 2, null, null);
+            entities.add(player);
+            float spawnSpacing = (float) WorldWidth / SpawnCount;
+            for (int k = 0; k < EnemyCount; k++) {
+                float x = spawnSpacing * (k % SpawnCount + 0.5f) + (random.nextFloat() - 0.5f) * 12f;
+                float y = 2f + random.nextFloat() * 10f;
+                Foe foe = new Cactus(x, y, player, null);
+                if (k % 64 == 0) {
+                    foe.setStrategy(new ChaseStrategy());
+                }
+                entities.add(foe);
+            }
+        }
+
+        /** Simule {@code ticks} ticks : ordres de déplacement, reconstruction de la grille, physique. */
+        void run(int ticks) {
+            for (int t = 0; t < ticks; t++) {
+                for (int i = staticCount; i < entities.size; i++) {
+                    Entity entity = entities.get(i);
+                    if (!(entity instanceof Foe) || random.nextInt(60) != 0) {
+                        continue;
+                    }
+                    Foe foe = (Foe) entity;
+                    foe.setVelocityX((random.nextInt(3) - 1) * foe.getMoveSpeed());
+                    if (foe.getGrounded() && random.nextInt(4) == 0) {
+                        foe.setVelocityY(foe.getJumpSpeed());
+                    }
+                }
+                grid.rebuild(entities);
+                physics.update(TickDuration, entities, staticCount, grid, null, null);
+            }
+        }
+
+        /** Positions et vitesses de toutes les entités dynamiques, en bits (comparaison exacte). */
+        int[] snapshot() {
+            int dynamicCount = entities.size - staticCount;
+            int[] state = new int[dynamicCount * 4];
+            for (int k = 0; k < dynamicCount; k++) {
+                Entity entity = entities.get(staticCount + k);
+                state[k * 4] = Float.floatToIntBits(entity.getX());
+                state[k * 4 + 1] = Float.floatToIntBits(entity.getY());
+                state[k * 4 + 2] = Float.floatToIntBits(entity.getVelocity().x);
+                state[k * 4 + 3] = Float.floatToIntBits(entity.getVelocity().y);
+            }
+            return state;
+        }
+    }
+}
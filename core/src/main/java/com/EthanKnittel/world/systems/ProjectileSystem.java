@@ -0,0 +1,362 @@
+package com.EthanKnittel.world.systems;
+
+import com.EthanKnittel.entities.CollisionLayers;
+import com.EthanKnittel.entities.Entity;
+import com.EthanKnittel.entities.agents.Foe;
+import com.EthanKnittel.entities.artifacts.ProjectileType;
+import com.EthanKnittel.world.TileCollisionMap;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Système dédié aux projectiles (Flèches, Balles, Magie).
+ * <p>
+ * Les projectiles ne sont pas des {@link Entity} : un tir rapide en crée des dizaines par seconde, et chaque entité
+ * coûtait plusieurs objets (vecteurs, hitbox, vue graphique avec son propre atlas). Ici, chaque projectile
+ * est une case de tableaux plats de {@code float} (position, vitesse, durée de vie...). Les cases sont gardées
+ * contiguës : un projectile supprimé est remplacé par le dernier, et sa case est réutilisée par le tir suivant.
+ * Une fois le pool assez grand, tirer n'alloue plus rien.
+ * </p>
+ * <p>
+ * À chaque tick, après la physique des entités (voir {@link Environment#update(float)}), chaque projectile :
+ * <ol>
+ * <li>avance en ligne droite ;</li>
+ * <li>teste toute la trajectoire du tick (détection continue) contre les tuiles, les murs et les ennemis ;</li>
+ * <li>s'arrête au premier impact. Un ennemi touché prend les dégâts via le {@link ContactDispatcher}.</li>
+ * </ol>
+ * Un projectile arrivé en fin de vie (impact ou durée écoulée) est encore affiché pendant ce tick,
+ * puis sa case est libérée au début du tick suivant.
+ * </p>
+ */
+public class ProjectileSystem {
+
+    /** Nombre de cases réservées au départ (doublé à chaque fois que le pool est plein). */
+    private static final int InitialCapacity = 64;
+
+    // --- TABLEAUX PLATS (indexés par case, cases [0, count) utilisées) ---
+    private float[] x = new float[InitialCapacity];
+    private float[] y = new float[InitialCapacity];
+    /** Position au début du dernier déplacement (détection continue et interpolation du rendu). */
+    private float[] previousX = new float[InitialCapacity];
+    private float[] previousY = new float[InitialCapacity];
+    private float[] velocityX = new float[InitialCapacity];
+    private float[] velocityY = new float[InitialCapacity];
+    /** Rotation en degrés du sprite (0 = droite, 90 = haut), fixée au tir. */
+    private float[] rotation = new float[InitialCapacity];
+    /** Temps restant (en secondes) avant disparition. 0 = en fin de vie (libéré au prochain tick). */
+    private float[] lifeTime = new float[InitialCapacity];
+    /** Temps écoulé depuis le tir (sert à l'animation). */
+    private float[] age = new float[InitialCapacity];
+    private int[] typeId = new int[InitialCapacity];
+
+    /** Nombre de projectiles actifs. */
+    private int count = 0;
+
+    /** Le type de chaque identifiant (dimensions et dégâts lus pendant le test d'impact). */
+    private final ProjectileType[] types = new ProjectileType[ProjectileType.TypeCount];
+
+    // --- MÉMOIRE DE TRAVAIL DU TEST D'IMPACT ---
+    private final IntArray candidates = new IntArray();
+    private final Rectangle tileBounds = new Rectangle();
+
+    /**
+     * Tire un projectile depuis un point vers une cible.
+     *
+     * @param type    Le type de projectile.
+     * @param centerX Position X de départ (centre du projectile, généralement le centre du tireur).
+     * @param centerY Position Y de départ.
+     * @param targetX Position X visée (ex: la souris dans le monde).
+     * @param targetY Position Y visée.
+     */
+    public void spawn(ProjectileType type, float centerX, float centerY, float targetX, float targetY) {
+        if (count == x.length) {
+            grow(count * 2);
+        }
+        int slot = count++;
+        types[type.getId()] = type;
+
+        // On décale la position de départ pour que le CENTRE du projectile apparaisse au point de départ
+        float startX = centerX - type.getWidth() / 2f;
+        float startY = centerY - type.getHeight() / 2f;
+        x[slot] = startX;
+        y[slot] = startY;
+        previousX[slot] = startX;
+        previousY[slot] = startY;
+
+        // Direction = (Arrivée - Départ), ramenée à une longueur de 1 puis multipliée par la vitesse
+        float directionX = targetX - centerX;
+        float directionY = targetY - centerY;
+        float length = (float) Math.sqrt(directionX * directionX + directionY * directionY);
+        if (length != 0) {
+            directionX /= length;
+            directionY /= length;
+        }
+        velocityX[slot] = directionX * type.getSpeed();
+        velocityY[slot] = directionY * type.getSpeed();
+
+        // Orientation du sprite (même convention que Vector2.angleDeg : entre 0 et 360)
+        float angle = 0f;
+        if (velocityX[slot] != 0 || velocityY[slot] != 0) {
+            angle = (float) Math.toDegrees(Math.atan2(velocityY[slot], velocityX[slot]));
+            if (angle < 0) {
+                angle += 360f;
+            }
+        }
+        rotation[slot] = angle;
+        lifeTime[slot] = type.getLifeTime();
+        age[slot] = 0f;
+        typeId[slot] = type.getId();
+    }
+
+    /**
+     * Avance tous les projectiles d'un tick et résout leurs impacts.
+     *
+     * @param deltaTime  Durée du tick.
+     * @param entities   Liste des entités du monde (murs et ennemis à toucher).
+     * @param broadphase Grille spatiale à jour (positions de fin de tick), ou {@code null} pour tester toutes les entités.
+     * @param tiles      Grille de tuiles du niveau, ou {@code null}.
+     * @param dispatcher Applique les dégâts des impacts sur les ennemis.
+     */
+    public void update(float deltaTime, Array<Entity> entities, SpatialGrid broadphase, TileCollisionMap tiles, ContactDispatcher dispatcher) {
+        // ÉTAPE 1 : Libération des projectiles arrivés en fin de vie au tick précédent
+        for (int i = count - 1; i >= 0; i--) {
+            if (lifeTime[i] <= 0) {
+                removeSlot(i);
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            // ÉTAPE 2 : Déplacement en ligne droite (on retient le point de départ pour la détection continue)
+            previousX[i] = x[i];
+            previousY[i] = y[i];
+            x[i] += velocityX[i] * deltaTime;
+            y[i] += velocityY[i] * deltaTime;
+            age[i] += deltaTime;
+            lifeTime[i] -= deltaTime;
+
+            // ÉTAPE 3 : Impact sur la trajectoire
+            resolveImpact(i, entities, broadphase, tiles, dispatcher);
+        }
+    }
+
+    /**
+     * Cherche le premier obstacle (tuile, mur ou ennemi) sur la trajectoire du tick d'un projectile.
+     * <p>
+     * <b>Détection continue (Swept AABB) :</b> un projectile rapide peut parcourir plus d'une tuile en un tick.
+     * Tester seulement sa position finale le ferait "traverser" les murs fins (Tunneling).
+     * On teste donc toute la trajectoire, et on retient le <b>premier</b> obstacle rencontré.
+     * </p>
+     */
+    private void resolveImpact(int i, Array<Entity> entities, SpatialGrid broadphase, TileCollisionMap tiles, ContactDispatcher dispatcher) {
+        ProjectileType type = types[typeId[i]];
+        float width = type.getWidth();
+        float height = type.getHeight();
+        float startX = previousX[i];
+        float startY = previousY[i];
+        float moveX = x[i] - startX;
+        float moveY = y[i] - startY;
+
+        // Zone balayée (rectangle englobant la hitbox au départ et à l'arrivée)
+        float sweptX = Math.min(startX, x[i]);
+        float sweptY = Math.min(startY, y[i]);
+        float sweptWidth = width + Math.abs(moveX);
+        float sweptHeight = height + Math.abs(moveY);
+
+        // Meilleur impact trouvé (t = fraction du trajet, entre 0 et 1)
+        float firstHitTime = Float.MAX_VALUE;
+        Entity firstHit = null; // null + firstHitTime valide = tuile
+
+        // Cas 1 : Tuiles solides (testées en premier)
+        if (tiles != null) {
+            int fromX = (int) Math.floor(sweptX);
+            int toX = (int) Math.floor(sweptX + sweptWidth);
+            int fromY = (int) Math.floor(sweptY);
+            int toY = (int) Math.floor(sweptY + sweptHeight);
+            for (int cx = fromX; cx <= toX; cx++) {
+                for (int cy = fromY; cy <= toY; cy++) {
+                    if (tiles.isSolid(cx, cy)) {
+                        tileBounds.set(cx, cy, 1f, 1f);
+                        float t = sweepTime(startX, startY, width, height, moveX, moveY, tileBounds);
+                        if (t >= 0 && t < firstHitTime) {
+                            firstHitTime = t;
+                        }
+                    }
+                }
+            }
+        }
+
+        // Cas 2 : Murs (Entités) et Ennemis
+        // Seules les couches rencontrées par les projectiles sont renvoyées (murs et ennemis : pas de tir ami)
+        int mask = CollisionLayers.getMask(CollisionLayers.Projectile);
+        if (broadphase != null) {
+            broadphase.query(sweptX, sweptY, sweptWidth, sweptHeight, candidates, mask);
+        } else {
+            candidates.clear();
+            for (int k = 0; k < entities.size; k++) {
+                if ((entities.get(k).getCollisionLayer() & mask) != 0) {
+                    candidates.add(k);
+                }
+            }
+        }
+        for (int c = 0; c < candidates.size; c++) {
+            Entity other = entities.get(candidates.get(c));
+            float t = sweepTime(startX, startY, width, height, moveX, moveY, other.getbounds());
+            // Égalité : le premier dans l'ordre (tuile, puis index croissant) garde la priorité
+            if (t >= 0 && t < firstHitTime) {
+                firstHitTime = t;
+                firstHit = other;
+            }
+        }
+
+        if (firstHitTime == Float.MAX_VALUE) {
+            return; // Trajet dégagé
+        }
+
+        // Impact : on ramène le projectile au point de contact (il y est affiché une dernière fois)
+        x[i] = startX + moveX * firstHitTime;
+        y[i] = startY + moveY * firstHitTime;
+        lifeTime[i] = 0f;
+
+        // Ennemi -> Dégâts. Mur ou tuile -> Le projectile se plante. Dans les deux cas il disparaît.
+        if (firstHit != null && (firstHit.getCollisionLayer() & CollisionLayers.Foe) != 0) {
+            dispatcher.applyProjectileHit((Foe) firstHit, type.getDamage());
+        }
+    }
+
+    /**
+     * Calcule l'instant du premier contact entre une boîte en mouvement et une boîte fixe (Swept AABB).
+     * <p>
+     * Méthode des "dalles" (Slab Method) : on agrandit la cible de la taille de la boîte mobile,
+     * ce qui revient à lancer un rayon depuis le coin de la boîte. Sur chaque axe, on calcule
+     * quand le rayon entre et sort de la dalle, puis on garde l'intersection des deux intervalles.
+     * </p>
+     * <p>
+     * Comme {@link Rectangle#overlaps(Rectangle)}, un simple contact de bord ne compte pas comme un impact.
+     * </p>
+     *
+     * @param startX Coin inférieur gauche de la boîte au départ (X).
+     * @param startY Coin inférieur gauche de la boîte au départ (Y).
+     * @param width  Largeur de la boîte mobile.
+     * @param height Hauteur de la boîte mobile.
+     * @param moveX  Déplacement total sur X.
+     * @param moveY  Déplacement total sur Y.
+     * @param target La boîte fixe.
+     * @return La fraction du trajet (entre 0 et 1) au moment du contact, ou -1 s'il n'y a pas de contact.
+     */
+    private static float sweepTime(float startX, float startY, float width, float height, float moveX, float moveY, Rectangle target) {
+        float enter = 0f;
+        float exit = 1f;
+
+        // Axe X
+        float minX = target.x - width;
+        float maxX = target.x + target.width;
+        if (moveX == 0) {
+            if (startX <= minX || startX >= maxX) {
+                return -1f; // Jamais aligné sur cet axe
+            }
+        } else {
+            float t1 = (minX - startX) / moveX;
+            float t2 = (maxX - startX) / moveX;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+
+        // Axe Y
+        float minY = target.y - height;
+        float maxY = target.y + target.height;
+        if (moveY == 0) {
+            if (startY <= minY || startY >= maxY) {
+                return -1f;
+            }
+        } else {
+            float t1 = (minY - startY) / moveY;
+            float t2 = (maxY - startY) / moveY;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+
+        return (enter < exit) ? enter : -1f;
+    }
+
+    /**
+     * Libère une case : le dernier projectile prend sa place (les cases restent contiguës).
+     */
+    private void removeSlot(int slot) {
+        int last = --count;
+        if (slot == last) {
+            return;
+        }
+        x[slot] = x[last];
+        y[slot] = y[last];
+        previousX[slot] = previousX[last];
+        previousY[slot] = previousY[last];
+        velocityX[slot] = velocityX[last];
+        velocityY[slot] = velocityY[last];
+        rotation[slot] = rotation[last];
+        lifeTime[slot] = lifeTime[last];
+        age[slot] = age[last];
+        typeId[slot] = typeId[last];
+    }
+
+    private void grow(int capacity) {
+        x = java.util.Arrays.copyOf(x, capacity);
+        y = java.util.Arrays.copyOf(y, capacity);
+        previousX = java.util.Arrays.copyOf(previousX, capacity);
+        previousY = java.util.Arrays.copyOf(previousY, capacity);
+        velocityX = java.util.Arrays.copyOf(velocityX, capacity);
+        velocityY = java.util.Arrays.copyOf(velocityY, capacity);
+        rotation = java.util.Arrays.copyOf(rotation, capacity);
+        lifeTime = java.util.Arrays.copyOf(lifeTime, capacity);
+        age = java.util.Arrays.copyOf(age, capacity);
+        typeId = java.util.Arrays.copyOf(typeId, capacity);
+    }
+
+    /**
+     * Supprime tous les projectiles (changement de niveau). Le pool garde sa taille pour les tirs suivants.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    // --- ACCÈS PAR CASE (utilisés par le rendu) ---
+
+    public int getCount() {
+        return count;
+    }
+
+    /** @return Le nombre de cases allouées (taille actuelle du pool). */
+    public int getCapacity() {
+        return x.length;
+    }
+
+    /**
+     * Position affichée (X) : mélange entre la position du tick précédent et la position actuelle.
+     * @param alpha Avancement dans le tick suivant (0 = position précédente, 1 = position actuelle).
+     */
+    public float getRenderX(int slot, float alpha) {
+        return previousX[slot] + (x[slot] - previousX[slot]) * alpha;
+    }
+    public float getRenderY(int slot, float alpha) {
+        return previousY[slot] + (y[slot] - previousY[slot]) * alpha;
+    }
+
+    public float getWidth(int slot) {
+        return types[typeId[slot]].getWidth();
+    }
+    public float getHeight(int slot) {
+        return types[typeId[slot]].getHeight();
+    }
+
+    public float getRotation(int slot) {
+        return rotation[slot];
+    }
+
+    public float getAge(int slot) {
+        return age[slot];
+    }
+
+    public int getTypeId(int slot) {
+        return typeId[slot];
+    }
+}
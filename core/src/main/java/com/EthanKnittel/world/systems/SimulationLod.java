@@ -0,0 +1,244 @@
+package com.EthanKnittel.world.systems;
+
+import com.EthanKnittel.entities.Agent;
+import com.EthanKnittel.entities.Entity;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Niveau de détail de la simulation (LOD) : les entités loin de la caméra sont simulées moins souvent.
+ * <p>
+ * Le monde est découpé en anneaux autour de la zone visible (le "foyer", donné par la caméra) :
+ * <ol>
+ * <li><b>{@link #Full}</b> : l'écran et une marge autour ({@link #getFullMargin()}). IA et physique à chaque tick.</li>
+ * <li><b>{@link #Near}</b> : juste hors de l'écran (jusqu'à {@link #getNearDistance()}). IA et physique
+ * une fois tous les {@link #getNearInterval()} ticks, avec tout le temps écoulé depuis la dernière fois.</li>
+ * <li><b>{@link #Dormant}</b> : au-delà. Simulation grossière (une fois tous les {@link #getDormantInterval()} ticks),
+ * ou gelée si l'intervalle vaut 0 (le temps passé gelé est alors perdu).</li>
+ * </ol>
+ * </p>
+ * <p>
+ * Une entité qui change d'anneau garde son temps en retard : en entrant dans un anneau plus fin, elle est mise à jour
+ * au tick suivant avec tout ce temps, et rattrape donc sa position pendant qu'elle est encore dans la marge hors écran.
+ * Les limites ont une petite tolérance ({@link #Hysteresis}) : une entité qui oscille sur une frontière ne change
+ * pas d'anneau à chaque tick.
+ * </p>
+ * <p>
+ * Restent toujours à plein régime : les joueurs, et les agents morts (leur animation de mort doit se terminer
+ * pour qu'ils soient retirés). Sans foyer ({@link #setFocus} jamais appelé), tout le monde est à plein régime.
+ * </p>
+ */
+public class SimulationLod {
+
+    // --- ANNEAUX ---
+    public static final int Full = 0;
+    public static final int Near = 1;
+    public static final int Dormant = 2;
+    public static final int RingCount = 3;
+
+    // --- RÉGLAGES PAR DÉFAUT (en blocs et en ticks) ---
+    public static final float DefaultFullMargin = 4f;
+    public static final float DefaultNearDistance = 24f;
+    public static final int DefaultNearInterval = 3;
+    public static final int DefaultDormantInterval = 30;
+
+    /** Tolérance (en blocs) avant qu'une entité ne passe dans un anneau plus grossier. */
+    public static final float Hysteresis = 1f;
+
+    // --- FOYER (zone visible) ---
+    private boolean hasFocus = false;
+    private float focusX;
+    private float focusY;
+    private float focusHalfWidth;
+    private float focusHalfHeight;
+
+    // --- RÉGLAGES ---
+    private float fullMargin = DefaultFullMargin;
+    private float nearDistance = DefaultNearDistance;
+    private int nearInterval = DefaultNearInterval;
+    private int dormantInterval = DefaultDormantInterval;
+
+    /** Temps à simuler pour chaque entité pendant ce tick (indexé par la position dans la liste, 0 = pas de mise à jour). */
+    private float[] stepDelta = new float[0];
+
+    // --- STATISTIQUES DU DERNIER TICK ---
+    private final int[] population = new int[RingCount];
+    private int lastSimulatedCount = 0;
+
+    /**
+     * Range les entités dynamiques dans leurs anneaux et décide lesquelles sont simulées pendant ce tick.
+     * <p>
+     * Appelée par l'{@link Environment} une fois par tick, après le nettoyage de la liste (les index ne bougent plus).
+     * </p>
+     *
+     * @param entities    La liste des entités du monde.
+     * @param staticCount Nombre d'entités statiques (au début de la liste, jamais simulées).
+     * @param deltaTime   Durée d'un tick.
+     */
+    public void update(Array<Entity> entities, int staticCount, float deltaTime) {
+        if (stepDelta.length < entities.size) {
+            stepDelta = new float[Math.max(entities.size, stepDelta.length * 2)];
+        }
+        java.util.Arrays.fill(population, 0);
+        lastSimulatedCount = 0;
+
+        for (int i = staticCount; i < entities.size; i++) {
+            Entity entity = entities.get(i);
+
+            // 1. Anneau de l'entité
+            int ring = classify(entity);
+            int interval = getInterval(ring);
+            if (ring > entity.getSimulationRing() && interval > 1) {
+                // Passage à un anneau plus grossier : les entités sont décalées selon leur index,
+                // pour que leurs mises à jour se répartissent sur les ticks au lieu de tomber toutes ensemble
+                entity.setTicksSinceUpdate(i % interval);
+            }
+            entity.setSimulationRing(ring);
+            population[ring]++;
+
+            // 2. Temps en retard, rendu d'un coup quand l'intervalle de l'anneau est atteint
+            if (interval == 0) {
+                // Gelée : le temps ne s'accumule pas
+                entity.setPendingDelta(0f);
+                entity.setTicksSinceUpdate(0);
+                stepDelta[i] = 0f;
+                continue;
+            }
+            float pending = entity.getPendingDelta() + deltaTime;
+            int waited = entity.getTicksSinceUpdate() + 1;
+            if (waited >= interval) {
+                stepDelta[i] = pending;
+                entity.setPendingDelta(0f);
+                entity.setTicksSinceUpdate(0);
+                lastSimulatedCount++;
+            } else {
+                stepDelta[i] = 0f;
+                entity.setPendingDelta(pending);
+                entity.setTicksSinceUpdate(waited);
+            }
+        }
+    }
+
+    /**
+     * @return Le temps à simuler pour l'entité d'index {@code index} pendant ce tick (0 = elle attend son tour).
+     */
+    public float getStepDelta(int index) {
+        return stepDelta[index];
+    }
+
+    /**
+     * Choisit l'anneau d'une entité selon la distance entre sa hitbox et la zone visible (tolérance comprise).
+     */
+    private int classify(Entity entity) {
+        if (!hasFocus || entity.getIsPlayer()) {
+            return Full;
+        }
+        if (entity.getIsAgent() && !((Agent) entity).getAlive()) {
+            return Full; // L'agonie doit se terminer pour que l'entité soit retirée
+        }
+
+        // Distance (sur l'axe le plus éloigné) entre la hitbox et la zone visible, 0 si elle la touche
+        Rectangle bounds = entity.getbounds();
+        float gapX = Math.abs(bounds.x + bounds.width / 2f - focusX) - focusHalfWidth - bounds.width / 2f;
+        float gapY = Math.abs(bounds.y + bounds.height / 2f - focusY) - focusHalfHeight - bounds.height / 2f;
+        float distance = Math.max(0f, Math.max(gapX, gapY));
+
+        int current = entity.getSimulationRing();
+        if (distance <= fullMargin || (current == Full && distance <= fullMargin + Hysteresis)) {
+            return Full;
+        }
+        if (distance <= nearDistance || (current <= Near && distance <= nearDistance + Hysteresis)) {
+            return Near;
+        }
+        return Dormant;
+    }
+
+    /** @return Le nombre de ticks entre deux mises à jour dans l'anneau (0 = gelé). */
+    private int getInterval(int ring) {
+        switch (ring) {
+            case Near:
+                return nearInterval;
+            case Dormant:
+                return dormantInterval;
+            default:
+                return 1;
+        }
+    }
+
+    /**
+     * Place le foyer (zone visible), à appeler quand la caméra bouge.
+     *
+     * @param centerX    Centre de la zone visible (X).
+     * @param centerY    Centre de la zone visible (Y).
+     * @param halfWidth  Demi-largeur de la zone visible.
+     * @param halfHeight Demi-hauteur de la zone visible.
+     */
+    public void setFocus(float centerX, float centerY, float halfWidth, float halfHeight) {
+        this.focusX = centerX;
+        this.focusY = centerY;
+        this.focusHalfWidth = halfWidth;
+        this.focusHalfHeight = halfHeight;
+        this.hasFocus = true;
+    }
+
+    /** Oublie le foyer : tout le monde repasse à plein régime. */
+    public void clearFocus() {
+        hasFocus = false;
+    }
+
+    public boolean getHasFocus() {
+        return hasFocus;
+    }
+
+    // --- RÉGLAGES ---
+
+    /**
+     * Règle les limites des anneaux.
+     *
+     * @param fullMargin   Marge (en blocs) autour de l'écran simulée à plein régime.
+     * @param nearDistance Distance (en blocs) jusqu'à laquelle une entité est dans l'anneau proche.
+     */
+    public void setDistances(float fullMargin, float nearDistance) {
+        this.fullMargin = Math.max(0f, fullMargin);
+        this.nearDistance = Math.max(this.fullMargin, nearDistance);
+    }
+
+    /**
+     * Règle la fréquence de simulation hors écran.
+     *
+     * @param nearInterval    Ticks entre deux mises à jour dans l'anneau proche (1 = plein régime).
+     * @param dormantInterval Ticks entre deux mises à jour au-delà (0 = entités gelées).
+     */
+    public void setIntervals(int nearInterval, int dormantInterval) {
+        this.nearInterval = Math.max(1, nearInterval);
+        this.dormantInterval = Math.max(0, dormantInterval);
+    }
+
+    public float getFullMargin() {
+        return fullMargin;
+    }
+
+    public float getNearDistance() {
+        return nearDistance;
+    }
+
+    public int getNearInterval() {
+        return nearInterval;
+    }
+
+    public int getDormantInterval() {
+        return dormantInterval;
+    }
+
+    // --- STATISTIQUES ---
+
+    /** @return Le nombre d'entités dynamiques dans l'anneau donné au dernier tick. */
+    public int getPopulation(int ring) {
+        return population[ring];
+    }
+
+    /** @return Le nombre d'entités dynamiques simulées au dernier tick (tous anneaux confondus). */
+    public int getLastSimulatedCount() {
+        return lastSimulatedCount;
+    }
+}
@@ -0,0 +1,414 @@
+package com.EthanKnittel.world.systems;
+
+import com.EthanKnittel.entities.CollisionLayers;
+import com.EthanKnittel.entities.Entity;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+
+/**
+ * Grille uniforme de partitionnement spatial (Broadphase).
+ * <p>
+ * Le monde est découpé en cellules carrées de taille fixe. Chaque entité est inscrite dans toutes les cellules
+ * que sa hitbox recouvre. Pour trouver les voisins d'une entité, on ne regarde alors que les cellules proches
+ * au lieu de parcourir toute la liste des entités.
+ * </p>
+ * <p>
+ * La grille stocke des <b>index</b> dans la liste des entités de l'{@link Environment} (et non les entités
+ * elles-mêmes). Les résultats d'une requête sont triés par index croissant : le {@link PhysicSystem} visite
+ * donc les candidats dans le même ordre qu'un parcours complet de la liste, ce qui garantit des résultats
+ * identiques au mode "force brute".
+ * </p>
+ * <p>
+ * Les cellules sont rangées dans une table de hachage (Spatial Hash), la carte n'a donc pas besoin
+ * d'avoir des dimensions connues à l'avance.
+ * </p>
+ * <p>
+ * La grille retient aussi la couche de collision de chaque entité ({@link CollisionLayers}) :
+ * une requête peut recevoir un masque, et les entités des couches absentes du masque ne sont jamais renvoyées.
+ * </p>
+ * <p>
+ * Un {@link StaticTree} peut lui être associé ({@link #setStaticTree}) : les entités statiques ne sont alors plus
+ * inscrites dans les cellules (un grand mur en recouvrirait des dizaines, à chaque reconstruction).
+ * Les requêtes interrogent l'arbre pour elles, puis les cellules pour les entités dynamiques :
+ * les résultats restent triés par index croissant et ne changent pas pour l'appelant.
+ * </p>
+ * <p>
+ * <b>Utilisation multi-thread</b> (physique parallèle) : plusieurs threads peuvent interroger la grille
+ * en même temps s'ils ont chacun leur {@link QueryBuffer}, et déplacer des entités tant que chacun reste
+ * dans ses propres cellules, à condition que ces cellules aient été créées à l'avance avec {@link #reserve}.
+ * </p>
+ */
+public class SpatialGrid {
+
+    /** Taille (en unités monde) du côté d'une cellule. */
+    private final float cellSize;
+
+    /** Cellules non vides, indexées par leurs coordonnées entières compactées (voir {@link #key(int, int)}). */
+    private final IntMap<IntArray> cells = new IntMap<>();
+
+    // --- ÉTAT PAR ENTITÉ (indexé par la position dans la liste des entités) ---
+    // On mémorise la plage de cellules occupée pour pouvoir désinscrire l'entité quand elle bouge.
+    private int[] minCellX = new int[0];
+    private int[] minCellY = new int[0];
+    private int[] maxCellX = new int[0];
+    private int[] maxCellY = new int[0];
+
+    /** Couche de collision de chaque entité inscrite (filtre des requêtes avec masque). */
+    private int[] layers = new int[0];
+
+    /** Nombre d'entités inscrites lors du dernier {@link #rebuild(Array)}. */
+    private int count = 0;
+
+    /** Arbre des entités statiques ({@code null} = elles sont inscrites dans les cellules comme les autres). */
+    private StaticTree staticTree;
+
+    /** Premier index inscrit dans les cellules lors de la dernière reconstruction (les index inférieurs sont dans {@link #staticTree}). */
+    private int firstCellIndex = 0;
+
+    /** Étendue verticale (en cellules) de tout ce qui a été inscrit. Utilisée par {@link #queryColumn}. */
+    private int lowestCellY = 0;
+    private int highestCellY = -1;
+
+    // --- DÉDOUBLONNAGE DES REQUÊTES ---
+    // Une grande entité peut être présente dans plusieurs cellules : on "tamponne" chaque index vu
+    // avec le numéro de la requête en cours pour ne le renvoyer qu'une seule fois (sans allocation).
+    /** Tampons utilisés par les requêtes sans {@link QueryBuffer} explicite (thread principal). */
+    private final QueryBuffer defaultBuffer = new QueryBuffer();
+
+    /**
+     * Mémoire de travail d'une requête (tampons de dédoublonnage).
+     * <p>
+     * Un thread qui interroge la grille en parallèle des autres doit avoir son propre QueryBuffer.
+     * </p>
+     */
+    public static class QueryBuffer {
+        private int[] stamps = new int[0];
+        private int currentStamp = 0;
+    }
+
+    /**
+     * Crée une grille vide.
+     *
+     * @param cellSize Taille d'une cellule (idéalement proche de la taille des entités mobiles).
+     */
+    public SpatialGrid(float cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Reconstruit entièrement la grille à partir de la liste des entités.
+     * <p>
+     * Appelée une fois par tick par l'{@link Environment}, juste avant la résolution physique.
+     * Les tableaux internes ne sont réalloués que si le nombre d'entités augmente.
+     * </p>
+     *
+     * @param entities La liste des entités du monde.
+     */
+    public void rebuild(Array<Entity> entities) {
+        beginRebuild(entities.size);
+        for (int i = firstCellIndex; i < count; i++) {
+            Entity entity = entities.get(i);
+            Rectangle bounds = entity.getbounds();
+            layers[i] = entity.getCollisionLayer();
+            place(i, bounds.x, bounds.y, bounds.width, bounds.height);
+        }
+    }
+
+    /**
+     * Variante de {@link #rebuild(Array)} qui lit directement les tableaux du {@link TransformStore} (mode SoA) :
+     * les hitbox sont parcourues en mémoire contiguë, sans passer par les objets Entity.
+     *
+     * @param store Le store à jour (slot = index de l'entité).
+     */
+    public void rebuild(TransformStore store) {
+        beginRebuild(store.getSize());
+        for (int i = firstCellIndex; i < count; i++) {
+            layers[i] = store.layers[i];
+            place(i, store.x[i], store.y[i], store.width[i], store.height[i]);
+        }
+    }
+
+    /**
+     * Met à jour la position d'une entité dans la grille après un déplacement.
+     * <p>
+     * Si l'entité occupe toujours les mêmes cellules, rien n'est fait.
+     * Sinon, elle est retirée de ses anciennes cellules et inscrite dans les nouvelles.
+     * </p>
+     *
+     * @param index  Index de l'entité dans la liste du monde.
+     * @param bounds Sa hitbox à jour.
+     */
+    public void update(int index, Rectangle bounds) {
+        update(index, bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    /**
+     * Variante de {@link #update(int, Rectangle)} à partir des valeurs brutes de la hitbox (mode SoA).
+     */
+    public void update(int index, float x, float y, float width, float height) {
+        if (index >= count || index < firstCellIndex) {
+            return; // Entité ajoutée après la reconstruction (prise en compte au prochain tick), ou statique
+        }
+        int newMinX = toCell(x);
+        int newMinY = toCell(y);
+        int newMaxX = toCell(x + width);
+        int newMaxY = toCell(y + height);
+
+        if (newMinX == minCellX[index] && newMinY == minCellY[index]
+            && newMaxX == maxCellX[index] && newMaxY == maxCellY[index]) {
+            return; // Toujours dans les mêmes cellules
+        }
+
+        // 1. Désinscription des anciennes cellules
+        for (int cx = minCellX[index]; cx <= maxCellX[index]; cx++) {
+            for (int cy = minCellY[index]; cy <= maxCellY[index]; cy++) {
+                IntArray cell = cells.get(key(cx, cy));
+                if (cell != null) {
+                    cell.removeValue(index);
+                }
+            }
+        }
+
+        // 2. Inscription dans les nouvelles
+        minCellX[index] = newMinX;
+        minCellY[index] = newMinY;
+        maxCellX[index] = newMaxX;
+        maxCellY[index] = newMaxY;
+        insert(index);
+    }
+
+    /**
+     * Récupère les index de toutes les entités dont les cellules recouvrent la zone demandée.
+     * <p>
+     * C'est une requête "large" : le résultat peut contenir des entités qui ne touchent pas réellement la zone
+     * (elles partagent seulement une cellule). Le test précis (Narrow Phase) reste à la charge de l'appelant.
+     * </p>
+     *
+     * @param x      Coin inférieur gauche de la zone (X).
+     * @param y      Coin inférieur gauche de la zone (Y).
+     * @param width  Largeur de la zone.
+     * @param height Hauteur de la zone.
+     * @param out    Liste remplie avec les index trouvés (vidée au préalable), triés par ordre croissant.
+     */
+    public void query(float x, float y, float width, float height, IntArray out) {
+        query(x, y, width, height, out, defaultBuffer);
+    }
+
+    /** Variante de {@link #query(float, float, float, float, IntArray)} avec une mémoire de travail dédiée (multi-thread). */
+    public void query(float x, float y, float width, float height, IntArray out, QueryBuffer buffer) {
+        collect(x, y, width, height, out, buffer, CollisionLayers.All);
+    }
+
+    /** Variante filtrée par couches (voir ci-dessous), sur le thread principal. */
+    public void query(float x, float y, float width, float height, IntArray out, int mask) {
+        query(x, y, width, height, out, defaultBuffer, mask);
+    }
+
+    /**
+     * Variante de {@link #query(float, float, float, float, IntArray, QueryBuffer)} qui ne renvoie que les entités
+     * des couches présentes dans le masque (les autres sont écartées avant même d'être ajoutées au résultat).
+     *
+     * @param mask Couches acceptées (ex: {@code entity.getCollisionMask()}).
+     */
+    public void query(float x, float y, float width, float height, IntArray out, QueryBuffer buffer, int mask) {
+        collect(x, y, width, height, out, buffer, mask);
+    }
+
+    /**
+     * Variante de {@link #query} qui ne filtre que sur l'axe X : toute la hauteur occupée du monde est visitée.
+     * <p>
+     * Utile pour la séparation des ennemis, qui ne compare que les distances horizontales.
+     * </p>
+     *
+     * @param minX Bord gauche de la bande.
+     * @param maxX Bord droit de la bande.
+     * @param out  Liste remplie avec les index trouvés, triés par ordre croissant.
+     */
+    public void queryColumn(float minX, float maxX, IntArray out) {
+        queryColumn(minX, maxX, out, defaultBuffer);
+    }
+
+    /** Variante de {@link #queryColumn(float, float, IntArray)} avec une mémoire de travail dédiée (multi-thread). */
+    public void queryColumn(float minX, float maxX, IntArray out, QueryBuffer buffer) {
+        out.clear();
+        if (firstCellIndex > 0) {
+            staticTree.query(minX, -Float.MAX_VALUE / 2f, maxX - minX, Float.MAX_VALUE, out, CollisionLayers.All); // Toute la hauteur
+        }
+        collectCells(toCell(minX), lowestCellY, toCell(maxX), highestCellY, out, buffer, CollisionLayers.All);
+    }
+
+    /**
+     * Associe (ou retire) l'arbre des entités statiques. Prend effet à la prochaine reconstruction.
+     *
+     * @param staticTree L'arbre construit sur {@code [0, staticTree.getSourceCount())}, ou {@code null}
+     *                   pour inscrire de nouveau les statiques dans les cellules.
+     */
+    public void setStaticTree(StaticTree staticTree) {
+        this.staticTree = staticTree;
+    }
+
+    public StaticTree getStaticTree() {
+        return staticTree;
+    }
+
+    /**
+     * Crée à l'avance toutes les cellules (vides) d'une zone.
+     * <p>
+     * La table des cellules ne doit pas changer de structure pendant que plusieurs threads la lisent.
+     * Avant une phase parallèle, on réserve donc toutes les cellules qu'une entité pourrait rejoindre :
+     * ses déplacements ne feront ensuite qu'ajouter/retirer des index dans des cellules existantes.
+     * L'étendue verticale utilisée par {@link #queryColumn} est élargie en conséquence
+     * (les lignes ajoutées sont vides : les résultats des requêtes ne changent pas).
+     * </p>
+     *
+     * @param fromCellX Première colonne (incluse).
+     * @param fromCellY Première ligne (incluse).
+     * @param toCellX   Dernière colonne (incluse).
+     * @param toCellY   Dernière ligne (incluse).
+     */
+    public void reserve(int fromCellX, int fromCellY, int toCellX, int toCellY) {
+        for (int cx = fromCellX; cx <= toCellX; cx++) {
+            for (int cy = fromCellY; cy <= toCellY; cy++) {
+                int key = key(cx, cy);
+                if (!cells.containsKey(key)) {
+                    cells.put(key, new IntArray());
+                }
+            }
+        }
+        if (fromCellY < lowestCellY) {
+            lowestCellY = fromCellY;
+        }
+        if (toCellY > highestCellY) {
+            highestCellY = toCellY;
+        }
+    }
+
+    /**
+     * Convertit une coordonnée du monde en numéro de cellule (même calcul que pour l'inscription des entités).
+     */
+    public int getCellIndex(float coordinate) {
+        return toCell(coordinate);
+    }
+
+    // --- MÉTHODES INTERNES ---
+
+    private void beginRebuild(int entityCount) {
+        // On vide les cellules sans les détruire (elles seront réutilisées)
+        for (IntArray cell : cells.values()) {
+            cell.clear();
+        }
+
+        count = entityCount;
+        firstCellIndex = (staticTree != null) ? Math.min(staticTree.getSourceCount(), count) : 0;
+        ensureCapacity(count);
+        lowestCellY = Integer.MAX_VALUE;
+        highestCellY = Integer.MIN_VALUE;
+    }
+
+    private void place(int index, float x, float y, float width, float height) {
+        minCellX[index] = toCell(x);
+        minCellY[index] = toCell(y);
+        maxCellX[index] = toCell(x + width);
+        maxCellY[index] = toCell(y + height);
+        insert(index);
+    }
+
+    /**
+     * Requête complète : l'arbre des statiques (s'il y en a un), puis les cellules.
+     */
+    private void collect(float x, float y, float width, float height, IntArray out, QueryBuffer buffer, int mask) {
+        out.clear();
+        if (firstCellIndex > 0) {
+            staticTree.query(x, y, width, height, out, mask);
+        }
+        collectCells(toCell(x), toCell(y), toCell(x + width), toCell(y + height), out, buffer, mask);
+    }
+
+    /**
+     * Ajoute à {@code out} les entités inscrites dans les cellules de la zone, puis trie tout le résultat.
+     */
+    private void collectCells(int fromX, int fromY, int toX, int toY, IntArray out, QueryBuffer buffer, int mask) {
+        if (buffer.stamps.length < count) {
+            buffer.stamps = new int[minCellX.length];
+            buffer.currentStamp = 0;
+        }
+        int[] stamps = buffer.stamps;
+        buffer.currentStamp++;
+        if (buffer.currentStamp == 0) {
+            // Débordement du compteur (très rare) : on repart sur un tableau propre
+            java.util.Arrays.fill(stamps, 0);
+            buffer.currentStamp = 1;
+        }
+        int currentStamp = buffer.currentStamp;
+
+        for (int cx = fromX; cx <= toX; cx++) {
+            for (int cy = fromY; cy <= toY; cy++) {
+                IntArray cell = cells.get(key(cx, cy));
+                if (cell == null) {
+                    continue;
+                }
+                for (int k = 0; k < cell.size; k++) {
+                    int index = cell.get(k);
+                    if (mask != CollisionLayers.All && (layers[index] & mask) == 0) {
+                        continue; // Couche non demandée
+                    }
+                    if (stamps[index] != currentStamp) {
+                        stamps[index] = currentStamp;
+                        out.add(index);
+                    }
+                }
+            }
+        }
+        // Tri pour conserver l'ordre de parcours de la liste des entités
+        out.sort();
+    }
+
+    private void insert(int index) {
+        for (int cx = minCellX[index]; cx <= maxCellX[index]; cx++) {
+            for (int cy = minCellY[index]; cy <= maxCellY[index]; cy++) {
+                int key = key(cx, cy);
+                IntArray cell = cells.get(key);
+                if (cell == null) {
+                    cell = new IntArray();
+                    cells.put(key, cell);
+                }
+                cell.add(index);
+            }
+        }
+        // On n'écrit que si l'étendue grandit (après un reserve(), aucune écriture partagée en parallèle)
+        if (minCellY[index] < lowestCellY) {
+            lowestCellY = minCellY[index];
+        }
+        if (maxCellY[index] > highestCellY) {
+            highestCellY = maxCellY[index];
+        }
+    }
+
+    private void ensureCapacity(int size) {
+        if (minCellX.length < size) {
+            int capacity = Math.max(size, minCellX.length * 2);
+            minCellX = new int[capacity];
+            minCellY = new int[capacity];
+            maxCellX = new int[capacity];
+            maxCellY = new int[capacity];
+            layers = new int[capacity];
+        }
+    }
+
+    private int toCell(float coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    /**
+     * Compacte deux coordonnées de cellule (16 bits chacune) en une seule clé entière.
+     */
+    private static int key(int cellX, int cellY) {
+        return ((cellX & 0xFFFF) << 16) | (cellY & 0xFFFF);
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+}
@@ -0,0 +1,363 @@
+package com.EthanKnittel.world.systems;
+
+import com.EthanKnittel.entities.CollisionLayers;
+import com.EthanKnittel.entities.Entity;
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Arbre de boîtes englobantes (AABB tree / BVH) de la partie statique du monde.
+ * <p>
+ * Les murs des calques d'objets ont des tailles quelconques : un grand mur recouvre des dizaines de cellules
+ * de la {@link SpatialGrid}, et y serait réinscrit à chaque tick. Ici, ils sont rangés une seule fois
+ * (au chargement, ou quand la partie statique change) dans un arbre binaire :
+ * <ul>
+ * <li>Chaque nœud porte la boîte qui englobe tous les murs de son sous-arbre, et l'union de leurs couches.</li>
+ * <li>Une feuille contient au plus {@link #LeafSize} murs.</li>
+ * <li>La construction coupe chaque groupe en deux moitiés égales selon son axe le plus long
+ * (position du centre des murs) : l'arbre est équilibré, sa profondeur est logarithmique.</li>
+ * </ul>
+ * Une requête descend seulement dans les nœuds dont la boîte touche la zone (ou le segment) demandée :
+ * le coût dépend du nombre de murs trouvés, plus du nombre total de murs ni de leur taille.
+ * </p>
+ * <p>
+ * L'arbre stocke des <b>index</b> dans la liste des entités (comme la {@link SpatialGrid}), dans {@code [0, staticCount)}.
+ * Il est construit sur le thread principal, puis seulement lu : plusieurs threads peuvent l'interroger en même temps.
+ * </p>
+ */
+public class StaticTree {
+
+    /** Nombre maximum de murs par feuille (en dessous, un test direct coûte moins qu'une descente de plus). */
+    public static final int LeafSize = 4;
+
+    // --- NŒUDS (tableaux parallèles, le nœud 0 est la racine) ---
+    private float[] nodeMinX = new float[0];
+    private float[] nodeMinY = new float[0];
+    private float[] nodeMaxX = new float[0];
+    private float[] nodeMaxY = new float[0];
+    /** Union des couches de collision du sous-arbre (un nœud sans couche demandée est sauté). */
+    private int[] nodeLayers = new int[0];
+    /** Enfant gauche (l'enfant droit le suit dans {@link #nodeRight}), ou -1 pour une feuille. */
+    private int[] nodeLeft = new int[0];
+    private int[] nodeRight = new int[0];
+    /** Feuille : début et nombre de ses murs dans {@link #items}. */
+    private int[] nodeStart = new int[0];
+    private int[] nodeCount = new int[0];
+    private int nodeTotal = 0;
+
+    // --- MURS (rangés feuille par feuille) ---
+    /** Index des murs dans la liste des entités. */
+    private int[] items = new int[0];
+    /** Hitbox des murs (un mur ne bouge jamais : on garde directement son rectangle). */
+    private Rectangle[] itemBounds = new Rectangle[0];
+    private int[] itemLayers = new int[0];
+    /** Centre des murs sur l'axe de coupe (mémoire de travail de la construction). */
+    private float[] itemCenters = new float[0];
+    private int itemCount = 0;
+
+    /** Nombre d'entités statiques couvertes par l'arbre (index {@code [0, sourceCount)}). */
+    private int sourceCount = 0;
+
+    /** Profondeur de l'arbre construit (1 = une seule feuille). */
+    private int depth = 0;
+
+    /**
+     * Reconstruit l'arbre à partir de la partie statique du monde.
+     *
+     * @param entities    La liste des entités du monde.
+     * @param staticCount Nombre d'entités statiques (au début de la liste).
+     */
+    public void build(Array<Entity> entities, int staticCount) {
+        sourceCount = staticCount;
+        ensureCapacity(staticCount);
+
+        // 1. Toutes les entités statiques (la grille ne les contient plus quand l'arbre est utilisé)
+        itemCount = 0;
+        for (int i = 0; i < staticCount; i++) {
+            Entity entity = entities.get(i);
+            items[itemCount] = i;
+            itemBounds[itemCount] = entity.getbounds();
+            itemLayers[itemCount] = entity.getCollisionLayer();
+            itemCount++;
+        }
+
+        // 2. Construction récursive des nœuds (racine = tous les murs)
+        nodeTotal = 0;
+        depth = 0;
+        if (itemCount > 0) {
+            buildNode(0, itemCount, 1);
+        }
+    }
+
+    /**
+     * Ajoute à {@code out} les index des murs dont la hitbox touche la zone demandée (bords compris, comme la grille).
+     * <p>
+     * Les index sont ajoutés sans vider la liste, dans l'ordre de l'arbre : à trier par l'appelant si l'ordre compte.
+     * </p>
+     *
+     * @param mask Couches acceptées ({@link CollisionLayers#All} pour toutes).
+     */
+    public void query(float x, float y, float width, float height, IntArray out, int mask) {
+        if (nodeTotal > 0) {
+            queryNode(0, x, y, x + width, y + height, out, mask);
+        }
+    }
+
+    /**
+     * Vérifie si un mur d'une des couches demandées coupe le segment (premier trouvé : arrêt immédiat).
+     *
+     * @param mask Couches qui bloquent le segment (ex: {@link CollisionLayers#Wall}).
+     * @return {@code true} si le segment est coupé.
+     */
+    public boolean segmentHits(float startX, float startY, float endX, float endY, int mask) {
+        return nodeTotal > 0 && segmentNode(0, startX, startY, endX, endY, mask);
+    }
+
+    // --- CONSTRUCTION ---
+
+    /**
+     * Crée le nœud qui regroupe les murs {@code [from, to)} et, si nécessaire, ses deux enfants.
+     *
+     * @return Le numéro du nœud créé.
+     */
+    private int buildNode(int from, int to, int level) {
+        int node = nodeTotal++;
+        depth = Math.max(depth, level);
+
+        // 1. Boîte englobante et couches du groupe, étendue des centres (pour choisir l'axe de coupe)
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        float minCenterX = Float.MAX_VALUE, minCenterY = Float.MAX_VALUE;
+        float maxCenterX = -Float.MAX_VALUE, maxCenterY = -Float.MAX_VALUE;
+        int layers = 0;
+        for (int k = from; k < to; k++) {
+            Rectangle bounds = itemBounds[k];
+            minX = Math.min(minX, bounds.x);
+            minY = Math.min(minY, bounds.y);
+            maxX = Math.max(maxX, bounds.x + bounds.width);
+            maxY = Math.max(maxY, bounds.y + bounds.height);
+            float centerX = bounds.x + bounds.width / 2f;
+            float centerY = bounds.y + bounds.height / 2f;
+            minCenterX = Math.min(minCenterX, centerX);
+            minCenterY = Math.min(minCenterY, centerY);
+            maxCenterX = Math.max(maxCenterX, centerX);
+            maxCenterY = Math.max(maxCenterY, centerY);
+            layers |= itemLayers[k];
+        }
+        nodeMinX[node] = minX;
+        nodeMinY[node] = minY;
+        nodeMaxX[node] = maxX;
+        nodeMaxY[node] = maxY;
+        nodeLayers[node] = layers;
+
+        // 2. Petit groupe -> Feuille
+        if (to - from <= LeafSize) {
+            nodeLeft[node] = -1;
+            nodeRight[node] = -1;
+            nodeStart[node] = from;
+            nodeCount[node] = to - from;
+            return node;
+        }
+
+        // 3. Coupe en deux moitiés égales selon l'axe où les centres sont le plus étalés
+        boolean splitOnX = (maxCenterX - minCenterX) >= (maxCenterY - minCenterY);
+        for (int k = from; k < to; k++) {
+            Rectangle bounds = itemBounds[k];
+            itemCenters[k] = splitOnX ? bounds.x + bounds.width / 2f : bounds.y + bounds.height / 2f;
+        }
+        int middle = (from + to) >>> 1;
+        select(from, to - 1, middle);
+
+        nodeStart[node] = from;
+        nodeCount[node] = 0;
+        nodeLeft[node] = buildNode(from, middle, level + 1);
+        nodeRight[node] = buildNode(middle, to, level + 1);
+        return node;
+    }
+
+    /**
+     * Range partiellement les murs {@code [left, right]} (Quickselect) : le mur de rang {@code rank} est à sa place,
+     * les centres plus petits avant lui, les plus grands après.
+     */
+    private void select(int left, int right, int rank) {
+        while (left < right) {
+            float pivot = itemCenters[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (itemCenters[i] < pivot) {
+                    i++;
+                }
+                while (itemCenters[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i, j);
+                    i++;
+                    j--;
+                }
+            }
+            // On ne continue que dans la partie qui contient le rang cherché
+            if (rank <= j) {
+                right = j;
+            } else if (rank >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int a, int b) {
+        int item = items[a];
+        items[a] = items[b];
+        items[b] = item;
+        Rectangle bounds = itemBounds[a];
+        itemBounds[a] = itemBounds[b];
+        itemBounds[b] = bounds;
+        int layer = itemLayers[a];
+        itemLayers[a] = itemLayers[b];
+        itemLayers[b] = layer;
+        float center = itemCenters[a];
+        itemCenters[a] = itemCenters[b];
+        itemCenters[b] = center;
+    }
+
+    // --- REQUÊTES ---
+
+    private void queryNode(int node, float minX, float minY, float maxX, float maxY, IntArray out, int mask) {
+        if ((mask != CollisionLayers.All && (nodeLayers[node] & mask) == 0)
+            || nodeMinX[node] > maxX || nodeMaxX[node] < minX
+            || nodeMinY[node] > maxY || nodeMaxY[node] < minY) {
+            return; // Aucun mur utile dans ce sous-arbre
+        }
+        if (nodeLeft[node] >= 0) {
+            queryNode(nodeLeft[node], minX, minY, maxX, maxY, out, mask);
+            queryNode(nodeRight[node], minX, minY, maxX, maxY, out, mask);
+            return;
+        }
+        for (int k = nodeStart[node], end = k + nodeCount[node]; k < end; k++) {
+            Rectangle bounds = itemBounds[k];
+            if ((mask == CollisionLayers.All || (itemLayers[k] & mask) != 0)
+                && bounds.x <= maxX && bounds.x + bounds.width >= minX
+                && bounds.y <= maxY && bounds.y + bounds.height >= minY) {
+                out.add(items[k]);
+            }
+        }
+    }
+
+    private boolean segmentNode(int node, float startX, float startY, float endX, float endY, int mask) {
+        if ((nodeLayers[node] & mask) == 0
+            || !segmentTouchesBox(startX, startY, endX, endY, nodeMinX[node], nodeMinY[node], nodeMaxX[node], nodeMaxY[node])) {
+            return false;
+        }
+        if (nodeLeft[node] >= 0) {
+            return segmentNode(nodeLeft[node], startX, startY, endX, endY, mask)
+                || segmentNode(nodeRight[node], startX, startY, endX, endY, mask);
+        }
+        for (int k = nodeStart[node], end = k + nodeCount[node]; k < end; k++) {
+            // Test exact identique à l'ancien parcours des murs (bords compris)
+            if ((itemLayers[k] & mask) != 0
+                && Intersector.intersectSegmentRectangle(startX, startY, endX, endY, itemBounds[k])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Test rapide segment / boîte d'un nœud (méthode des dalles, bords compris).
+     * Il peut répondre "oui" par excès d'arrondi, jamais "non" à tort : le test exact est fait dans les feuilles.
+     */
+    private static boolean segmentTouchesBox(float startX, float startY, float endX, float endY,
+                                             float minX, float minY, float maxX, float maxY) {
+        float enter = 0f;
+        float exit = 1f;
+        float moveX = endX - startX;
+        float moveY = endY - startY;
+
+        // Axe X
+        if (moveX == 0) {
+            if (startX < minX || startX > maxX) {
+                return false;
+            }
+        } else {
+            float t1 = (minX - startX) / moveX;
+            float t2 = (maxX - startX) / moveX;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+
+        // Axe Y
+        if (moveY == 0) {
+            if (startY < minY || startY > maxY) {
+                return false;
+            }
+        } else {
+            float t1 = (minY - startY) / moveY;
+            float t2 = (maxY - startY) / moveY;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+
+        // Petite marge : un segment qui frôle le bord ne doit pas être écarté à cause d'un arrondi
+        return enter <= exit + 1e-4f;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (items.length < capacity) {
+            items = new int[capacity];
+            itemBounds = new Rectangle[capacity];
+            itemLayers = new int[capacity];
+            itemCenters = new float[capacity];
+        } else {
+            java.util.Arrays.fill(itemBounds, null); // On ne retient pas les murs de l'ancien niveau
+        }
+        // Un arbre binaire avec des feuilles non vides a moins de 2 * n nœuds
+        int nodeCapacity = Math.max(1, capacity * 2);
+        if (nodeMinX.length < nodeCapacity) {
+            nodeMinX = new float[nodeCapacity];
+            nodeMinY = new float[nodeCapacity];
+            nodeMaxX = new float[nodeCapacity];
+            nodeMaxY = new float[nodeCapacity];
+            nodeLayers = new int[nodeCapacity];
+            nodeLeft = new int[nodeCapacity];
+            nodeRight = new int[nodeCapacity];
+            nodeStart = new int[nodeCapacity];
+            nodeCount = new int[nodeCapacity];
+        }
+    }
+
+    // --- STATISTIQUES ---
+
+    /** @return Le nombre d'entités statiques couvertes (les index inférieurs sont gérés par l'arbre). */
+    public int getSourceCount() {
+        return sourceCount;
+    }
+
+    /** @return Le nombre de murs rangés dans l'arbre. */
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    /** @return Le nombre de murs rangés appartenant à l'une des couches demandées. */
+    public int countItems(int mask) {
+        int total = 0;
+        for (int k = 0; k < itemCount; k++) {
+            if ((itemLayers[k] & mask) != 0) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    public int getNodeCount() {
+        return nodeTotal;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+}
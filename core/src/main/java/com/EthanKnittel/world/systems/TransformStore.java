@@ -0,0 +1,167 @@
+package com.EthanKnittel.world.systems;
+
+import com.EthanKnittel.entities.Entity;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Stockage "Structure of Arrays" (SoA) des données physiques chaudes des entités.
+ * <p>
+ * Normalement, chaque {@link Entity} garde sa position, sa vitesse et sa hitbox dans trois objets séparés
+ * ({@code Vector2}, {@code Vector2}, {@code Rectangle}) éparpillés dans la mémoire.
+ * Ici, ces valeurs sont rangées dans des tableaux parallèles de {@code float} : la case {@code slot}
+ * de chaque tableau décrit la même entité. Les boucles de la physique (gravité, intégration, Broadphase)
+ * parcourent alors de la mémoire contiguë.
+ * </p>
+ * <p>
+ * Le slot d'une entité est son index dans la liste de l'{@link Environment}. Une entité rattachée au store
+ * lit et écrit ses valeurs ici : ses getters ({@code getX()}, {@code getVelocity()}, {@code getbounds()}...)
+ * deviennent de simples vues, le code de gameplay ne voit aucune différence.
+ * </p>
+ * <p>
+ * Ce stockage est optionnel (voir {@link Environment#setUseTransformStore(boolean)}).
+ * </p>
+ */
+public class TransformStore {
+
+    // --- DRAPEAUX (un entier de bits par entité) ---
+    public static final int FlagGravity = 1;
+    public static final int FlagStatic = 1 << 1;
+    public static final int FlagSleeping = 1 << 2;
+    public static final int FlagAgent = 1 << 3;
+
+    // --- TABLEAUX PARALLÈLES (indexés par slot) ---
+    // Accès direct réservé aux systèmes du package (PhysicSystem, SpatialGrid) pour les boucles chaudes.
+    float[] x = new float[0];
+    float[] y = new float[0];
+    float[] velocityX = new float[0];
+    float[] velocityY = new float[0];
+    float[] width = new float[0];
+    float[] height = new float[0];
+    int[] flags = new int[0];
+    /** Couche de collision de chaque entité (voir {@link com.EthanKnittel.entities.CollisionLayers}). */
+    int[] layers = new int[0];
+
+    /** Nombre de slots utilisés (= nombre d'entités rattachées lors du dernier {@link #bind(Array)}). */
+    private int size = 0;
+
+    /**
+     * Aligne le store sur la liste des entités : l'entité d'index {@code i} occupe le slot {@code i}.
+     * <p>
+     * Appelé une fois par tick par l'{@link Environment}, après le nettoyage et les ajouts.
+     * <ol>
+     * <li>Les entités dont l'index a changé (suppression, insertion d'un mur) sont d'abord détachées :
+     * leurs valeurs sont recopiées dans leurs objets.</li>
+     * <li>Elles sont ensuite rattachées à leur nouveau slot (avec les nouvelles entités).</li>
+     * </ol>
+     * Les deux passes sont séparées pour qu'aucun slot ne soit écrasé avant d'avoir été relu.
+     * Les drapeaux et les couches de collision sont rafraîchis pour toutes les entités.
+     * </p>
+     *
+     * @param entities La liste des entités du monde.
+     */
+    public void bind(Array<Entity> entities) {
+        ensureCapacity(entities.size);
+        size = entities.size;
+
+        // 1. Détachement des entités qui ont changé de place
+        for (int i = 0; i < size; i++) {
+            Entity entity = entities.get(i);
+            if (entity.getTransformStore() == this && entity.getTransformSlot() != i) {
+                entity.detachTransform();
+            }
+        }
+
+        // 2. Rattachement + drapeaux
+        for (int i = 0; i < size; i++) {
+            Entity entity = entities.get(i);
+            if (entity.getTransformStore() != this) {
+                entity.attachTransform(this, i);
+            }
+            flags[i] = computeFlags(entity);
+            layers[i] = entity.getCollisionLayer();
+        }
+    }
+
+    /**
+     * Détache toutes les entités de la liste (elles reprennent leurs propres objets).
+     * À appeler avant de vider la liste ou de désactiver le store.
+     */
+    public void detachAll(Array<Entity> entities) {
+        for (int i = 0; i < entities.size; i++) {
+            Entity entity = entities.get(i);
+            if (entity != null && entity.getTransformStore() == this) {
+                entity.detachTransform();
+            }
+        }
+        size = 0;
+    }
+
+    private static int computeFlags(Entity entity) {
+        int result = 0;
+        if (entity.getAffectedByGravity()) result |= FlagGravity;
+        if (entity.getIsStatic()) result |= FlagStatic;
+        if (entity.getIsSleeping()) result |= FlagSleeping;
+        if (entity.getIsAgent()) result |= FlagAgent;
+        return result;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (x.length >= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, x.length * 2);
+        x = java.util.Arrays.copyOf(x, newCapacity);
+        y = java.util.Arrays.copyOf(y, newCapacity);
+        velocityX = java.util.Arrays.copyOf(velocityX, newCapacity);
+        velocityY = java.util.Arrays.copyOf(velocityY, newCapacity);
+        width = java.util.Arrays.copyOf(width, newCapacity);
+        height = java.util.Arrays.copyOf(height, newCapacity);
+        flags = java.util.Arrays.copyOf(flags, newCapacity);
+        layers = java.util.Arrays.copyOf(layers, newCapacity);
+    }
+
+    // --- ACCÈS PAR SLOT (utilisés par les vues de l'Entity) ---
+
+    public int getSize() {
+        return size;
+    }
+
+    public float getX(int slot) {
+        return x[slot];
+    }
+    public float getY(int slot) {
+        return y[slot];
+    }
+    public void setPosition(int slot, float newX, float newY) {
+        x[slot] = newX;
+        y[slot] = newY;
+    }
+
+    public float getVelocityX(int slot) {
+        return velocityX[slot];
+    }
+    public float getVelocityY(int slot) {
+        return velocityY[slot];
+    }
+    public void setVelocityX(int slot, float value) {
+        velocityX[slot] = value;
+    }
+    public void setVelocityY(int slot, float value) {
+        velocityY[slot] = value;
+    }
+
+    public float getWidth(int slot) {
+        return width[slot];
+    }
+    public float getHeight(int slot) {
+        return height[slot];
+    }
+    public void setSize(int slot, float newWidth, float newHeight) {
+        width[slot] = newWidth;
+        height[slot] = newHeight;
+    }
+
+    public int getFlags(int slot) {
+        return flags[slot];
+    }
+}
@@ -0,0 +1,68 @@
+package com.EthanKnittel.world.systems;
+
+import com.EthanKnittel.entities.CollisionLayers;
+import com.EthanKnittel.world.TileCollisionMap;
+
+/**
+ * Service de lancer de rayons du monde (ligne de vue des ennemis).
+ * <p>
+ * Un segment est bloqué par :
+ * <ol>
+ * <li>les tuiles solides : la {@link TileCollisionMap} est parcourue case par case le long du segment (DDA) ;</li>
+ * <li>les murs des calques d'objets : ils sont lus dans le {@link StaticTree} du monde, qui ne descend
+ * que dans les branches dont la boîte touche le segment. Seuls les murs de ces branches sont testés.</li>
+ * </ol>
+ * Dans les deux cas, on s'arrête au premier obstacle : le coût dépend de la longueur du segment,
+ * plus du nombre de murs du niveau.
+ * </p>
+ * <p>
+ * Les murs ne bougent jamais : l'arbre n'est reconstruit que lorsque la partie statique du monde change
+ * (voir {@link Environment#getRaycast()}).
+ * </p>
+ */
+public class WorldRaycast {
+
+    /** Grille de tuiles du niveau ({@code null} = pas de tuiles). */
+    private TileCollisionMap tiles;
+
+    /** Arbre de la partie statique du monde ({@code null} = pas de murs). */
+    private StaticTree walls;
+
+    /** Nombre de murs (couche {@link CollisionLayers#Wall}) de l'arbre. */
+    private int wallCount = 0;
+
+    /**
+     * Branche le service sur la géométrie statique à jour.
+     *
+     * @param walls L'arbre construit sur la partie statique du monde.
+     * @param tiles La grille de tuiles du niveau, ou {@code null}.
+     */
+    public void rebuild(StaticTree walls, TileCollisionMap tiles) {
+        this.tiles = tiles;
+        this.walls = walls;
+        this.wallCount = (walls != null) ? walls.countItems(CollisionLayers.Wall) : 0;
+    }
+
+    /**
+     * Vérifie qu'aucun obstacle (tuile ou mur) ne coupe le segment.
+     *
+     * @return {@code true} si la vue est dégagée.
+     */
+    public boolean isSegmentClear(float startX, float startY, float endX, float endY) {
+        // 1. Tuiles (les plus nombreuses, testées en premier)
+        if (tiles != null && tiles.segmentHitsSolid(startX, startY, endX, endY)) {
+            return false;
+        }
+        if (wallCount == 0) {
+            return true;
+        }
+
+        // 2. Murs dont la branche de l'arbre touche le segment
+        return !walls.segmentHits(startX, startY, endX, endY, CollisionLayers.Wall);
+    }
+
+    /** @return Le nombre de murs indexés. */
+    public int getWallCount() {
+        return wallCount;
+    }
+}